@@ -1,14 +1,23 @@
 package net.IneiTsuki.regen.client;
 
+import net.IneiTsuki.regen.client.entity.SpellProjectileRenderer;
+import net.IneiTsuki.regen.client.model.ScrollModelLoadingPlugin;
 import net.IneiTsuki.regen.client.screen.handlers.ModScreenHandlers;
 import net.IneiTsuki.regen.client.screen.SpellInscriberScreen;
+import net.IneiTsuki.regen.client.spell.CastProgressHud;
+import net.IneiTsuki.regen.client.spell.SpellCastEventClient;
+import net.IneiTsuki.regen.client.spell.SpellFieldClient;
+import net.IneiTsuki.regen.client.spell.emitter.SpellEmitterSystem;
+import net.IneiTsuki.regen.entity.ModEntities;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.model.loading.v1.ModelLoadingPlugin;
+import net.fabricmc.fabric.api.client.rendering.v1.EntityRendererRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
 import net.minecraft.client.gui.screen.ingame.HandledScreens;
 
 /**
  * Client-side initializer for the Regen mod.
- * Responsible for registering client-only components such as screen GUIs.
+ * Responsible for registering client-only components such as screen GUIs and model loading.
  */
 public class RegenClient implements ClientModInitializer {
 
@@ -19,9 +28,18 @@ public class RegenClient implements ClientModInitializer {
     @Override
     public void onInitializeClient() {
         ManaSyncClient.registerClientReceiver();
+        ScrollTooltipClient.register();
+        SpellCastEventClient.registerClientReceiver();
+        SpellEmitterSystem.register();
+        CastProgressHud.register();
+        SpellFieldClient.register();
 
         HudRenderCallback.EVENT.register(new ManaHudRenderer());
 
+        EntityRendererRegistry.register(ModEntities.SPELL_PROJECTILE, SpellProjectileRenderer::new);
+
         HandledScreens.register(ModScreenHandlers.SPELL_INSCRIBER, SpellInscriberScreen::new);
+
+        ModelLoadingPlugin.register(new ScrollModelLoadingPlugin());
     }
 }
@@ -0,0 +1,47 @@
+package net.IneiTsuki.regen.client;
+
+import net.IneiTsuki.regen.magic.components.ManaComponent;
+import net.IneiTsuki.regen.magic.components.ModComponents;
+import net.IneiTsuki.regen.magic.item.MagicScrollItem;
+import net.fabricmc.fabric.api.client.item.v1.ItemTooltipCallback;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.text.Text;
+
+import java.util.List;
+
+/**
+ * Client-side hooks for magic scroll tooltips.
+ *
+ * <p>The static part of a scroll tooltip is cached on the item itself, ending
+ * with the mana cost line. This class swaps that line in place for the variant
+ * colored by whether the local player can currently afford the spell, so it
+ * stays above the advanced tooltip lines.
+ */
+public class ScrollTooltipClient {
+
+    public static void register() {
+        ItemTooltipCallback.EVENT.register((stack, tooltipContext, tooltipType, lines) -> {
+            if (!(stack.getItem() instanceof MagicScrollItem scroll)) return;
+
+            MinecraftClient client = MinecraftClient.getInstance();
+            if (client.player == null) return;
+
+            ManaComponent mana = ModComponents.MANA.get(client.player);
+            if (!mana.hasEnoughMana(scroll.getTooltipManaCost())) {
+                replace(lines, scroll.getManaCostTooltip(true), scroll.getManaCostTooltip(false));
+            }
+        });
+    }
+
+    /**
+     * Replaces the given line instance, searching from the end where it usually is.
+     */
+    private static void replace(List<Text> lines, Text line, Text replacement) {
+        for (int i = lines.size() - 1; i >= 0; i--) {
+            if (lines.get(i) == line) {
+                lines.set(i, replacement);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package net.IneiTsuki.regen.client.entity;
+
+import net.IneiTsuki.regen.client.spell.emitter.SpellEmitterSystem;
+import net.IneiTsuki.regen.entity.custom.SpellProjectileEntity;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.entity.EntityRenderer;
+import net.minecraft.client.render.entity.EntityRendererFactory;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.screen.PlayerScreenHandler;
+import net.minecraft.util.Identifier;
+
+/**
+ * Draws spell projectiles as a particle trail through {@link SpellEmitterSystem}.
+ * The entity itself has no model; the trail is emitted at most once per game tick.
+ */
+public class SpellProjectileRenderer extends EntityRenderer<SpellProjectileEntity> {
+
+    private static final int TRAIL_PARTICLES = 3;
+    private static final float TRAIL_SPREAD = 0.08F;
+    private static final float TRAIL_SPEED = 0.01F;
+    private static final float TRAIL_SIZE = 0.08F;
+    private static final int TRAIL_LIFETIME = 10;
+
+    public SpellProjectileRenderer(EntityRendererFactory.Context context) {
+        super(context);
+    }
+
+    @Override
+    public void render(SpellProjectileEntity entity, float yaw, float tickDelta, MatrixStack matrices,
+                       VertexConsumerProvider vertexConsumers, int light) {
+        long time = entity.getWorld().getTime();
+        if (entity.getLastTrailTime() != time) {
+            entity.setLastTrailTime(time);
+            SpellEmitterSystem.burst(entity.getX(), entity.getY(), entity.getZ(), entity.getColor(),
+                    TRAIL_PARTICLES, TRAIL_SPREAD, TRAIL_SPEED, TRAIL_SIZE, TRAIL_LIFETIME);
+        }
+    }
+
+    @Override
+    public Identifier getTexture(SpellProjectileEntity entity) {
+        return PlayerScreenHandler.BLOCK_ATLAS_TEXTURE;
+    }
+}
@@ -0,0 +1,67 @@
+package net.IneiTsuki.regen.client.model;
+
+import net.IneiTsuki.regen.Regen;
+import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
+import net.IneiTsuki.regen.magic.item.MagicScrollItem;
+import net.fabricmc.fabric.api.client.model.loading.v1.ModelLoadingPlugin;
+import net.minecraft.item.Item;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Model loading plugin that composes magic scroll item models at load time.
+ *
+ * <p>Instead of shipping one generated JSON model per scroll, every scroll item model
+ * is resolved to a {@link ScrollUnbakedModel} built from the base scroll texture plus
+ * one overlay per magic type. Scrolls with the same set of types share one unbaked
+ * model, and therefore one baked model and one set of quads, so the number of models
+ * baked on reload is bounded by the number of distinct type masks rather than by
+ * the number of registered scrolls.
+ */
+public class ScrollModelLoadingPlugin implements ModelLoadingPlugin {
+
+    private static final String ITEM_MODEL_PREFIX = "item/";
+
+    /**
+     * Called on every resource reload.
+     * A fresh cache is created each time so models baked against a previous
+     * sprite atlas are never handed out again.
+     *
+     * @param pluginContext the model loading context
+     */
+    @Override
+    public void initialize(Context pluginContext) {
+        Map<Integer, ScrollUnbakedModel> modelsByMask = new HashMap<>();
+
+        pluginContext.resolveModel().register(context -> {
+            MagicScrollItem scroll = getScrollForModel(context.id());
+            if (scroll == null) {
+                return null;
+            }
+            return modelsByMask.computeIfAbsent(scroll.getTypeMask(), ScrollUnbakedModel::new);
+        });
+    }
+
+    /**
+     * Maps an item model id such as {@code regen:item/scroll_control_fire} back to its scroll item.
+     *
+     * @param modelId the model resource id
+     * @return the matching scroll, or null if the id does not belong to a scroll
+     */
+    private static MagicScrollItem getScrollForModel(Identifier modelId) {
+        if (!Regen.MOD_ID.equals(modelId.getNamespace())) {
+            return null;
+        }
+
+        String path = modelId.getPath();
+        if (!path.startsWith(ITEM_MODEL_PREFIX + MagicConstants.SCROLL_NAME_PREFIX)) {
+            return null;
+        }
+
+        Item item = Registries.ITEM.get(Regen.id(path.substring(ITEM_MODEL_PREFIX.length())));
+        return item instanceof MagicScrollItem scroll ? scroll : null;
+    }
+}
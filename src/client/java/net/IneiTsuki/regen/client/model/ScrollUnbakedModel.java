@@ -0,0 +1,105 @@
+package net.IneiTsuki.regen.client.model;
+
+import com.google.gson.JsonObject;
+import net.IneiTsuki.regen.Regen;
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.core.utils.MagicUtils;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.render.model.Baker;
+import net.minecraft.client.render.model.ModelBakeSettings;
+import net.minecraft.client.render.model.UnbakedModel;
+import net.minecraft.client.render.model.json.ItemModelGenerator;
+import net.minecraft.client.render.model.json.JsonUnbakedModel;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.client.util.SpriteIdentifier;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Unbaked item model for every magic scroll sharing one set of magic types.
+ *
+ * <p>The model is the base scroll texture on layer 0 followed by one overlay per
+ * magic type, in enum order, on top of {@code minecraft:item/generated}. The baked
+ * result is kept after the first bake so every scroll using this instance shares
+ * the same quads.
+ */
+public class ScrollUnbakedModel implements UnbakedModel {
+
+    private static final Identifier BASE_TEXTURE = Regen.id("item/scroll_base");
+    private static final String OVERLAY_TEXTURE_PREFIX = "item/type_overlay_";
+
+    /** item/generated supports layer0 to layer4, leaving four layers for overlays. */
+    private static final int MAX_OVERLAY_LAYERS = 4;
+
+    private static final ItemModelGenerator ITEM_MODEL_GENERATOR = new ItemModelGenerator();
+
+    private final int typeMask;
+    private final JsonUnbakedModel layeredModel;
+
+    @Nullable
+    private BakedModel bakedModel;
+
+    /**
+     * Creates the model for the given type mask.
+     *
+     * @param typeMask the magic types of the scroll, see {@link MagicUtils#toTypeMask}
+     */
+    public ScrollUnbakedModel(int typeMask) {
+        this.typeMask = typeMask;
+        this.layeredModel = JsonUnbakedModel.deserialize(createModelJson(typeMask).toString());
+    }
+
+    @Override
+    public Collection<Identifier> getModelDependencies() {
+        return layeredModel.getModelDependencies();
+    }
+
+    @Override
+    public void setParents(Function<Identifier, UnbakedModel> modelLoader) {
+        layeredModel.setParents(modelLoader);
+    }
+
+    /**
+     * Bakes the layered model once and reuses it for every later request.
+     * Scroll item models always use the identity rotation, so the bake settings
+     * do not need to be part of the cache key.
+     */
+    @Override
+    public BakedModel bake(Baker baker, Function<SpriteIdentifier, Sprite> textureGetter, ModelBakeSettings rotationContainer) {
+        if (bakedModel == null) {
+            // Same path vanilla takes for models whose root parent is item/generated
+            bakedModel = ITEM_MODEL_GENERATOR.create(textureGetter, layeredModel)
+                    .bake(baker, layeredModel, textureGetter, rotationContainer, false);
+        }
+        return bakedModel;
+    }
+
+    public int getTypeMask() {
+        return typeMask;
+    }
+
+    /**
+     * Builds the same JSON the data generator used to write for each scroll.
+     */
+    private static JsonObject createModelJson(int typeMask) {
+        JsonObject textures = new JsonObject();
+        textures.addProperty("layer0", BASE_TEXTURE.toString());
+
+        int layer = 1;
+        for (MagicEnums.MagicType type : MagicEnums.MagicType.values()) {
+            if (layer > MAX_OVERLAY_LAYERS) break;
+
+            if (MagicUtils.hasType(typeMask, type)) {
+                textures.addProperty("layer" + layer++, Regen.id(OVERLAY_TEXTURE_PREFIX + type.getName()).toString());
+            }
+        }
+
+        JsonObject json = new JsonObject();
+        json.addProperty("parent", "minecraft:item/generated");
+        json.add("textures", textures);
+        return json;
+    }
+}
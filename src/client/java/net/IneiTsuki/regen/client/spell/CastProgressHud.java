@@ -0,0 +1,65 @@
+package net.IneiTsuki.regen.client.spell;
+
+import net.IneiTsuki.regen.magic.network.CastProgressPayload;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.DrawContext;
+import net.minecraft.client.render.RenderTickCounter;
+import net.minecraft.client.world.ClientWorld;
+
+/**
+ * Draws the cast progress bar above the hotbar.
+ *
+ * <p>The server only says when a cast starts and, if it is interrupted, when it
+ * stops. Progress in between is computed from the client's own world time, so
+ * the bar costs no packets while it fills.
+ */
+public class CastProgressHud implements HudRenderCallback {
+
+    private static final int BAR_WIDTH = 80;
+    private static final int BAR_HEIGHT = 3;
+    private static final int HOTBAR_OFFSET = 48;
+    private static final int BACKGROUND_COLOR = 0xA0000000;
+    private static final int FILL_COLOR = 0xFF7A5CFF;
+
+    private static long startTime;
+    private static int castTicks;
+
+    public static void register() {
+        ClientPlayNetworking.registerGlobalReceiver(CastProgressPayload.ID, (payload, context) -> context.client().execute(() -> {
+            ClientWorld world = context.client().world;
+            castTicks = world != null ? Math.max(0, payload.castTicks()) : 0;
+            startTime = world != null ? world.getTime() : 0;
+        }));
+
+        HudRenderCallback.EVENT.register(new CastProgressHud());
+    }
+
+    @Override
+    public void onHudRender(DrawContext drawContext, RenderTickCounter tickCounter) {
+        if (castTicks <= 0) return;
+
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.world == null) {
+            castTicks = 0;
+            return;
+        }
+        if (client.options.hudHidden) {
+            return; // Keep the cast, so the bar comes back with the HUD
+        }
+
+        float elapsed = client.world.getTime() - startTime + tickCounter.getTickDelta(false);
+        if (elapsed >= castTicks) {
+            castTicks = 0;
+            return;
+        }
+
+        int x = (drawContext.getScaledWindowWidth() - BAR_WIDTH) / 2;
+        int y = drawContext.getScaledWindowHeight() - HOTBAR_OFFSET;
+        int filled = (int) (BAR_WIDTH * Math.max(0.0F, elapsed) / castTicks);
+
+        drawContext.fill(x - 1, y - 1, x + BAR_WIDTH + 1, y + BAR_HEIGHT + 1, BACKGROUND_COLOR);
+        drawContext.fill(x, y, x + filled, y + BAR_HEIGHT, FILL_COLOR);
+    }
+}
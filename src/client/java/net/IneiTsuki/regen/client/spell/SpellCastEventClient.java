@@ -0,0 +1,75 @@
+package net.IneiTsuki.regen.client.spell;
+
+import net.IneiTsuki.regen.client.spell.emitter.SpellEmitterSystem;
+import net.IneiTsuki.regen.magic.network.SpellCastEventPayload;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvent;
+import net.minecraft.sound.SoundEvents;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Plays the sounds and particles of spell cast events received from the server.
+ * Particles go through {@link SpellEmitterSystem} rather than the vanilla particle manager.
+ */
+public class SpellCastEventClient {
+
+    private static final float SOUND_VOLUME = 1.0F;
+    private static final float SOUND_PITCH = 1.0F;
+    private static final float RESOLVE_PITCH = 1.2F;
+    private static final float STRONG_INTENSITY = 1.5F;
+
+    private static final float PARTICLE_SIZE = 0.06F;
+    private static final int PARTICLE_LIFETIME = 20;
+    private static final int CAST_EMITTER_TICKS = 10;
+    private static final int FIZZLE_COLOR = 0xA0404040;
+
+    public static void registerClientReceiver() {
+        ClientPlayNetworking.registerGlobalReceiver(SpellCastEventPayload.ID, (payload, context) -> context.client().execute(() -> {
+            ClientWorld world = context.client().world;
+            if (world != null) {
+                play(world, payload);
+            }
+        }));
+    }
+
+    private static void play(ClientWorld world, SpellCastEventPayload event) {
+        SpellVisual visual = SpellVisuals.forSpell(event.spell());
+        float intensity = MathHelper.clamp(event.intensity(), 0.5F, 2.0F);
+
+        switch (event.stage()) {
+            case START -> {
+                playSound(world, event, SoundEvents.ITEM_BOOK_PAGE_TURN, SOUND_VOLUME, SOUND_PITCH);
+                // Trickle of particles while the cast delay runs
+                SpellEmitterSystem.emit(event.x(), event.y() + 1.0, event.z(), visual.color(),
+                        2, CAST_EMITTER_TICKS, 0.5F, 0.02F, PARTICLE_SIZE, PARTICLE_LIFETIME);
+            }
+            case RESOLVE -> {
+                playSound(world, event, SoundEvents.ENTITY_EXPERIENCE_ORB_PICKUP, SOUND_VOLUME, RESOLVE_PITCH);
+
+                SoundEvent elementSound = event.intensity() > STRONG_INTENSITY && visual.strongElementSound() != null
+                        ? visual.strongElementSound()
+                        : visual.elementSound();
+                if (elementSound != null) {
+                    playSound(world, event, elementSound, SOUND_VOLUME * intensity, SOUND_PITCH);
+                }
+
+                SpellEmitterSystem.burst(event.x(), event.y() + 1.0, event.z(), visual.color(),
+                        (int) (visual.particleCount() * intensity), intensity, 0.05F * intensity,
+                        PARTICLE_SIZE * intensity, PARTICLE_LIFETIME);
+            }
+            case END -> SpellEmitterSystem.burst(event.x(), event.y() + 1.0, event.z(), visual.endColor(),
+                    visual.particleCount() / 2, 1.0F, 0.03F, PARTICLE_SIZE, PARTICLE_LIFETIME);
+            case FIZZLE -> {
+                playSound(world, event, SoundEvents.BLOCK_FIRE_EXTINGUISH, SOUND_VOLUME, SOUND_PITCH);
+                SpellEmitterSystem.burst(event.x(), event.y() + 1.0, event.z(), FIZZLE_COLOR,
+                        8, 0.5F, 0.02F, PARTICLE_SIZE, PARTICLE_LIFETIME);
+            }
+        }
+    }
+
+    private static void playSound(ClientWorld world, SpellCastEventPayload event, SoundEvent sound, float volume, float pitch) {
+        world.playSound(event.x(), event.y(), event.z(), sound, SoundCategory.PLAYERS, volume, pitch, false);
+    }
+}
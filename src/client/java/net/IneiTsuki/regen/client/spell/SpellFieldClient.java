@@ -0,0 +1,43 @@
+package net.IneiTsuki.regen.client.spell;
+
+import net.IneiTsuki.regen.client.spell.emitter.SpellEmitterSystem;
+import net.IneiTsuki.regen.magic.field.SpellFieldKind;
+import net.IneiTsuki.regen.magic.network.SpellFieldPayload;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvents;
+
+/**
+ * Draws lingering spell fields.
+ *
+ * <p>The server sends one payload when a field is created; this turns it into a
+ * single emitter that lasts as long as the field, so a field costs no further
+ * packets while it lingers.
+ */
+public class SpellFieldClient {
+
+    private static final float PARTICLE_SPEED = 0.02F;
+    private static final float PARTICLE_SIZE = 0.15F;
+    private static final int PARTICLE_LIFETIME = 20;
+    private static final int MAX_PARTICLES_PER_TICK = 8;
+
+    public static void register() {
+        ClientPlayNetworking.registerGlobalReceiver(SpellFieldPayload.ID, (payload, context) -> context.client().execute(() -> {
+            ClientWorld world = context.client().world;
+            if (world != null) {
+                show(world, payload);
+            }
+        }));
+    }
+
+    private static void show(ClientWorld world, SpellFieldPayload field) {
+        int particlesPerTick = Math.clamp(Math.round(field.radius()), 1, MAX_PARTICLES_PER_TICK);
+        SpellEmitterSystem.emit(field.x(), field.y(), field.z(), field.kind().getColor(),
+                particlesPerTick, field.durationTicks(), field.radius(), PARTICLE_SPEED, PARTICLE_SIZE, PARTICLE_LIFETIME);
+
+        world.playSound(field.x(), field.y(), field.z(),
+                field.kind() == SpellFieldKind.STEAM ? SoundEvents.BLOCK_FIRE_EXTINGUISH : SoundEvents.BLOCK_GLASS_BREAK,
+                SoundCategory.PLAYERS, 1.0F, 1.0F, false);
+    }
+}
@@ -0,0 +1,20 @@
+package net.IneiTsuki.regen.client.spell;
+
+import net.minecraft.sound.SoundEvent;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Client-side description of how a spell looks and sounds.
+ *
+ * @param elementSound       sound played when the spell resolves, or null for none
+ * @param strongElementSound sound played instead when the spell resolves with high intensity
+ * @param color              ARGB color of the spell's particles
+ * @param particleCount      number of particles at intensity 1.0
+ * @param endColor           ARGB color of the particles when a lasting spell ends
+ */
+public record SpellVisual(@Nullable SoundEvent elementSound,
+                          @Nullable SoundEvent strongElementSound,
+                          int color,
+                          int particleCount,
+                          int endColor) {
+}
@@ -0,0 +1,59 @@
+package net.IneiTsuki.regen.client.spell;
+
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.item.MagicScrollItem;
+import net.minecraft.item.Item;
+import net.minecraft.sound.SoundEvents;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Visual definitions for every spell, keyed by the scroll's primary magic type.
+ */
+public final class SpellVisuals {
+
+    /** Opaque white, used for spells without a magic type. */
+    private static final int DEFAULT_COLOR = 0xFFFFFFFF;
+
+    /** Translucent grey smoke left behind when a lasting spell ends. */
+    private static final int SMOKE_COLOR = 0xA0505050;
+
+    private static final SpellVisual DEFAULT = new SpellVisual(null, null, DEFAULT_COLOR, 16, SMOKE_COLOR);
+
+    private static final Map<MagicEnums.MagicType, SpellVisual> BY_TYPE = new EnumMap<>(MagicEnums.MagicType.class);
+
+    static {
+        for (MagicEnums.MagicType type : MagicEnums.MagicType.values()) {
+            BY_TYPE.put(type, new SpellVisual(null, null, opaque(type.getColor()), 16, SMOKE_COLOR));
+        }
+
+        BY_TYPE.put(MagicEnums.MagicType.FIRE, new SpellVisual(SoundEvents.ITEM_FIRECHARGE_USE, SoundEvents.ENTITY_BLAZE_SHOOT,
+                opaque(MagicEnums.MagicType.FIRE.getColor()), 24, SMOKE_COLOR));
+        BY_TYPE.put(MagicEnums.MagicType.WATER, new SpellVisual(SoundEvents.ENTITY_GENERIC_SPLASH, null,
+                opaque(MagicEnums.MagicType.WATER.getColor()), 24, opaque(MagicEnums.MagicType.WATER.getColor())));
+        BY_TYPE.put(MagicEnums.MagicType.ICE, new SpellVisual(SoundEvents.BLOCK_GLASS_BREAK, null,
+                opaque(MagicEnums.MagicType.ICE.getColor()), 24, 0xC0FFFFFF));
+    }
+
+    private SpellVisuals() {
+        throw new UnsupportedOperationException("Registry class cannot be instantiated");
+    }
+
+    /**
+     * Gets the visual definition for a cast spell.
+     *
+     * @param spell the scroll item that was cast
+     * @return the visual of the scroll's primary magic type, or a generic one
+     */
+    public static SpellVisual forSpell(Item spell) {
+        if (spell instanceof MagicScrollItem scroll) {
+            return BY_TYPE.getOrDefault(scroll.getMagicTypes().getFirst(), DEFAULT);
+        }
+        return DEFAULT;
+    }
+
+    private static int opaque(int rgb) {
+        return 0xFF000000 | rgb;
+    }
+}
@@ -0,0 +1,31 @@
+package net.IneiTsuki.regen.client.spell.emitter;
+
+/**
+ * A point that keeps spawning particles into the shared store for a few ticks.
+ */
+final class SpellEmitter {
+    float x;
+    float y;
+    float z;
+    int color;
+    int particlesPerTick;
+    int ticksLeft;
+    float spread;
+    float speed;
+    float size;
+    int particleLifetime;
+
+    void set(float x, float y, float z, int color, int particlesPerTick, int ticks,
+             float spread, float speed, float size, int particleLifetime) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.color = color;
+        this.particlesPerTick = particlesPerTick;
+        this.ticksLeft = ticks;
+        this.spread = spread;
+        this.speed = speed;
+        this.size = size;
+        this.particleLifetime = particleLifetime;
+    }
+}
@@ -0,0 +1,210 @@
+package net.IneiTsuki.regen.client.spell.emitter;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.BufferRenderer;
+import net.minecraft.client.render.BuiltBuffer;
+import net.minecraft.client.render.Camera;
+import net.minecraft.client.render.GameRenderer;
+import net.minecraft.client.render.Tessellator;
+import net.minecraft.client.render.VertexFormat;
+import net.minecraft.client.render.VertexFormats;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+import org.joml.Matrix4f;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+/**
+ * Client-only particle system for spell visuals.
+ *
+ * <p>Spell cast events create short-lived emitters, which spawn particles into a
+ * single {@link SpellParticleStore}. Every frame all live particles are written to
+ * one vertex buffer and drawn with one draw call, instead of going through the
+ * vanilla particle manager one object at a time.
+ *
+ * <p>The number of live particles is capped by a global budget that shrinks when
+ * the frame rate drops below {@link #TARGET_FPS}, so dense fights cost a bounded
+ * amount of frame time. When over budget, emitters simply stop spawning until
+ * older particles expire.
+ */
+public final class SpellEmitterSystem {
+
+    private static final int MAX_PARTICLES = 8192;
+    private static final int MIN_PARTICLES = 512;
+    private static final int MAX_EMITTERS = 256;
+    private static final int TARGET_FPS = 60;
+
+    /** Fraction of the distance to the target budget covered each tick. */
+    private static final float BUDGET_SMOOTHING = 0.1F;
+
+    private static final SpellParticleStore PARTICLES = new SpellParticleStore(MAX_PARTICLES);
+    private static final SpellEmitter[] EMITTERS = new SpellEmitter[MAX_EMITTERS];
+    private static final Random RANDOM = Random.create();
+
+    // Reused every frame for billboarding
+    private static final Vector3f RIGHT = new Vector3f();
+    private static final Vector3f UP = new Vector3f();
+
+    private static int emitterCount = 0;
+    private static float budget = MAX_PARTICLES;
+
+    static {
+        for (int i = 0; i < MAX_EMITTERS; i++) {
+            EMITTERS[i] = new SpellEmitter();
+        }
+    }
+
+    private SpellEmitterSystem() {
+        throw new UnsupportedOperationException("System class cannot be instantiated");
+    }
+
+    public static void register() {
+        ClientTickEvents.END_CLIENT_TICK.register(SpellEmitterSystem::tick);
+        WorldRenderEvents.AFTER_TRANSLUCENT.register(SpellEmitterSystem::render);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> clear());
+    }
+
+    /**
+     * Starts an emitter that spawns particles for a number of ticks.
+     * When all emitter slots are in use, the new emitter is dropped.
+     *
+     * @param color            ARGB particle color
+     * @param particlesPerTick particles spawned each tick
+     * @param ticks            how many ticks the emitter lives
+     * @param spread           random offset from the emitter position, in blocks
+     * @param speed            random initial speed, in blocks per tick
+     * @param size             particle half-size, in blocks
+     * @param lifetime         particle lifetime in ticks
+     */
+    public static void emit(double x, double y, double z, int color, int particlesPerTick, int ticks,
+                            float spread, float speed, float size, int lifetime) {
+        if (emitterCount >= MAX_EMITTERS || particlesPerTick <= 0 || ticks <= 0) return;
+
+        EMITTERS[emitterCount++].set((float) x, (float) y, (float) z, color, particlesPerTick, ticks,
+                spread, speed, size, lifetime);
+    }
+
+    /**
+     * Spawns a single burst of particles on the next tick.
+     */
+    public static void burst(double x, double y, double z, int color, int count,
+                             float spread, float speed, float size, int lifetime) {
+        emit(x, y, z, color, count, 1, spread, speed, size, lifetime);
+    }
+
+    public static int getParticleCount() {
+        return PARTICLES.count;
+    }
+
+    public static int getBudget() {
+        return (int) budget;
+    }
+
+    public static void clear() {
+        PARTICLES.clear();
+        emitterCount = 0;
+    }
+
+    private static void tick(MinecraftClient client) {
+        if (client.world == null || client.isPaused()) return;
+
+        updateBudget(client.getCurrentFps());
+        PARTICLES.tick();
+        tickEmitters();
+    }
+
+    private static void updateBudget(int fps) {
+        float scale = fps >= TARGET_FPS ? 1.0F : (float) fps / TARGET_FPS;
+        float target = Math.max(MIN_PARTICLES, MAX_PARTICLES * scale);
+        budget += (target - budget) * BUDGET_SMOOTHING;
+    }
+
+    private static void tickEmitters() {
+        int limit = (int) budget;
+
+        for (int e = 0; e < emitterCount; e++) {
+            SpellEmitter emitter = EMITTERS[e];
+
+            for (int n = 0; n < emitter.particlesPerTick && PARTICLES.count < limit; n++) {
+                PARTICLES.add(
+                        emitter.x + (float) RANDOM.nextGaussian() * emitter.spread,
+                        emitter.y + (float) RANDOM.nextGaussian() * emitter.spread * 0.5F,
+                        emitter.z + (float) RANDOM.nextGaussian() * emitter.spread,
+                        (float) RANDOM.nextGaussian() * emitter.speed,
+                        Math.abs((float) RANDOM.nextGaussian()) * emitter.speed,
+                        (float) RANDOM.nextGaussian() * emitter.speed,
+                        emitter.size,
+                        emitter.color,
+                        emitter.particleLifetime);
+            }
+
+            if (--emitter.ticksLeft <= 0) {
+                // Swap the last emitter into this slot and revisit it
+                SpellEmitter last = EMITTERS[--emitterCount];
+                EMITTERS[emitterCount] = emitter;
+                EMITTERS[e] = last;
+                e--;
+            }
+        }
+    }
+
+    private static void render(WorldRenderContext context) {
+        int count = Math.min(PARTICLES.count, (int) budget);
+        if (count == 0) return;
+
+        Camera camera = context.camera();
+        Vec3d cameraPos = camera.getPos();
+        Quaternionf rotation = camera.getRotation();
+        RIGHT.set(1.0F, 0.0F, 0.0F).rotate(rotation);
+        UP.set(0.0F, 1.0F, 0.0F).rotate(rotation);
+
+        Matrix4f matrix = context.positionMatrix();
+        float tickDelta = context.tickCounter().getTickDelta(false);
+        float camX = (float) cameraPos.x;
+        float camY = (float) cameraPos.y;
+        float camZ = (float) cameraPos.z;
+
+        BufferBuilder buffer = Tessellator.getInstance().begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR);
+
+        SpellParticleStore p = PARTICLES;
+        for (int i = 0; i < count; i++) {
+            float px = p.x[i] + p.vx[i] * tickDelta - camX;
+            float py = p.y[i] + p.vy[i] * tickDelta - camY;
+            float pz = p.z[i] + p.vz[i] * tickDelta - camZ;
+
+            // Shrink and fade out over the particle's lifetime
+            float life = 1.0F - (float) p.age[i] / p.maxAge[i];
+            float s = p.size[i] * life;
+            int argb = ((int) ((p.color[i] >>> 24) * life) << 24) | (p.color[i] & 0xFFFFFF);
+
+            float rx = RIGHT.x * s, ry = RIGHT.y * s, rz = RIGHT.z * s;
+            float ux = UP.x * s, uy = UP.y * s, uz = UP.z * s;
+
+            buffer.vertex(matrix, px - rx - ux, py - ry - uy, pz - rz - uz).color(argb);
+            buffer.vertex(matrix, px - rx + ux, py - ry + uy, pz - rz + uz).color(argb);
+            buffer.vertex(matrix, px + rx + ux, py + ry + uy, pz + rz + uz).color(argb);
+            buffer.vertex(matrix, px + rx - ux, py + ry - uy, pz + rz - uz).color(argb);
+        }
+
+        BuiltBuffer built = buffer.endNullable();
+        if (built == null) return;
+
+        RenderSystem.setShader(GameRenderer::getPositionColorProgram);
+        RenderSystem.enableBlend();
+        RenderSystem.defaultBlendFunc();
+        RenderSystem.depthMask(false);
+        RenderSystem.disableCull();
+
+        BufferRenderer.drawWithGlobalProgram(built);
+
+        RenderSystem.enableCull();
+        RenderSystem.depthMask(true);
+        RenderSystem.disableBlend();
+    }
+}
@@ -0,0 +1,108 @@
+package net.IneiTsuki.regen.client.spell.emitter;
+
+/**
+ * Fixed-capacity particle pool stored as parallel primitive arrays.
+ *
+ * <p>Particles are plain indices into the arrays, so spawning, ticking and
+ * rendering never allocate. Dead particles are removed by swapping the last
+ * live particle into their slot, which keeps live particles packed at the
+ * front of every array.
+ */
+final class SpellParticleStore {
+
+    private static final float GRAVITY = 0.004F;
+    private static final float DRAG = 0.96F;
+
+    final int capacity;
+
+    final float[] x;
+    final float[] y;
+    final float[] z;
+    final float[] vx;
+    final float[] vy;
+    final float[] vz;
+    final float[] size;
+    final int[] color;
+    final int[] age;
+    final int[] maxAge;
+
+    /** Number of live particles, always packed in [0, count). */
+    int count;
+
+    SpellParticleStore(int capacity) {
+        this.capacity = capacity;
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.z = new float[capacity];
+        this.vx = new float[capacity];
+        this.vy = new float[capacity];
+        this.vz = new float[capacity];
+        this.size = new float[capacity];
+        this.color = new int[capacity];
+        this.age = new int[capacity];
+        this.maxAge = new int[capacity];
+    }
+
+    /**
+     * Adds a particle if the store is not full.
+     *
+     * @return true if the particle was added
+     */
+    boolean add(float px, float py, float pz, float pvx, float pvy, float pvz,
+                float particleSize, int argb, int lifetime) {
+        if (count >= capacity) return false;
+
+        int i = count++;
+        x[i] = px;
+        y[i] = py;
+        z[i] = pz;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        vz[i] = pvz;
+        size[i] = particleSize;
+        color[i] = argb;
+        age[i] = 0;
+        maxAge[i] = Math.max(1, lifetime);
+        return true;
+    }
+
+    /**
+     * Ages and moves every live particle, removing the ones that expired.
+     */
+    void tick() {
+        for (int i = 0; i < count; i++) {
+            if (++age[i] >= maxAge[i]) {
+                removeAt(i);
+                i--;
+                continue;
+            }
+
+            x[i] += vx[i];
+            y[i] += vy[i];
+            z[i] += vz[i];
+            vx[i] *= DRAG;
+            vy[i] = vy[i] * DRAG - GRAVITY;
+            vz[i] *= DRAG;
+        }
+    }
+
+    void clear() {
+        count = 0;
+    }
+
+    private void removeAt(int i) {
+        int last = --count;
+        if (i == last) return;
+
+        x[i] = x[last];
+        y[i] = y[last];
+        z[i] = z[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        vz[i] = vz[last];
+        size[i] = size[last];
+        color[i] = color[last];
+        age[i] = age[last];
+        maxAge[i] = maxAge[last];
+    }
+}
@@ -0,0 +1,161 @@
+package net.IneiTsuki.regen.gametest;
+
+import net.IneiTsuki.regen.magic.api.MagicEffect;
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.components.CastingComponent;
+import net.IneiTsuki.regen.magic.components.ManaComponent;
+import net.IneiTsuki.regen.magic.components.ModComponents;
+import net.IneiTsuki.regen.magic.core.scheduler.TickScheduler;
+import net.IneiTsuki.regen.magic.effect.active.ActiveSpellEffect;
+import net.IneiTsuki.regen.magic.effect.active.ActiveSpellTracker;
+import net.IneiTsuki.regen.magic.item.MagicScrollItem;
+import net.IneiTsuki.regen.magic.item.MagicScrollItems;
+import net.IneiTsuki.regen.magic.item.ManaRegenTask;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.GameTestException;
+import net.minecraft.test.TestContext;
+import net.minecraft.world.GameMode;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks that the per-tick magic paths stay allocation-free in steady state.
+ *
+ * <p>Each test warms a path up so it is JIT-compiled, then measures the bytes the
+ * server thread allocates over many iterations with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} and fails
+ * when the average per iteration exceeds the path's budget. The budgets are zero
+ * plus a small allowance for one-off JIT and profiling noise spread over the run.
+ *
+ * <p>These tests call the global scheduler and spell tracker directly, so they run
+ * in their own batch, after the load tests.
+ */
+public class AllocationBudgetTest implements FabricGameTest {
+
+    private static final String BATCH = "regen_allocation";
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+
+    /** Average bytes per iteration treated as zero. */
+    private static final double NOISE_BYTES_PER_ITERATION = 0.5;
+
+    private static final int PENDING_TASKS = 1000;
+    private static final int ACTIVE_SPELLS = 100;
+
+    private static final MagicEffect NO_OP_EFFECT = (world, user, clarifications, types) -> true;
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = BATCH)
+    public void schedulerTick(TestContext context) {
+        // Far enough out that nothing runs during the measurement
+        for (int i = 0; i < PENDING_TASKS; i++) {
+            TickScheduler.schedule(Integer.MAX_VALUE, () -> {});
+        }
+
+        assertBudget("TickScheduler.tick", TickScheduler::tick);
+
+        TickScheduler.clearAllTasks();
+        context.complete();
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = BATCH)
+    public void activeSpellTrackerTick(TestContext context) {
+        ServerWorld world = context.getWorld();
+        List<ActiveSpellEffect> spells = createSpells(context, ACTIVE_SPELLS);
+        spells.forEach(ActiveSpellTracker::add);
+
+        assertBudget("ActiveSpellTracker.tick", () -> ActiveSpellTracker.tick(world));
+
+        spells.forEach(spell -> spell.forceExpire(world));
+        ActiveSpellTracker.tick(world);
+        context.complete();
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = BATCH)
+    public void activeSpellEffectTick(TestContext context) {
+        ServerWorld world = context.getWorld();
+        ActiveSpellEffect spell = createSpells(context, 1).getFirst();
+
+        assertBudget("ActiveSpellEffect.tick", () -> spell.tick(world));
+        context.complete();
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = BATCH)
+    public void manaPath(TestContext context) {
+        PlayerEntity player = context.createMockPlayer(GameMode.SURVIVAL);
+        ManaComponent mana = ModComponents.MANA.get(player);
+        mana.setMana(mana.getMaxMana());
+
+        // At full mana the regen task only checks and stops, which is the steady state
+        ManaRegenTask regen = new ManaRegenTask(mana, 2, 20);
+
+        assertBudget("mana regen", () -> {
+            if (mana.hasEnoughMana(1)) {
+                regen.run();
+            }
+        });
+        context.complete();
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = BATCH)
+    public void castingTick(TestContext context) {
+        ServerWorld world = context.getWorld();
+        PlayerEntity player = context.createMockPlayer(GameMode.SURVIVAL);
+        MagicScrollItem scroll = MagicScrollItems.getAllScrolls().values().iterator().next();
+        player.getInventory().setStack(player.getInventory().selectedSlot, new ItemStack(scroll));
+
+        // A cast that never finishes, checked against its interrupt conditions every tick
+        CastingComponent casting = ModComponents.CASTING.get(player);
+        casting.begin(scroll, player.getInventory().selectedSlot, 0, Integer.MAX_VALUE,
+                CastingComponent.InterruptPolicy.ON_MOVE_OR_DAMAGE);
+
+        assertBudget("CastingComponent.tick", () -> casting.tick(world));
+
+        if (!casting.isCasting()) {
+            throw new GameTestException("Cast was interrupted during the measurement");
+        }
+        casting.interrupt();
+        context.complete();
+    }
+
+    private static List<ActiveSpellEffect> createSpells(TestContext context, int count) {
+        PlayerEntity caster = context.createMockPlayer(GameMode.SURVIVAL);
+        List<ActiveSpellEffect> spells = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            spells.add(new ActiveSpellEffect(caster, NO_OP_EFFECT,
+                    List.of(MagicEnums.Clarification.CONTROL),
+                    List.of(MagicEnums.MagicType.FIRE),
+                    Integer.MAX_VALUE));
+        }
+        return spells;
+    }
+
+    private static void assertBudget(String name, Runnable path) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            path.run();
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            path.run();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        double perIteration = (double) allocated / MEASURED_ITERATIONS;
+        if (perIteration > NOISE_BYTES_PER_ITERATION) {
+            throw new GameTestException(String.format(
+                    "%s allocated %.2f bytes per iteration (%d bytes over %d iterations)",
+                    name, perIteration, allocated, MEASURED_ITERATIONS));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package net.IneiTsuki.regen.gametest;
+
+import java.nio.file.Path;
+
+/**
+ * Load test settings, read from system properties so runs can be tuned
+ * from the command line without code changes.
+ *
+ * <p>Example: {@code gradlew runGametest -Dregen.loadtest.players=200 -Dregen.loadtest.maxP99Millis=40}
+ *
+ * @param players          number of mock players casting every tick
+ * @param ticks            number of measured ticks
+ * @param rateLimit        keep the per-player cast rate limit, rather than
+ *                         refilling the bucket before every cast
+ * @param maxP99Millis     fail when the 99th percentile tick time exceeds this
+ * @param maxSchedulerDepth fail when the scheduler queue grows past this
+ * @param maxActiveSpells  fail when more spells than this are active at once
+ * @param reportDirectory  where the JSON report is written
+ */
+public record LoadTestConfig(int players,
+                             int ticks,
+                             boolean rateLimit,
+                             double maxP99Millis,
+                             int maxSchedulerDepth,
+                             int maxActiveSpells,
+                             Path reportDirectory) {
+
+    private static final String PREFIX = "regen.loadtest.";
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger(PREFIX + "players", 50),
+                Integer.getInteger(PREFIX + "ticks", 200),
+                Boolean.getBoolean(PREFIX + "rateLimit"),
+                Double.parseDouble(System.getProperty(PREFIX + "maxP99Millis", "50")),
+                Integer.getInteger(PREFIX + "maxSchedulerDepth", 10_000),
+                Integer.getInteger(PREFIX + "maxActiveSpells", 10_000),
+                Path.of(System.getProperty(PREFIX + "reportDir", "loadtest-reports"))
+        );
+    }
+}
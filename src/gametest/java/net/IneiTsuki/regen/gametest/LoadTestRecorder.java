@@ -0,0 +1,166 @@
+package net.IneiTsuki.regen.gametest;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import net.IneiTsuki.regen.Regen;
+import net.IneiTsuki.regen.magic.core.metrics.ModMetrics;
+import net.IneiTsuki.regen.magic.core.scheduler.TickScheduler;
+import net.IneiTsuki.regen.magic.effect.active.ActiveSpellTracker;
+import net.IneiTsuki.regen.magic.network.PayloadStats;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Records whole-server tick times and magic system load while a load test runs.
+ *
+ * <p>Tick events cannot be unregistered, so the listeners are installed once
+ * and only record while a recording is active.
+ */
+public final class LoadTestRecorder {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private static boolean registered = false;
+
+    private static LoadTestRecorder active;
+    private static long tickStartNanos;
+
+    private final String name;
+    private final long[] tickNanos;
+    private int sampleCount = 0;
+    private int maxSchedulerDepth = 0;
+    private int maxActiveSpells = 0;
+    private final long payloadsAtStart;
+    private final long rateLimitedAtStart;
+    private long busyCasts = 0;
+
+    private LoadTestRecorder(String name, int ticks) {
+        this.name = name;
+        this.tickNanos = new long[ticks];
+        this.payloadsAtStart = PayloadStats.getSentCount();
+        this.rateLimitedAtStart = ModMetrics.RATE_LIMITED.get();
+    }
+
+    /**
+     * Starts recording the next {@code ticks} server ticks.
+     */
+    public static LoadTestRecorder start(String name, int ticks) {
+        register();
+        active = new LoadTestRecorder(name, ticks);
+        return active;
+    }
+
+    private static synchronized void register() {
+        if (registered) return;
+        registered = true;
+
+        ServerTickEvents.START_SERVER_TICK.register(server -> tickStartNanos = System.nanoTime());
+        ServerTickEvents.END_SERVER_TICK.register(server -> {
+            if (active != null) {
+                active.record(System.nanoTime() - tickStartNanos);
+            }
+        });
+    }
+
+    private void record(long nanos) {
+        if (sampleCount < tickNanos.length) {
+            tickNanos[sampleCount++] = nanos;
+        }
+        maxSchedulerDepth = Math.max(maxSchedulerDepth, TickScheduler.getScheduledTaskCount());
+        maxActiveSpells = Math.max(maxActiveSpells, ActiveSpellTracker.getCount());
+    }
+
+    /**
+     * Counts a cast that was not attempted because its player was still
+     * charging a delayed cast.
+     */
+    public void countBusy() {
+        busyCasts++;
+    }
+
+    public boolean isDone() {
+        return sampleCount >= tickNanos.length;
+    }
+
+    /**
+     * Stops recording, writes the report and checks it against the thresholds.
+     *
+     * @return a list of exceeded thresholds, empty if the run passed
+     */
+    public List<String> finish(LoadTestConfig config) {
+        if (active == this) {
+            active = null;
+        }
+
+        long[] sorted = Arrays.copyOf(tickNanos, sampleCount);
+        Arrays.sort(sorted);
+
+        double p50 = percentileMillis(sorted, 0.50);
+        double p95 = percentileMillis(sorted, 0.95);
+        double p99 = percentileMillis(sorted, 0.99);
+        double max = sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0;
+        long payloads = PayloadStats.getSentCount() - payloadsAtStart;
+        long rateLimited = ModMetrics.RATE_LIMITED.get() - rateLimitedAtStart;
+
+        List<String> failures = new ArrayList<>();
+        if (p99 > config.maxP99Millis()) {
+            failures.add(String.format("p99 tick time %.2f ms > %.2f ms", p99, config.maxP99Millis()));
+        }
+        if (maxSchedulerDepth > config.maxSchedulerDepth()) {
+            failures.add("scheduler depth " + maxSchedulerDepth + " > " + config.maxSchedulerDepth());
+        }
+        if (maxActiveSpells > config.maxActiveSpells()) {
+            failures.add("active spells " + maxActiveSpells + " > " + config.maxActiveSpells());
+        }
+
+        JsonObject thresholds = new JsonObject();
+        thresholds.addProperty("maxP99Millis", config.maxP99Millis());
+        thresholds.addProperty("maxSchedulerDepth", config.maxSchedulerDepth());
+        thresholds.addProperty("maxActiveSpells", config.maxActiveSpells());
+
+        JsonObject report = new JsonObject();
+        report.addProperty("test", name);
+        report.addProperty("players", config.players());
+        report.addProperty("ticks", sampleCount);
+        report.addProperty("rateLimit", config.rateLimit());
+        report.addProperty("p50Millis", p50);
+        report.addProperty("p95Millis", p95);
+        report.addProperty("p99Millis", p99);
+        report.addProperty("maxMillis", max);
+        report.addProperty("maxSchedulerDepth", maxSchedulerDepth);
+        report.addProperty("maxActiveSpells", maxActiveSpells);
+        report.addProperty("payloadsSent", payloads);
+        report.addProperty("rateLimitedCasts", rateLimited);
+        report.addProperty("busyCasts", busyCasts);
+        report.add("thresholds", thresholds);
+        report.add("failures", GSON.toJsonTree(failures));
+        report.addProperty("passed", failures.isEmpty());
+
+        writeReport(config.reportDirectory().resolve(name + ".json"), report);
+        return failures;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0.0;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static void writeReport(Path path, JsonObject report) {
+        try {
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, GSON.toJson(report), StandardCharsets.UTF_8);
+            Regen.LOGGER.info("Wrote load test report to {}", path.toAbsolutePath());
+        } catch (IOException e) {
+            Regen.LOGGER.error("Failed to write load test report {}", path, e);
+        }
+    }
+}
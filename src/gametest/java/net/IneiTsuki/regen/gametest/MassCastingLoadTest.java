@@ -0,0 +1,107 @@
+package net.IneiTsuki.regen.gametest;
+
+import net.IneiTsuki.regen.magic.components.ManaComponent;
+import net.IneiTsuki.regen.magic.components.ModComponents;
+import net.IneiTsuki.regen.magic.item.MagicScrollItem;
+import net.IneiTsuki.regen.magic.item.MagicScrollItems;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.GameTestException;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.Hand;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Headless load test: many players casting scrolls every tick.
+ *
+ * <p>Each mock player holds a different scroll, cycling through every registered
+ * scroll, and tries to cast it through {@link MagicScrollItem#use} every tick with
+ * mana refilled as needed. Unless {@link LoadTestConfig#rateLimit()} is set, the
+ * cast rate limit bucket is refilled too. Players still charging a delayed cast
+ * skip the tick and are counted as busy, so scrolls with a cast delay are cast
+ * less often than once per tick.
+ *
+ * <p>Tick times, scheduler depth, active spell count, payloads sent and the
+ * rate limited and busy casts are written to a JSON report, and the test fails
+ * when any configured threshold is exceeded. See {@link LoadTestConfig} for the
+ * settings.
+ */
+public class MassCastingLoadTest implements FabricGameTest {
+
+    /** Upper bound on ticks a single run may take, warmup included. */
+    private static final int TICK_LIMIT = 2400;
+    private static final int WARMUP_TICKS = 20;
+
+    @GameTest(templateName = EMPTY_STRUCTURE, tickLimit = TICK_LIMIT)
+    public void massCasting(TestContext context) {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        if (config.ticks() + WARMUP_TICKS >= TICK_LIMIT) {
+            throw new GameTestException("regen.loadtest.ticks must be below " + (TICK_LIMIT - WARMUP_TICKS));
+        }
+
+        List<MagicScrollItem> scrolls = new ArrayList<>(MagicScrollItems.getAllScrolls().values());
+        if (scrolls.isEmpty()) {
+            throw new GameTestException("No magic scrolls are registered");
+        }
+        // Stable assignment so runs are comparable
+        scrolls.sort(Comparator.comparing(scroll -> scroll.getTranslationKey()));
+
+        List<ServerPlayerEntity> players = new ArrayList<>(config.players());
+        for (int i = 0; i < config.players(); i++) {
+            // Creative players keep their scroll after each cast
+            ServerPlayerEntity player = context.createMockCreativeServerPlayerInWorld();
+            player.setStackInHand(Hand.MAIN_HAND, new ItemStack(scrolls.get(i % scrolls.size())));
+            players.add(player);
+        }
+
+        LoadTestRecorder[] recorder = new LoadTestRecorder[1];
+
+        context.runAtEveryTick(() -> {
+            for (ServerPlayerEntity player : players) {
+                castHeldScroll(context, player, config, recorder[0]);
+            }
+
+            if (recorder[0] != null && recorder[0].isDone()) {
+                List<String> failures = recorder[0].finish(config);
+                recorder[0] = null;
+
+                if (failures.isEmpty()) {
+                    context.complete();
+                } else {
+                    throw new GameTestException("Load thresholds exceeded: " + String.join("; ", failures));
+                }
+            }
+        });
+
+        context.waitAndRun(WARMUP_TICKS, () -> recorder[0] = LoadTestRecorder.start("mass_casting", config.ticks()));
+    }
+
+    private static void castHeldScroll(TestContext context, ServerPlayerEntity player, LoadTestConfig config,
+                                       @Nullable LoadTestRecorder recorder) {
+        ItemStack stack = player.getStackInHand(Hand.MAIN_HAND);
+        if (!(stack.getItem() instanceof MagicScrollItem scroll)) return;
+
+        if (ModComponents.CASTING.get(player).isCasting()) {
+            if (recorder != null) {
+                recorder.countBusy();
+            }
+            return;
+        }
+
+        ManaComponent mana = ModComponents.MANA.get(player);
+        if (!mana.hasEnoughMana(scroll.getTooltipManaCost())) {
+            mana.setMana(mana.getMaxMana());
+        }
+        if (!config.rateLimit()) {
+            mana.fillCastTokens();
+        }
+
+        scroll.use(context.getWorld(), player, Hand.MAIN_HAND);
+    }
+}
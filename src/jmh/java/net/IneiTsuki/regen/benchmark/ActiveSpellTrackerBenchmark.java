@@ -0,0 +1,73 @@
+package net.IneiTsuki.regen.benchmark;
+
+import net.IneiTsuki.regen.magic.api.MagicEffect;
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.effect.active.ActiveSpellEffect;
+import net.IneiTsuki.regen.magic.effect.active.ActiveSpellTracker;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link ActiveSpellTracker#tick(World)} with a number of active spells.
+ *
+ * <p>The spells use an effect with empty callbacks and last longer than any run,
+ * so this measures the tracker's own iteration and bookkeeping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ActiveSpellTrackerBenchmark {
+
+    private static final MagicEffect NO_OP_EFFECT = (world, user, clarifications, types) -> true;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int activeSpells;
+
+    private World world;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkFixtures.bootstrap();
+
+        // Each spell is given its world and area, so the constructor never reads
+        // the caster, and the no-op effect never reads the world or the caster
+        world = BenchmarkFixtures.allocate(ServerWorld.class);
+        PlayerEntity caster = BenchmarkFixtures.allocate(ServerPlayerEntity.class);
+
+        ActiveSpellTracker.clear();
+        for (int i = 0; i < activeSpells; i++) {
+            // One chunk apart, so adding a spell does not visit all the others
+            ActiveSpellTracker.add(new ActiveSpellEffect(caster, world, new BlockPos(i * 16, 64, 0), 4,
+                    NO_OP_EFFECT,
+                    List.of(MagicEnums.Clarification.CONTROL),
+                    List.of(MagicEnums.MagicType.FIRE),
+                    Integer.MAX_VALUE, null, 1.0f));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ActiveSpellTracker.clear();
+    }
+
+    @Benchmark
+    public void tick() {
+        ActiveSpellTracker.tick(world);
+    }
+}
@@ -0,0 +1,73 @@
+package net.IneiTsuki.regen.benchmark;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared setup for the benchmarks.
+ *
+ * <p>Benchmarks run without a Fabric loader or a running server, so game objects
+ * such as players and worlds cannot be constructed normally. Where a benchmarked
+ * path only needs a non-null reference, an instance is allocated without running
+ * its constructor. Such instances must never reach code that reads their state.
+ */
+final class BenchmarkFixtures {
+
+    private static boolean bootstrapped = false;
+
+    private BenchmarkFixtures() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Initializes vanilla registries once per benchmark fork.
+     */
+    static synchronized void bootstrap() {
+        if (bootstrapped) return;
+
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        bootstrapped = true;
+    }
+
+    /**
+     * Allocates an instance without calling any constructor.
+     *
+     * @param type a concrete class
+     * @return an instance with all fields at their default values
+     */
+    static <T> T allocate(Class<T> type) {
+        try {
+            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return type.cast(((Unsafe) field.get(null)).allocateInstance(type));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to allocate " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Builds every non-empty subset of an enum's values, in enum order.
+     *
+     * @param values all values of the enum
+     * @return one list per subset, 2^n - 1 in total
+     */
+    static <E extends Enum<E>> List<List<E>> nonEmptySubsets(E[] values) {
+        List<List<E>> subsets = new ArrayList<>((1 << values.length) - 1);
+        for (int mask = 1; mask < (1 << values.length); mask++) {
+            List<E> subset = new ArrayList<>(Integer.bitCount(mask));
+            for (int i = 0; i < values.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    subset.add(values[i]);
+                }
+            }
+            subsets.add(List.copyOf(subset));
+        }
+        return subsets;
+    }
+}
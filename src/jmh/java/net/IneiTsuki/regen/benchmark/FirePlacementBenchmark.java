@@ -0,0 +1,70 @@
+package net.IneiTsuki.regen.benchmark;
+
+import net.IneiTsuki.regen.magic.effect.scroll.MagicScrollEffects;
+import net.IneiTsuki.regen.magic.effect.spell.FireSpellEffect;
+import net.IneiTsuki.regen.magic.world.InMemorySpellWorld;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fire placement algorithms running against an {@link InMemorySpellWorld}.
+ *
+ * <p>The world is a flat layer of planks with air above, rebuilt before every
+ * invocation so each placement starts from the same state.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FirePlacementBenchmark {
+
+    private static final BlockPos CENTER = new BlockPos(0, 1, 0);
+    private static final int WORLD_RADIUS = 16;
+
+    @Param({"3", "6", "10"})
+    public int radius;
+
+    @Param({"1.0", "2.0"})
+    public double intensity;
+
+    private InMemorySpellWorld world;
+
+    @Setup(Level.Trial)
+    public void bootstrap() {
+        BenchmarkFixtures.bootstrap();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetWorld() {
+        int size = WORLD_RADIUS * 2 + 1;
+        world = new InMemorySpellWorld(new BlockPos(-WORLD_RADIUS, -WORLD_RADIUS, -WORLD_RADIUS), size, size, size);
+        world.fillLayers(-WORLD_RADIUS, 0, Blocks.OAK_PLANKS.getDefaultState());
+    }
+
+    @Benchmark
+    public int scrollFirePlacement() {
+        return MagicScrollEffects.placeFireBlocks(world, CENTER, radius, false, intensity);
+    }
+
+    @Benchmark
+    public Set<BlockPos> fireSpellPlacement() {
+        return FireSpellEffect.placeFireBlocks(world, CENTER, radius, false, intensity);
+    }
+
+    @Benchmark
+    public int fireSpellPlaceAndRemove() {
+        return FireSpellEffect.removeFireBlocks(world,
+                FireSpellEffect.placeFireBlocks(world, CENTER, radius, true, intensity));
+    }
+}
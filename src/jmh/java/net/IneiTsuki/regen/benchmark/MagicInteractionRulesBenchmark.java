@@ -0,0 +1,88 @@
+package net.IneiTsuki.regen.benchmark;
+
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.core.utils.MagicInteractionRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every {@link MagicInteractionRules} method over all non-empty subsets of
+ * clarifications and magic types.
+ *
+ * <p>Methods that take both lists pair the i-th clarification subset with the
+ * i-th type subset, so each invocation covers every subset of both enums once
+ * instead of their full cross product.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MagicInteractionRulesBenchmark {
+
+    private static final int BASE_RADIUS = 3;
+
+    private List<List<MagicEnums.Clarification>> clarificationSubsets;
+    private List<List<MagicEnums.MagicType>> typeSubsets;
+
+    @Setup
+    public void setup() {
+        clarificationSubsets = BenchmarkFixtures.nonEmptySubsets(MagicEnums.Clarification.values());
+        typeSubsets = BenchmarkFixtures.nonEmptySubsets(MagicEnums.MagicType.values());
+    }
+
+    @Benchmark
+    public void resolveClarificationConflicts(Blackhole blackhole) {
+        for (List<MagicEnums.Clarification> clarifications : clarificationSubsets) {
+            blackhole.consume(MagicInteractionRules.resolveClairificationConflicts(clarifications));
+        }
+    }
+
+    @Benchmark
+    public void calculateIntensityModifier(Blackhole blackhole) {
+        for (List<MagicEnums.Clarification> clarifications : clarificationSubsets) {
+            blackhole.consume(MagicInteractionRules.calculateIntensityModifier(clarifications));
+        }
+    }
+
+    @Benchmark
+    public void calculateRadiusModifier(Blackhole blackhole) {
+        for (List<MagicEnums.Clarification> clarifications : clarificationSubsets) {
+            blackhole.consume(MagicInteractionRules.calculateRadiusModifier(clarifications, BASE_RADIUS));
+        }
+    }
+
+    @Benchmark
+    public void calculateTypeInteractionMultiplier(Blackhole blackhole) {
+        for (List<MagicEnums.MagicType> types : typeSubsets) {
+            blackhole.consume(MagicInteractionRules.calculateTypeInteractionMultiplier(types));
+        }
+    }
+
+    @Benchmark
+    public void isStableCombination(Blackhole blackhole) {
+        int count = Math.max(clarificationSubsets.size(), typeSubsets.size());
+        for (int i = 0; i < count; i++) {
+            blackhole.consume(MagicInteractionRules.isStableCombination(
+                    clarificationSubsets.get(i % clarificationSubsets.size()),
+                    typeSubsets.get(i % typeSubsets.size())));
+        }
+    }
+
+    @Benchmark
+    public void getModificationDescription(Blackhole blackhole) {
+        int count = Math.max(clarificationSubsets.size(), typeSubsets.size());
+        for (int i = 0; i < count; i++) {
+            blackhole.consume(MagicInteractionRules.getModificationDescription(
+                    clarificationSubsets.get(i % clarificationSubsets.size()),
+                    typeSubsets.get(i % typeSubsets.size())));
+        }
+    }
+}
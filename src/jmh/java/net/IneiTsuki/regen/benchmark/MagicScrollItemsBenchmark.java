@@ -0,0 +1,49 @@
+package net.IneiTsuki.regen.benchmark;
+
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.item.MagicScrollItems;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link MagicScrollItems#getScroll} for every basic clarification and type pair.
+ *
+ * <p>Scroll items cannot be registered without a Fabric loader, so the lookups
+ * run against an empty registry. This still measures the key building and map
+ * lookup that make up the method, which is the part callers pay for per cast.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MagicScrollItemsBenchmark {
+
+    private final List<List<MagicEnums.Clarification>> clarifications = new ArrayList<>();
+    private final List<List<MagicEnums.MagicType>> types = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        for (MagicEnums.Clarification clarification : MagicEnums.Clarification.values()) {
+            for (MagicEnums.MagicType type : MagicEnums.MagicType.values()) {
+                clarifications.add(List.of(clarification));
+                types.add(List.of(type));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getScroll(Blackhole blackhole) {
+        for (int i = 0; i < clarifications.size(); i++) {
+            blackhole.consume(MagicScrollItems.getScroll(clarifications.get(i), types.get(i)));
+        }
+    }
+}
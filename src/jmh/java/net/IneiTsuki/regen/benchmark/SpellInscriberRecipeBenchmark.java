@@ -0,0 +1,84 @@
+package net.IneiTsuki.regen.benchmark;
+
+import net.IneiTsuki.regen.block.entity.SpellInscriberBlockEntity;
+import net.IneiTsuki.regen.recipe.impl.SpellInscriberRecipe;
+import net.IneiTsuki.regen.recipe.types.SpellInscriberRecipeInput;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.recipe.Ingredient;
+import net.minecraft.registry.Registries;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.collection.DefaultedList;
+import net.minecraft.world.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of finding the matching Spell Inscriber recipe among a number of recipes.
+ *
+ * <p>Recipes are tested in order until one matches, the same way the recipe
+ * manager does. The input matches only the last recipe, so every recipe is tested.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpellInscriberRecipeBenchmark {
+
+    @Param({"1", "16", "256"})
+    public int recipeCount;
+
+    private final List<SpellInscriberRecipe> recipes = new ArrayList<>();
+    private SpellInscriberRecipeInput input;
+    private World world;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkFixtures.bootstrap();
+
+        // matches() only reads the client flag, which is false on an allocated world
+        world = BenchmarkFixtures.allocate(ServerWorld.class);
+
+        int slots = SpellInscriberBlockEntity.INPUT_SLOTS;
+        int itemCount = Registries.ITEM.size();
+
+        recipes.clear();
+        for (int r = 0; r < recipeCount; r++) {
+            DefaultedList<Ingredient> ingredients = DefaultedList.ofSize(slots, Ingredient.EMPTY);
+            for (int slot = 0; slot < slots; slot++) {
+                // Skip raw id 0 (air), which an ingredient cannot hold
+                Item item = Registries.ITEM.get(1 + (r * slots + slot) % (itemCount - 1));
+                ingredients.set(slot, Ingredient.ofItems(item));
+            }
+            recipes.add(new SpellInscriberRecipe(ingredients, new ItemStack(Items.PAPER)));
+        }
+
+        SpellInscriberRecipe last = recipes.getLast();
+        DefaultedList<ItemStack> stacks = DefaultedList.ofSize(slots, ItemStack.EMPTY);
+        for (int slot = 0; slot < slots; slot++) {
+            stacks.set(slot, last.ingredients().get(slot).getMatchingStacks()[0].copy());
+        }
+        input = new SpellInscriberRecipeInput(stacks);
+    }
+
+    @Benchmark
+    public SpellInscriberRecipe findFirstMatch() {
+        for (SpellInscriberRecipe recipe : recipes) {
+            if (recipe.matches(input, world)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,52 @@
+package net.IneiTsuki.regen.benchmark;
+
+import net.IneiTsuki.regen.magic.core.scheduler.TickScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Cost of one {@link TickScheduler#tick()} with a number of tasks pending.
+ *
+ * <p>Every task is scheduled far enough in the future that none of them runs
+ * during the measurement, so each tick only walks and decrements the queue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TickSchedulerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int pendingTasks;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // schedule() logs every call, which would dominate the setup
+        Logger.getLogger(TickScheduler.class.getName()).setLevel(java.util.logging.Level.WARNING);
+
+        TickScheduler.clearAllTasks();
+        for (int i = 0; i < pendingTasks; i++) {
+            TickScheduler.schedule(Integer.MAX_VALUE, () -> {});
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TickScheduler.clearAllTasks();
+    }
+
+    @Benchmark
+    public void tick() {
+        TickScheduler.tick();
+    }
+}
@@ -2,17 +2,35 @@ package net.IneiTsuki.regen;
 
 import net.IneiTsuki.regen.block.ModBlocks;
 import net.IneiTsuki.regen.block.entity.ModBlockEntities;
+import net.IneiTsuki.regen.command.ModCommands;
+import net.IneiTsuki.regen.entity.ModEntities;
 import net.IneiTsuki.regen.item.ModItems;
 import net.IneiTsuki.regen.magic.item.ManaRegenTask;
+import net.IneiTsuki.regen.magic.network.CastProgressPayload;
+import net.IneiTsuki.regen.magic.network.SpellFieldPayload;
 import net.IneiTsuki.regen.magic.network.ManaSyncPacket;
+import net.IneiTsuki.regen.magic.network.SpellCastEventPayload;
 import net.IneiTsuki.regen.magic.components.ManaComponent;
 import net.IneiTsuki.regen.magic.components.ModComponents;
 import net.IneiTsuki.regen.magic.effect.active.ActiveSpellTracker;
+import net.IneiTsuki.regen.magic.core.casting.CastingSystem;
+import net.IneiTsuki.regen.magic.core.governor.SpellLoadGovernor;
+import net.IneiTsuki.regen.magic.core.metrics.MetricsExporter;
+import net.IneiTsuki.regen.magic.core.metrics.ModMetrics;
+import net.IneiTsuki.regen.magic.core.profiling.SpellProfiler;
 import net.IneiTsuki.regen.magic.core.scheduler.TickScheduler;
 import net.IneiTsuki.regen.magic.item.MagicScrollItems;
+import net.IneiTsuki.regen.magic.field.SpellFields;
+import net.IneiTsuki.regen.magic.growth.GrowableIndex;
+import net.IneiTsuki.regen.magic.light.SpellLights;
+import net.IneiTsuki.regen.magic.projectile.SpellProjectiles;
+import net.IneiTsuki.regen.magic.ward.SpellWards;
+import net.IneiTsuki.regen.magic.world.SpellIntents;
 import net.IneiTsuki.regen.client.screen.handlers.ModScreenHandlers;
 import net.IneiTsuki.regen.recipe.ModRecipes;
 import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.itemgroup.v1.ItemGroupEvents;
 import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
@@ -47,12 +65,17 @@ public class Regen implements ModInitializer {
         ModBlocks.registerModBlocks();
         ModItems.registerModItems();
         ModBlockEntities.registerAll();
+        ModEntities.registerAll();
         ModRecipes.registerRecipes();
         ModScreenHandlers.registerAll();
         MagicScrollItems.registerItems();
+        ModCommands.registerCommands();
 
         // In your main mod class
         PayloadTypeRegistry.playS2C().register(ManaSyncPacket.ID, ManaSyncPacket.CODEC);
+        PayloadTypeRegistry.playS2C().register(SpellCastEventPayload.ID, SpellCastEventPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(CastProgressPayload.ID, CastProgressPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(SpellFieldPayload.ID, SpellFieldPayload.CODEC);
 
 
         // Add magic scrolls and related items to the TOOLS creative tab
@@ -65,9 +88,43 @@ public class Regen implements ModInitializer {
             TickScheduler.schedule(20, task);
         });
 
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> MetricsExporter.start());
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
+            MetricsExporter.stop();
+            SpellIntents.clear();
+            SpellProjectiles.clear();
+            SpellFields.clear();
+            SpellWards.clear();
+            SpellLights.clear();
+            ActiveSpellTracker.clear();
+            GrowableIndex.clear();
+        });
+
+        ServerChunkEvents.CHUNK_LOAD.register(SpellLights::onChunkLoad);
+        ServerChunkEvents.CHUNK_UNLOAD.register(GrowableIndex::onChunkUnload);
+
+        ServerTickEvents.END_WORLD_TICK.register(CastingSystem::tick);
+        ServerTickEvents.END_WORLD_TICK.register(world -> {
+            long start = SpellProfiler.begin();
+            ActiveSpellTracker.tick(world);
+            SpellProfiler.endActiveSpells(world.getRegistryKey(), start);
+        });
+        ServerTickEvents.END_WORLD_TICK.register(SpellProjectiles::tick);
+        ServerTickEvents.END_WORLD_TICK.register(SpellFields::tick);
+        ServerTickEvents.END_WORLD_TICK.register(SpellLights::tick);
+
         ServerTickEvents.END_SERVER_TICK.register(server -> {
+            long start = SpellProfiler.begin();
             TickScheduler.tick();
-            ActiveSpellTracker.tick(server.getOverworld());
+            SpellProfiler.end(SpellProfiler.Section.SCHEDULER, start);
+
+            // Apply the block and entity changes every spell made this tick in one pass
+            start = SpellProfiler.begin();
+            SpellIntents.flush();
+            SpellProfiler.end(SpellProfiler.Section.INTENTS, start);
+
+            ModMetrics.onServerTick(server);
+            SpellLoadGovernor.onServerTick(server);
         });
 
         LOGGER.info("Regen Mod initialized successfully!");
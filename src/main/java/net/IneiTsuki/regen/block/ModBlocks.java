@@ -2,6 +2,7 @@ package net.IneiTsuki.regen.block;
 
 import net.IneiTsuki.regen.Regen;
 import net.IneiTsuki.regen.block.custom.SpellInscriberBlock;
+import net.IneiTsuki.regen.block.custom.WardStoneBlock;
 import net.fabricmc.fabric.api.itemgroup.v1.ItemGroupEvents;
 import net.minecraft.block.AbstractBlock;
 import net.minecraft.block.Block;
@@ -10,6 +11,7 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemGroups;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.Registry;
+import net.minecraft.sound.BlockSoundGroup;
 import net.minecraft.util.Identifier;
 
 /**
@@ -23,6 +25,16 @@ public class ModBlocks {
     public static final Block SPELL_INSCRIBER_BLOCK = registerBlock("spell_inscriber",
             new SpellInscriberBlock(AbstractBlock.Settings.create().nonOpaque()));
 
+    /**
+     * The Ward Stone block instance, which protects the blocks around it from spells.
+     */
+    public static final Block WARD_STONE = registerBlock("ward_stone",
+            new WardStoneBlock(AbstractBlock.Settings.create()
+                    .strength(3.0F, 1200.0F)
+                    .requiresTool()
+                    .luminance(state -> 7)
+                    .sounds(BlockSoundGroup.AMETHYST_BLOCK)));
+
     /**
      * Registers a block with the given name and returns it.
      * Also registers its corresponding {@link BlockItem}.
@@ -56,6 +68,7 @@ public class ModBlocks {
 
         ItemGroupEvents.modifyEntriesEvent(ItemGroups.BUILDING_BLOCKS).register(entries -> {
             entries.add(ModBlocks.SPELL_INSCRIBER_BLOCK);
+            entries.add(ModBlocks.WARD_STONE);
         });
     }
 }
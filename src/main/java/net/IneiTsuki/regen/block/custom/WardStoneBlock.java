@@ -0,0 +1,45 @@
+package net.IneiTsuki.regen.block.custom;
+
+import com.mojang.serialization.MapCodec;
+import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
+import net.IneiTsuki.regen.magic.ward.SpellWards;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * A block that wards the blocks around it against spells.
+ * Every block within {@link MagicConstants#WARD_STONE_RADIUS} of the stone is protected
+ * for as long as the stone stands. Placed stones are saved with the world's wards.
+ */
+public class WardStoneBlock extends Block {
+
+    public static final MapCodec<WardStoneBlock> CODEC = createCodec(WardStoneBlock::new);
+
+    public WardStoneBlock(Settings settings) {
+        super(settings);
+    }
+
+    @Override
+    protected MapCodec<? extends Block> getCodec() {
+        return CODEC;
+    }
+
+    @Override
+    protected void onBlockAdded(BlockState state, World world, BlockPos pos, BlockState oldState, boolean notify) {
+        super.onBlockAdded(state, world, pos, oldState, notify);
+        if (!oldState.isOf(this) && world instanceof ServerWorld serverWorld) {
+            SpellWards.getState(serverWorld).addWardStone(pos);
+        }
+    }
+
+    @Override
+    protected void onStateReplaced(BlockState state, World world, BlockPos pos, BlockState newState, boolean moved) {
+        if (!newState.isOf(this) && world instanceof ServerWorld serverWorld) {
+            SpellWards.getState(serverWorld).removeWardStone(pos);
+        }
+        super.onStateReplaced(state, world, pos, newState, moved);
+    }
+}
@@ -1,6 +1,9 @@
 package net.IneiTsuki.regen.block.entity;
 
 import net.IneiTsuki.regen.client.screen.SpellInscriber.SpellInscriberScreenHandler;
+import net.IneiTsuki.regen.magic.core.metrics.ModMetrics;
+import net.IneiTsuki.regen.magic.core.profiling.SpellProfiler;
+import net.IneiTsuki.regen.magic.core.profiling.jfr.InscriberCraftJfrEvent;
 import net.IneiTsuki.regen.recipe.ModRecipes;
 import net.IneiTsuki.regen.recipe.impl.SpellInscriberRecipe;
 import net.IneiTsuki.regen.recipe.types.SpellInscriberRecipeInput;
@@ -15,6 +18,7 @@ import net.minecraft.network.listener.ClientPlayPacketListener;
 import net.minecraft.network.packet.Packet;
 import net.minecraft.network.packet.s2c.play.BlockEntityUpdateS2CPacket;
 import net.minecraft.recipe.RecipeEntry;
+import net.minecraft.registry.Registries;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.screen.NamedScreenHandlerFactory;
 import net.minecraft.screen.ScreenHandler;
@@ -175,6 +179,9 @@ public class SpellInscriberBlockEntity extends BlockEntity implements NamedScree
      * Crafts a single item (consumes inputs once, produces one output).
      */
     public boolean craftSingle() {
+        InscriberCraftJfrEvent jfrEvent = new InscriberCraftJfrEvent();
+        jfrEvent.begin();
+
         updateCachedRecipe();
         if (cachedRecipe.isEmpty()) return false;
 
@@ -196,6 +203,15 @@ public class SpellInscriberBlockEntity extends BlockEntity implements NamedScree
         addToOutput(output.copy());
         markDirty();
         notifyBlockUpdate();
+        ModMetrics.INSCRIBER_CRAFTS.increment();
+
+        jfrEvent.end();
+        if (jfrEvent.isEnabled() && jfrEvent.shouldCommit()) {
+            jfrEvent.result = Registries.ITEM.getId(output.getItem()).toString();
+            jfrEvent.count = output.getCount();
+            jfrEvent.position = pos.toShortString();
+            jfrEvent.commit();
+        }
         return true;
     }
 
@@ -292,6 +308,9 @@ public class SpellInscriberBlockEntity extends BlockEntity implements NamedScree
      */
     public static void tick(World world, BlockPos pos, BlockState state, SpellInscriberBlockEntity blockEntity) {
         if (world.isClient) return;
+
+        long start = SpellProfiler.begin();
         blockEntity.updateOutputSlot();
+        SpellProfiler.end(SpellProfiler.Section.INSCRIBER, start);
     }
 }
@@ -0,0 +1,29 @@
+package net.IneiTsuki.regen.command;
+
+import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.minecraft.server.command.CommandManager;
+
+/**
+ * Registers the {@code /regen} command tree.
+ * Every subcommand requires operator permission.
+ */
+public final class ModCommands {
+
+    /** Permission level required for all /regen subcommands (operators). */
+    public static final int PERMISSION_LEVEL = 2;
+
+    private ModCommands() {
+        throw new UnsupportedOperationException("Registry class cannot be instantiated");
+    }
+
+    public static void registerCommands() {
+        CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) ->
+                dispatcher.register(CommandManager.literal("regen")
+                        .requires(source -> source.hasPermissionLevel(PERMISSION_LEVEL))
+                        .then(ProfileCommand.build())
+                        .then(StressCommand.build())
+                        .then(WardCommand.build())));
+
+        StressCommand.registerTicker();
+    }
+}
@@ -0,0 +1,46 @@
+package net.IneiTsuki.regen.command;
+
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import net.IneiTsuki.regen.magic.core.profiling.SpellProfiler;
+import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+
+import java.util.List;
+
+/**
+ * {@code /regen profile start|stop}: opens and closes a {@link SpellProfiler} window
+ * and prints the per-subsystem timings to the command source.
+ */
+final class ProfileCommand {
+
+    private ProfileCommand() {
+        throw new UnsupportedOperationException("Command class cannot be instantiated");
+    }
+
+    static LiteralArgumentBuilder<ServerCommandSource> build() {
+        return CommandManager.literal("profile")
+                .then(CommandManager.literal("start").executes(context -> {
+                    if (!SpellProfiler.start()) {
+                        context.getSource().sendError(Text.literal("Profiling is already running"));
+                        return 0;
+                    }
+                    context.getSource().sendFeedback(() -> Text.literal("Started magic profiling"), true);
+                    return 1;
+                }))
+                .then(CommandManager.literal("stop").executes(context -> {
+                    List<String> report = SpellProfiler.stop();
+                    if (report.isEmpty()) {
+                        context.getSource().sendError(Text.literal("Profiling is not running"));
+                        return 0;
+                    }
+
+                    context.getSource().sendFeedback(() -> Text.literal("Magic profile:").formatted(Formatting.GOLD), false);
+                    for (String line : report) {
+                        context.getSource().sendFeedback(() -> Text.literal(line), false);
+                    }
+                    return report.size();
+                }));
+    }
+}
@@ -0,0 +1,96 @@
+package net.IneiTsuki.regen.command;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.IneiTsuki.regen.magic.item.MagicScrollItem;
+import net.IneiTsuki.regen.magic.item.MagicScrollItems;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.argument.IdentifierArgumentType;
+import net.minecraft.item.Item;
+import net.minecraft.registry.Registries;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@code /regen stress <spell> <count> <radius> <duration>}: casts a scroll
+ * {@code count} times around the source position over {@code duration} ticks,
+ * bypassing mana and item checks, and reports live tick time while it runs.
+ * {@code /regen stress stop} cancels the running test.
+ */
+final class StressCommand {
+
+    @Nullable
+    private static StressTestRun running;
+
+    private StressCommand() {
+        throw new UnsupportedOperationException("Command class cannot be instantiated");
+    }
+
+    /**
+     * Hooks the running test into the server tick. Called once at startup.
+     */
+    static void registerTicker() {
+        ServerTickEvents.END_SERVER_TICK.register(StressCommand::tick);
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> running = null);
+    }
+
+    static LiteralArgumentBuilder<ServerCommandSource> build() {
+        return CommandManager.literal("stress")
+                .then(CommandManager.literal("stop").executes(StressCommand::stop))
+                .then(CommandManager.argument("spell", IdentifierArgumentType.identifier())
+                        .suggests((context, builder) -> CommandSource.suggestIdentifiers(
+                                MagicScrollItems.getAllScrolls().values().stream().map(Registries.ITEM::getId), builder))
+                        .then(CommandManager.argument("count", IntegerArgumentType.integer(1, 100_000))
+                                .then(CommandManager.argument("radius", IntegerArgumentType.integer(0, 256))
+                                        .then(CommandManager.argument("duration", IntegerArgumentType.integer(1, 72_000))
+                                                .executes(StressCommand::start)))));
+    }
+
+    private static int start(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        if (running != null) {
+            source.sendError(Text.literal("A stress test is already running, use /regen stress stop first"));
+            return 0;
+        }
+
+        Identifier spellId = IdentifierArgumentType.getIdentifier(context, "spell");
+        Item item = Registries.ITEM.get(spellId);
+        if (!(item instanceof MagicScrollItem scroll)) {
+            source.sendError(Text.literal("Unknown spell scroll: " + spellId));
+            return 0;
+        }
+
+        int count = IntegerArgumentType.getInteger(context, "count");
+        int radius = IntegerArgumentType.getInteger(context, "radius");
+        int duration = IntegerArgumentType.getInteger(context, "duration");
+
+        running = new StressTestRun(source, scroll, count, radius, duration);
+        source.sendFeedback(() -> Text.literal(String.format(
+                "Started stress test: %d casts of %s within %d blocks over %d ticks", count, spellId, radius, duration)), true);
+        return 1;
+    }
+
+    private static int stop(CommandContext<ServerCommandSource> context) {
+        if (running == null) {
+            context.getSource().sendError(Text.literal("No stress test is running"));
+            return 0;
+        }
+
+        running.cancel(context.getSource().getServer());
+        running = null;
+        return 1;
+    }
+
+    private static void tick(MinecraftServer server) {
+        if (running != null && running.tick(server)) {
+            running = null;
+        }
+    }
+}
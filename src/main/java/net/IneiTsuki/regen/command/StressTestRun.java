@@ -0,0 +1,137 @@
+package net.IneiTsuki.regen.command;
+
+import com.mojang.authlib.GameProfile;
+import net.IneiTsuki.regen.magic.components.ManaComponent;
+import net.IneiTsuki.regen.magic.components.ModComponents;
+import net.IneiTsuki.regen.magic.core.governor.SpellLoadGovernor;
+import net.IneiTsuki.regen.magic.core.profiling.BlockMutationCounter;
+import net.IneiTsuki.regen.magic.core.scheduler.TickScheduler;
+import net.IneiTsuki.regen.magic.effect.active.ActiveSpellTracker;
+import net.IneiTsuki.regen.magic.item.MagicScrollItem;
+import net.IneiTsuki.regen.magic.network.PayloadStats;
+import net.fabricmc.fabric.api.entity.FakePlayer;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.Heightmap;
+
+import java.util.UUID;
+
+/**
+ * One running {@code /regen stress} session.
+ *
+ * <p>Casts are spread evenly over the duration and come from a fake player that
+ * is moved to a random surface position inside the radius before each cast.
+ * Positions in chunks that are not loaded are skipped rather than loaded, so
+ * a large radius never loads or generates chunks on the server thread; skipped
+ * casts still count towards the total and are reported.
+ * Once a second the command source gets the current tick time and magic counters.
+ */
+final class StressTestRun {
+
+    private static final GameProfile STRESS_PROFILE =
+            new GameProfile(UUID.fromString("5e9a1f3c-6f0e-4c55-9d7e-7265676e7374"), "[Regen Stress]");
+
+    private static final int REPORT_INTERVAL_TICKS = 20;
+
+    private final ServerCommandSource source;
+    private final ServerWorld world;
+    private final MagicScrollItem scroll;
+    private final Vec3d center;
+    private final int totalCasts;
+    private final int radius;
+    private final int durationTicks;
+    private final FakePlayer caster;
+    private final Random random = Random.create();
+
+    private int tick = 0;
+    private int castsDone = 0;
+    private int castsSkipped = 0;
+
+    private final long payloadsAtStart = PayloadStats.getSentCount();
+    private final long blocksAtStart = BlockMutationCounter.getTotal();
+
+    StressTestRun(ServerCommandSource source, MagicScrollItem scroll, int totalCasts, int radius, int durationTicks) {
+        this.source = source;
+        this.world = source.getWorld();
+        this.scroll = scroll;
+        this.center = source.getPosition();
+        this.totalCasts = totalCasts;
+        this.radius = radius;
+        this.durationTicks = durationTicks;
+        this.caster = FakePlayer.get(world, STRESS_PROFILE);
+    }
+
+    /**
+     * Advances the run by one tick.
+     *
+     * @return true once every cast has been made
+     */
+    boolean tick(MinecraftServer server) {
+        tick++;
+
+        // Spread casts evenly: by tick t, t * total / duration casts are done
+        int target = (int) ((long) totalCasts * Math.min(tick, durationTicks) / durationTicks);
+        while (castsDone < target) {
+            if (!castOnce()) {
+                castsSkipped++;
+            }
+            castsDone++;
+        }
+
+        boolean finished = castsDone >= totalCasts;
+        if (finished || tick % REPORT_INTERVAL_TICKS == 0) {
+            report(server, finished ? "Stress test finished" : "Stress test");
+        }
+        return finished;
+    }
+
+    void cancel(MinecraftServer server) {
+        report(server, "Stress test cancelled");
+    }
+
+    /**
+     * Casts once at a random position.
+     *
+     * @return false if the position's chunk is not loaded and nothing was cast
+     */
+    private boolean castOnce() {
+        // Uniform point in the disk around the center
+        double distance = radius * Math.sqrt(random.nextDouble());
+        double angle = random.nextDouble() * MathHelper.TAU;
+        int x = MathHelper.floor(center.x + Math.cos(angle) * distance);
+        int z = MathHelper.floor(center.z + Math.sin(angle) * distance);
+        if (!world.isChunkLoaded(ChunkSectionPos.getSectionCoord(x), ChunkSectionPos.getSectionCoord(z))) {
+            return false;
+        }
+        int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING, x, z);
+
+        caster.refreshPositionAndAngles(x + 0.5, y, z + 0.5, 0.0F, 0.0F);
+
+        ManaComponent mana = ModComponents.MANA.get(caster);
+        mana.setMana(mana.getMaxMana());
+
+        scroll.castUnchecked(world, caster);
+        return true;
+    }
+
+    private void report(MinecraftServer server, String title) {
+        String line = String.format("%s: %d/%d casts (%d skipped in unloaded chunks), %.1f mspt, %d active spells, %d scheduled tasks, %d payloads, %d blocks changed, governor %s",
+                title,
+                castsDone,
+                totalCasts,
+                castsSkipped,
+                server.getAverageNanosPerTick() / 1.0E6,
+                ActiveSpellTracker.getCount(),
+                TickScheduler.getScheduledTaskCount(),
+                PayloadStats.getSentCount() - payloadsAtStart,
+                BlockMutationCounter.getTotal() - blocksAtStart,
+                SpellLoadGovernor.getLevel());
+        source.sendFeedback(() -> Text.literal(line), false);
+    }
+}
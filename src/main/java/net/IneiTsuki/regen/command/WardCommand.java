@@ -0,0 +1,145 @@
+package net.IneiTsuki.regen.command;
+
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
+import net.IneiTsuki.regen.magic.ward.SpawnModifier;
+import net.IneiTsuki.regen.magic.ward.SpawnWard;
+import net.IneiTsuki.regen.magic.ward.SpellWards;
+import net.IneiTsuki.regen.magic.ward.WardRegion;
+import net.IneiTsuki.regen.magic.ward.WardState;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.argument.BlockPosArgumentType;
+import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.stream.Stream;
+
+/**
+ * {@code /regen ward add <name> <from> <to> [nomagic]}: protects a box of blocks in
+ * the source's world from spells; with {@code nomagic}, spells also cannot be cast
+ * from inside it. {@code /regen ward spawns <name> <from> <to> light|dark}: stops
+ * or encourages natural hostile spawning in the columns between two corners.
+ * {@code /regen ward remove <name>} and {@code /regen ward list} manage both kinds.
+ * Wards are saved with the world.
+ */
+final class WardCommand {
+
+    private WardCommand() {
+        throw new UnsupportedOperationException("Command class cannot be instantiated");
+    }
+
+    static LiteralArgumentBuilder<ServerCommandSource> build() {
+        return CommandManager.literal("ward")
+                .then(CommandManager.literal("add")
+                        .then(CommandManager.argument("name", StringArgumentType.word())
+                                .then(CommandManager.argument("from", BlockPosArgumentType.blockPos())
+                                        .then(CommandManager.argument("to", BlockPosArgumentType.blockPos())
+                                                .executes(context -> add(context, false))
+                                                .then(CommandManager.literal("nomagic")
+                                                        .executes(context -> add(context, true)))))))
+                .then(CommandManager.literal("spawns")
+                        .then(CommandManager.argument("name", StringArgumentType.word())
+                                .then(CommandManager.argument("from", BlockPosArgumentType.blockPos())
+                                        .then(CommandManager.argument("to", BlockPosArgumentType.blockPos())
+                                                .then(CommandManager.literal(SpawnModifier.SUPPRESS.getName())
+                                                        .executes(context -> addSpawns(context, SpawnModifier.SUPPRESS)))
+                                                .then(CommandManager.literal(SpawnModifier.BOOST.getName())
+                                                        .executes(context -> addSpawns(context, SpawnModifier.BOOST)))))))
+                .then(CommandManager.literal("remove")
+                        .then(CommandManager.argument("name", StringArgumentType.word())
+                                .suggests((context, builder) -> {
+                                    WardState state = SpellWards.getState(context.getSource().getWorld());
+                                    return CommandSource.suggestMatching(Stream.concat(
+                                            state.getRegions().stream().map(WardRegion::name),
+                                            state.getSpawnWards().stream().map(SpawnWard::name)), builder);
+                                })
+                                .executes(WardCommand::remove)))
+                .then(CommandManager.literal("list").executes(WardCommand::list));
+    }
+
+    private static int add(CommandContext<ServerCommandSource> context, boolean noMagic) throws CommandSyntaxException {
+        ServerCommandSource source = context.getSource();
+        String name = StringArgumentType.getString(context, "name");
+        BlockPos from = BlockPosArgumentType.getBlockPos(context, "from");
+        BlockPos to = BlockPosArgumentType.getBlockPos(context, "to");
+
+        WardRegion region = new WardRegion(name, BlockBox.create(from, to), noMagic);
+        if (region.isTooLarge()) {
+            source.sendError(Text.literal(String.format("Ward '%s' covers %d chunk sections, the limit is %d",
+                    name, region.getSectionCount(), MagicConstants.MAX_WARD_SECTIONS)));
+            return 0;
+        }
+        WardRegion previous = SpellWards.getState(source.getWorld()).putRegion(region);
+
+        source.sendFeedback(() -> Text.literal(String.format("%s ward '%s' from %s to %s%s",
+                previous != null ? "Replaced" : "Added", name,
+                from.toShortString(), to.toShortString(), noMagic ? " (no magic)" : "")), true);
+        return 1;
+    }
+
+    private static int addSpawns(CommandContext<ServerCommandSource> context, SpawnModifier modifier)
+            throws CommandSyntaxException {
+        ServerCommandSource source = context.getSource();
+        String name = StringArgumentType.getString(context, "name");
+        BlockPos from = BlockPosArgumentType.getBlockPos(context, "from");
+        BlockPos to = BlockPosArgumentType.getBlockPos(context, "to");
+
+        SpawnWard ward = new SpawnWard(name, Math.min(from.getX(), to.getX()), Math.min(from.getZ(), to.getZ()),
+                Math.max(from.getX(), to.getX()), Math.max(from.getZ(), to.getZ()), modifier);
+        if (ward.isTooLarge()) {
+            source.sendError(Text.literal(String.format("Spawn ward '%s' covers %d chunks, the limit is %d",
+                    name, ward.getChunkCount(), MagicConstants.MAX_SPAWN_WARD_CHUNKS)));
+            return 0;
+        }
+        SpawnWard previous = SpellWards.getState(source.getWorld()).putSpawnWard(ward);
+
+        source.sendFeedback(() -> Text.literal(String.format("%s %s spawn ward '%s' from %d, %d to %d, %d",
+                previous != null ? "Replaced" : "Added", modifier.getName(), name,
+                ward.minX(), ward.minZ(), ward.maxX(), ward.maxZ())), true);
+        return 1;
+    }
+
+    private static int remove(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        String name = StringArgumentType.getString(context, "name");
+        WardState state = SpellWards.getState(source.getWorld());
+
+        // A region and a spawn ward may share a name; the region is removed first
+        if (state.removeRegion(name) == null && state.removeSpawnWard(name) == null) {
+            source.sendError(Text.literal("No ward named '" + name + "' in this world"));
+            return 0;
+        }
+
+        source.sendFeedback(() -> Text.literal("Removed ward '" + name + "'"), true);
+        return 1;
+    }
+
+    private static int list(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        WardState state = SpellWards.getState(source.getWorld());
+
+        source.sendFeedback(() -> Text.literal(String.format(
+                "Wards: %d regions, %d ward stones, %d sections; %d spawn wards, %d chunks",
+                state.getRegions().size(), state.getWardStoneCount(), state.getIndex().getSectionCount(),
+                state.getSpawnWards().size(), state.getSpawnIndex().getChunkCount()))
+                .formatted(Formatting.GOLD), false);
+        for (WardRegion region : state.getRegions()) {
+            BlockBox box = region.box();
+            source.sendFeedback(() -> Text.literal(String.format("%s: %d, %d, %d to %d, %d, %d%s", region.name(),
+                    box.getMinX(), box.getMinY(), box.getMinZ(), box.getMaxX(), box.getMaxY(), box.getMaxZ(),
+                    region.noMagic() ? " (no magic)" : "")), false);
+        }
+        for (SpawnWard ward : state.getSpawnWards()) {
+            source.sendFeedback(() -> Text.literal(String.format("%s: %d, %d to %d, %d (%s spawns)", ward.name(),
+                    ward.minX(), ward.minZ(), ward.maxX(), ward.maxZ(), ward.modifier().getName())), false);
+        }
+        return state.getRegions().size() + state.getSpawnWards().size();
+    }
+}
@@ -2,6 +2,8 @@ package net.IneiTsuki.regen.datagen.language;
 
 import net.IneiTsuki.regen.block.ModBlocks;
 import net.IneiTsuki.regen.item.ModItems;
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.core.text.SpellMessages;
 import net.IneiTsuki.regen.magic.item.MagicScrollItem;
 import net.IneiTsuki.regen.magic.item.MagicScrollItems;
 import net.fabricmc.fabric.api.datagen.v1.FabricDataOutput;
@@ -28,6 +30,8 @@ public class ModLanguageProvider extends FabricLanguageProvider {
      * @param basicTranslations         Static translations for core items, tooltips, and group names.
      * @param magicTranslations         Translation mappings for magic types (e.g. fire, water).
      * @param clarificationTranslations Translation mappings for clarifications (e.g. control, destruction).
+     * @param messageTranslations       Spell message templates, keyed by the part after {@code message.regen.}.
+     * @param tooltipTranslations       Scroll tooltip lines, keyed by the part after {@link MagicScrollItem#TOOLTIP_KEY_PREFIX}.
      * @param conjunction               The word used to join multiple clarifications (e.g. "and").
      * @param useCompoundWords          Whether to concatenate words (used in German).
      */
@@ -35,6 +39,8 @@ public class ModLanguageProvider extends FabricLanguageProvider {
             Map<String, String> basicTranslations,
             Map<String, String> magicTranslations,
             Map<String, String> clarificationTranslations,
+            Map<String, String> messageTranslations,
+            Map<String, String> tooltipTranslations,
             String conjunction,
             boolean useCompoundWords
     ) {}
@@ -43,6 +49,7 @@ public class ModLanguageProvider extends FabricLanguageProvider {
             "en_us", new LanguageConfig(
                     Map.of(
                             "spell_inscriber", "Spell Inscriber",
+                            "ward_stone", "Ward Stone",
                             "staff_test", "Test Staff",
                             "item_group", "Regen",
                             "staff_tooltip", "Used to focus your magic",
@@ -72,6 +79,63 @@ public class ModLanguageProvider extends FabricLanguageProvider {
                             "little", "Little",
                             "move", "Move"
                     ),
+                    Map.ofEntries(
+                            Map.entry("cast.unstable", "This magical combination is unstable!"),
+                            Map.entry("cast.no_mana", "Not enough mana to cast this spell!"),
+                            Map.entry("cast.insufficient_power", "You lack the power to cast this spell!"),
+                            Map.entry("cast.backfire", "The spell backfires and fizzles out!"),
+                            Map.entry("cast.mana_error", "Mana system error: Cannot find mana component!"),
+                            Map.entry("cast.failed", "Spell casting failed: %s"),
+                            Map.entry("cast.casting", "Casting spell... (%ss)"),
+                            Map.entry("cast.busy", "You are already casting a spell!"),
+                            Map.entry("cast.interrupted", "Your spell was interrupted!"),
+                            Map.entry("cast.delayed", "The flow of magic is strained, your spell is delayed... (%ss)"),
+                            Map.entry("cast.overloaded", "The flow of magic is overwhelmed, try again shortly!"),
+                            Map.entry("cast.warded", "Magic is forbidden here!"),
+                            Map.entry("cast.active", "Spell active for %s seconds"),
+                            Map.entry("cast.success", "Spell cast successfully!"),
+                            Map.entry("cast.generic", "You cast %s %s magic!"),
+                            Map.entry("fire.unleash", "You unleash %s %s fire spell! (%s fires created)"),
+                            Map.entry("fire.fades", "Your fire spell fades away."),
+                            Map.entry("fire.protected", "You feel protected from your own flames!"),
+                            Map.entry("seconds", "%s.%s"),
+                            Map.entry("steam", "You create a cloud of steam!"),
+                            Map.entry("thermal_shock", "You unleash devastating thermal shock!"),
+                            Map.entry("intensity.devastating", "devastating"),
+                            Map.entry("intensity.powerful", "powerful"),
+                            Map.entry("intensity.moderate", "moderate"),
+                            Map.entry("intensity.weak", "weak"),
+                            Map.entry("intensity.feeble", "feeble"),
+                            Map.entry("style.controlled", "controlled"),
+                            Map.entry("style.destructive", "destructive"),
+                            Map.entry("style.constructive", "constructive"),
+                            Map.entry("style.area", "area"),
+                            Map.entry("style.basic", "basic")
+                    ),
+                    Map.ofEntries(
+                            Map.entry("unstable", "⚠ Unstable Combination ⚠"),
+                            Map.entry("unstable.warning", "This scroll may backfire!"),
+                            Map.entry("clarifications", "Clarifications:"),
+                            Map.entry("types", "Magic Types:"),
+                            Map.entry("entry", "• %s"),
+                            Map.entry("cast_time", "Cast Time: %ss"),
+                            Map.entry("cast_time.instant", "Cast Time: Instant"),
+                            Map.entry("duration", "Duration: %ss"),
+                            Map.entry("duration.infinite", "Duration: Infinite"),
+                            Map.entry("timing.variable", "Timing: Variable"),
+                            Map.entry("effect", "Effect: %s"),
+                            Map.entry("use", "Right-click to cast spell"),
+                            Map.entry("mana_cost", "Mana Cost: %s"),
+                            Map.entry("modification.standard", "standard"),
+                            Map.entry("modification.amplified", "amplified"),
+                            Map.entry("modification.weakened", "weakened"),
+                            Map.entry("modification.area_effect", "area effect"),
+                            Map.entry("modification.multi_target", "multi-target"),
+                            Map.entry("modification.precise", "precise"),
+                            Map.entry("modification.mobile", "mobile"),
+                            Map.entry("modification.synergistic", "synergistic"),
+                            Map.entry("modification.conflicted", "conflicted")
+                    ),
                     " and ",
                     false // en_us doesn't use compound words
             ),
@@ -79,6 +143,7 @@ public class ModLanguageProvider extends FabricLanguageProvider {
             "es_es", new LanguageConfig(
                     Map.of(
                             "spell_inscriber", "Inscriptor de Hechizos",
+                            "ward_stone", "Piedra de Guarda",
                             "staff_test", "Bastón de Prueba",
                             "item_group", "Regen",
                             "staff_tooltip", "Usado para enfocar tu magia",
@@ -108,6 +173,63 @@ public class ModLanguageProvider extends FabricLanguageProvider {
                             "little", "Poco",
                             "move", "Mover"
                     ),
+                    Map.ofEntries(
+                            Map.entry("cast.unstable", "¡Esta combinación mágica es inestable!"),
+                            Map.entry("cast.no_mana", "¡No tienes suficiente maná para lanzar este hechizo!"),
+                            Map.entry("cast.insufficient_power", "¡Te falta poder para lanzar este hechizo!"),
+                            Map.entry("cast.backfire", "¡El hechizo sale mal y se desvanece!"),
+                            Map.entry("cast.mana_error", "Error del sistema de maná: ¡no se encontró el componente de maná!"),
+                            Map.entry("cast.failed", "El lanzamiento del hechizo falló: %s"),
+                            Map.entry("cast.casting", "Lanzando hechizo... (%ss)"),
+                            Map.entry("cast.busy", "¡Ya estás lanzando un hechizo!"),
+                            Map.entry("cast.interrupted", "¡Tu hechizo fue interrumpido!"),
+                            Map.entry("cast.delayed", "El flujo de magia está saturado, tu hechizo se retrasa... (%ss)"),
+                            Map.entry("cast.overloaded", "¡El flujo de magia está desbordado, inténtalo de nuevo en un momento!"),
+                            Map.entry("cast.warded", "¡La magia está prohibida aquí!"),
+                            Map.entry("cast.active", "Hechizo activo durante %s segundos"),
+                            Map.entry("cast.success", "¡Hechizo lanzado con éxito!"),
+                            Map.entry("cast.generic", "¡Lanzas magia de %s %s!"),
+                            Map.entry("fire.unleash", "¡Desatas un hechizo de fuego %s y %s! (%s fuegos creados)"),
+                            Map.entry("fire.fades", "Tu hechizo de fuego se desvanece."),
+                            Map.entry("fire.protected", "¡Te sientes protegido de tus propias llamas!"),
+                            Map.entry("seconds", "%s,%s"),
+                            Map.entry("steam", "¡Creas una nube de vapor!"),
+                            Map.entry("thermal_shock", "¡Desatas un devastador choque térmico!"),
+                            Map.entry("intensity.devastating", "devastador"),
+                            Map.entry("intensity.powerful", "poderoso"),
+                            Map.entry("intensity.moderate", "moderado"),
+                            Map.entry("intensity.weak", "débil"),
+                            Map.entry("intensity.feeble", "endeble"),
+                            Map.entry("style.controlled", "controlado"),
+                            Map.entry("style.destructive", "destructivo"),
+                            Map.entry("style.constructive", "constructivo"),
+                            Map.entry("style.area", "de área"),
+                            Map.entry("style.basic", "básico")
+                    ),
+                    Map.ofEntries(
+                            Map.entry("unstable", "⚠ Combinación Inestable ⚠"),
+                            Map.entry("unstable.warning", "¡Este pergamino puede fallar!"),
+                            Map.entry("clarifications", "Clarificaciones:"),
+                            Map.entry("types", "Tipos de Magia:"),
+                            Map.entry("entry", "• %s"),
+                            Map.entry("cast_time", "Tiempo de Lanzamiento: %ss"),
+                            Map.entry("cast_time.instant", "Tiempo de Lanzamiento: Instantáneo"),
+                            Map.entry("duration", "Duración: %ss"),
+                            Map.entry("duration.infinite", "Duración: Infinita"),
+                            Map.entry("timing.variable", "Tiempo: Variable"),
+                            Map.entry("effect", "Efecto: %s"),
+                            Map.entry("use", "Clic derecho para lanzar el hechizo"),
+                            Map.entry("mana_cost", "Coste de Maná: %s"),
+                            Map.entry("modification.standard", "estándar"),
+                            Map.entry("modification.amplified", "amplificado"),
+                            Map.entry("modification.weakened", "debilitado"),
+                            Map.entry("modification.area_effect", "efecto de área"),
+                            Map.entry("modification.multi_target", "multiobjetivo"),
+                            Map.entry("modification.precise", "preciso"),
+                            Map.entry("modification.mobile", "móvil"),
+                            Map.entry("modification.synergistic", "sinérgico"),
+                            Map.entry("modification.conflicted", "en conflicto")
+                    ),
                     " y ",
                     false // Spanish uses conjunctions
             ),
@@ -115,6 +237,7 @@ public class ModLanguageProvider extends FabricLanguageProvider {
             "fr_fr", new LanguageConfig(
                     Map.of(
                             "spell_inscriber", "Inscripteur de Sorts",
+                            "ward_stone", "Pierre de Garde",
                             "staff_test", "Bâton de Test",
                             "item_group", "Regen",
                             "staff_tooltip", "Utilisé pour concentrer votre magie",
@@ -144,6 +267,63 @@ public class ModLanguageProvider extends FabricLanguageProvider {
                             "little", "Peu",
                             "move", "Déplacer"
                     ),
+                    Map.ofEntries(
+                            Map.entry("cast.unstable", "Cette combinaison magique est instable !"),
+                            Map.entry("cast.no_mana", "Pas assez de mana pour lancer ce sort !"),
+                            Map.entry("cast.insufficient_power", "Vous manquez de puissance pour lancer ce sort !"),
+                            Map.entry("cast.backfire", "Le sort se retourne contre vous et s'éteint !"),
+                            Map.entry("cast.mana_error", "Erreur du système de mana : composant de mana introuvable !"),
+                            Map.entry("cast.failed", "Échec du lancement du sort : %s"),
+                            Map.entry("cast.casting", "Incantation... (%ss)"),
+                            Map.entry("cast.busy", "Vous lancez déjà un sort !"),
+                            Map.entry("cast.interrupted", "Votre sort a été interrompu !"),
+                            Map.entry("cast.delayed", "Le flux magique est saturé, votre sort est retardé... (%ss)"),
+                            Map.entry("cast.overloaded", "Le flux magique est submergé, réessayez dans un instant !"),
+                            Map.entry("cast.warded", "La magie est interdite ici !"),
+                            Map.entry("cast.active", "Sort actif pendant %s secondes"),
+                            Map.entry("cast.success", "Sort lancé avec succès !"),
+                            Map.entry("cast.generic", "Vous lancez une magie %s %s !"),
+                            Map.entry("fire.unleash", "Vous déchaînez un sort de feu %s et %s ! (%s feux créés)"),
+                            Map.entry("fire.fades", "Votre sort de feu s'estompe."),
+                            Map.entry("fire.protected", "Vous vous sentez protégé de vos propres flammes !"),
+                            Map.entry("seconds", "%s,%s"),
+                            Map.entry("steam", "Vous créez un nuage de vapeur !"),
+                            Map.entry("thermal_shock", "Vous déchaînez un choc thermique dévastateur !"),
+                            Map.entry("intensity.devastating", "dévastateur"),
+                            Map.entry("intensity.powerful", "puissant"),
+                            Map.entry("intensity.moderate", "modéré"),
+                            Map.entry("intensity.weak", "faible"),
+                            Map.entry("intensity.feeble", "chétif"),
+                            Map.entry("style.controlled", "contrôlé"),
+                            Map.entry("style.destructive", "destructeur"),
+                            Map.entry("style.constructive", "constructif"),
+                            Map.entry("style.area", "de zone"),
+                            Map.entry("style.basic", "basique")
+                    ),
+                    Map.ofEntries(
+                            Map.entry("unstable", "⚠ Combinaison Instable ⚠"),
+                            Map.entry("unstable.warning", "Ce parchemin peut se retourner contre vous !"),
+                            Map.entry("clarifications", "Clarifications :"),
+                            Map.entry("types", "Types de Magie :"),
+                            Map.entry("entry", "• %s"),
+                            Map.entry("cast_time", "Temps d'Incantation : %ss"),
+                            Map.entry("cast_time.instant", "Temps d'Incantation : Instantané"),
+                            Map.entry("duration", "Durée : %ss"),
+                            Map.entry("duration.infinite", "Durée : Infinie"),
+                            Map.entry("timing.variable", "Durée : Variable"),
+                            Map.entry("effect", "Effet : %s"),
+                            Map.entry("use", "Clic droit pour lancer le sort"),
+                            Map.entry("mana_cost", "Coût en Mana : %s"),
+                            Map.entry("modification.standard", "standard"),
+                            Map.entry("modification.amplified", "amplifié"),
+                            Map.entry("modification.weakened", "affaibli"),
+                            Map.entry("modification.area_effect", "effet de zone"),
+                            Map.entry("modification.multi_target", "multicible"),
+                            Map.entry("modification.precise", "précis"),
+                            Map.entry("modification.mobile", "mobile"),
+                            Map.entry("modification.synergistic", "synergique"),
+                            Map.entry("modification.conflicted", "conflictuel")
+                    ),
                     " et ",
                     false // French uses conjunctions
             ),
@@ -151,6 +331,7 @@ public class ModLanguageProvider extends FabricLanguageProvider {
             "de_de", new LanguageConfig(
                     Map.of(
                             "spell_inscriber", "Zaubereinschreiber",
+                            "ward_stone", "Schutzstein",
                             "staff_test", "Teststab",
                             "item_group", "Regen",
                             "staff_tooltip", "Wird verwendet, um deine Magie zu fokussieren",
@@ -180,6 +361,63 @@ public class ModLanguageProvider extends FabricLanguageProvider {
                             "little", "wenig",
                             "move", "bewegen"
                     ),
+                    Map.ofEntries(
+                            Map.entry("cast.unstable", "Diese magische Kombination ist instabil!"),
+                            Map.entry("cast.no_mana", "Nicht genug Mana, um diesen Zauber zu wirken!"),
+                            Map.entry("cast.insufficient_power", "Dir fehlt die Kraft, um diesen Zauber zu wirken!"),
+                            Map.entry("cast.backfire", "Der Zauber schlägt fehl und verpufft!"),
+                            Map.entry("cast.mana_error", "Mana-Systemfehler: Mana-Komponente nicht gefunden!"),
+                            Map.entry("cast.failed", "Zaubern fehlgeschlagen: %s"),
+                            Map.entry("cast.casting", "Zauber wird gewirkt... (%ss)"),
+                            Map.entry("cast.busy", "Du wirkst bereits einen Zauber!"),
+                            Map.entry("cast.interrupted", "Dein Zauber wurde unterbrochen!"),
+                            Map.entry("cast.delayed", "Der Magiefluss ist überlastet, dein Zauber verzögert sich... (%ss)"),
+                            Map.entry("cast.overloaded", "Der Magiefluss ist überwältigt, versuche es gleich noch einmal!"),
+                            Map.entry("cast.warded", "Magie ist hier verboten!"),
+                            Map.entry("cast.active", "Zauber aktiv für %s Sekunden"),
+                            Map.entry("cast.success", "Zauber erfolgreich gewirkt!"),
+                            Map.entry("cast.generic", "Du wirkst %s-%s-Magie!"),
+                            Map.entry("fire.unleash", "Du entfesselst einen %s, %s Feuerzauber! (%s Feuer entzündet)"),
+                            Map.entry("fire.fades", "Dein Feuerzauber verblasst."),
+                            Map.entry("fire.protected", "Du fühlst dich vor deinen eigenen Flammen geschützt!"),
+                            Map.entry("seconds", "%s,%s"),
+                            Map.entry("steam", "Du erschaffst eine Dampfwolke!"),
+                            Map.entry("thermal_shock", "Du entfesselst einen verheerenden Thermoschock!"),
+                            Map.entry("intensity.devastating", "verheerenden"),
+                            Map.entry("intensity.powerful", "mächtigen"),
+                            Map.entry("intensity.moderate", "mäßigen"),
+                            Map.entry("intensity.weak", "schwachen"),
+                            Map.entry("intensity.feeble", "kümmerlichen"),
+                            Map.entry("style.controlled", "kontrollierten"),
+                            Map.entry("style.destructive", "zerstörerischen"),
+                            Map.entry("style.constructive", "konstruktiven"),
+                            Map.entry("style.area", "flächigen"),
+                            Map.entry("style.basic", "einfachen")
+                    ),
+                    Map.ofEntries(
+                            Map.entry("unstable", "⚠ Instabile Kombination ⚠"),
+                            Map.entry("unstable.warning", "Diese Schriftrolle kann fehlschlagen!"),
+                            Map.entry("clarifications", "Klarstellungen:"),
+                            Map.entry("types", "Magiearten:"),
+                            Map.entry("entry", "• %s"),
+                            Map.entry("cast_time", "Wirkzeit: %ss"),
+                            Map.entry("cast_time.instant", "Wirkzeit: Sofort"),
+                            Map.entry("duration", "Dauer: %ss"),
+                            Map.entry("duration.infinite", "Dauer: Unbegrenzt"),
+                            Map.entry("timing.variable", "Zeit: Variabel"),
+                            Map.entry("effect", "Effekt: %s"),
+                            Map.entry("use", "Rechtsklick, um den Zauber zu wirken"),
+                            Map.entry("mana_cost", "Manakosten: %s"),
+                            Map.entry("modification.standard", "normal"),
+                            Map.entry("modification.amplified", "verstärkt"),
+                            Map.entry("modification.weakened", "geschwächt"),
+                            Map.entry("modification.area_effect", "Flächeneffekt"),
+                            Map.entry("modification.multi_target", "Mehrfachziel"),
+                            Map.entry("modification.precise", "präzise"),
+                            Map.entry("modification.mobile", "beweglich"),
+                            Map.entry("modification.synergistic", "synergetisch"),
+                            Map.entry("modification.conflicted", "widersprüchlich")
+                    ),
                     "",
                     true // German uses compound words
             )
@@ -216,6 +454,8 @@ public class ModLanguageProvider extends FabricLanguageProvider {
         addBasicTranslations(translationBuilder, config.basicTranslations());
         addScrollTranslations(translationBuilder, config);
         addUITranslations(translationBuilder, config.basicTranslations());
+        addTooltipTranslations(translationBuilder, config.tooltipTranslations());
+        addMessageTranslations(translationBuilder, config);
     }
 
     /**
@@ -223,6 +463,7 @@ public class ModLanguageProvider extends FabricLanguageProvider {
      */
     private void addBasicTranslations(TranslationBuilder builder, Map<String, String> translations) {
         builder.add(ModBlocks.SPELL_INSCRIBER_BLOCK, translations.get("spell_inscriber"));
+        builder.add(ModBlocks.WARD_STONE, translations.get("ward_stone"));
         builder.add(ModItems.STAFF_TEST, translations.get("staff_test"));
     }
 
@@ -244,6 +485,32 @@ public class ModLanguageProvider extends FabricLanguageProvider {
         builder.add("tooltip.regen.staff_test", translations.get("staff_tooltip"));
     }
 
+    /**
+     * Adds the lines of magic scroll tooltips.
+     */
+    private void addTooltipTranslations(TranslationBuilder builder, Map<String, String> translations) {
+        translations.forEach((key, value) -> builder.add(MagicScrollItem.TOOLTIP_KEY_PREFIX + key, value));
+    }
+
+    /**
+     * Adds spell message templates and the clarification and type names used as their arguments.
+     */
+    private void addMessageTranslations(TranslationBuilder builder, LanguageConfig config) {
+        config.messageTranslations().forEach((key, value) -> builder.add("message.regen." + key, value));
+
+        for (MagicEnums.Clarification clarification : MagicEnums.Clarification.values()) {
+            String name = clarification.getName();
+            builder.add(SpellMessages.CLARIFICATION_KEY_PREFIX + name,
+                    capitalize(config.clarificationTranslations().getOrDefault(name, name)));
+        }
+
+        for (MagicEnums.MagicType type : MagicEnums.MagicType.values()) {
+            String name = type.getName();
+            builder.add(SpellMessages.TYPE_KEY_PREFIX + name,
+                    capitalize(config.magicTranslations().getOrDefault(name, name)));
+        }
+    }
+
     /**
      * Generates the final localized scroll name using type and clarification(s).
      */
@@ -34,5 +34,6 @@ public class ModLootTableProvider extends FabricBlockLootTableProvider {
     public void generate() {
         // Make the Spell Inscriber block drop itself when broken
         addDrop(ModBlocks.SPELL_INSCRIBER_BLOCK);
+        addDrop(ModBlocks.WARD_STONE);
     }
 }
@@ -41,5 +41,8 @@ public class ModBlockTagProvider extends FabricTagProvider.BlockTagProvider {
         // Add the Spell Inscriber block to the "mineable/axe" tag
         getOrCreateTagBuilder(BlockTags.AXE_MINEABLE)
                 .add(ModBlocks.SPELL_INSCRIBER_BLOCK);
+
+        getOrCreateTagBuilder(BlockTags.PICKAXE_MINEABLE)
+                .add(ModBlocks.WARD_STONE);
     }
 }
@@ -0,0 +1,40 @@
+package net.IneiTsuki.regen.entity;
+
+import net.IneiTsuki.regen.Regen;
+import net.IneiTsuki.regen.entity.custom.SpellProjectileEntity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.SpawnGroup;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.Registry;
+
+/**
+ * Holds and registers custom {@link EntityType} instances for the mod.
+ */
+public class ModEntities {
+
+    /**
+     * Spell projectiles launched by MOVE scrolls. Not saved with the world and not summonable.
+     */
+    public static EntityType<SpellProjectileEntity> SPELL_PROJECTILE;
+
+    /**
+     * Registers all mod entity types with the game's registry.
+     *
+     * <p>Call this method during mod initialization to ensure entities are available in-game.
+     */
+    public static void registerAll() {
+        SPELL_PROJECTILE = Registry.register(
+                Registries.ENTITY_TYPE,
+                Regen.id("spell_projectile"),
+                EntityType.Builder.<SpellProjectileEntity>create(SpellProjectileEntity::new, SpawnGroup.MISC)
+                        .dimensions(0.25F, 0.25F)
+                        .maxTrackingRange(8)
+                        .trackingTickInterval(5)
+                        .alwaysUpdateVelocity(true)
+                        .disableSaving()
+                        .disableSummon()
+                        .makeFireImmune()
+                        .build("spell_projectile")
+        );
+    }
+}
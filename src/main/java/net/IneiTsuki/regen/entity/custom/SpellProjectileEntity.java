@@ -0,0 +1,135 @@
+package net.IneiTsuki.regen.entity.custom;
+
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.projectile.SpellProjectileImpact;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.data.DataTracker;
+import net.minecraft.entity.data.TrackedData;
+import net.minecraft.entity.data.TrackedDataHandlerRegistry;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A spell in flight.
+ *
+ * <p>The entity is deliberately thin: it exists so vanilla tracks and syncs it to
+ * clients, but its own {@link #tick()} does nothing on the server. Movement,
+ * collision and impact are handled by
+ * {@link net.IneiTsuki.regen.magic.projectile.SpellProjectiles}, which ticks
+ * projectiles grouped per chunk. Clients only extrapolate along the synced
+ * velocity between position updates. Never saved with the world.
+ */
+public class SpellProjectileEntity extends Entity {
+
+    private static final TrackedData<Integer> COLOR =
+            DataTracker.registerData(SpellProjectileEntity.class, TrackedDataHandlerRegistry.INTEGER);
+
+    // Server side
+    @Nullable
+    private PlayerEntity owner;
+    @Nullable
+    private MagicEnums.MagicType element;
+    private float strength;
+    private int ticksLeft;
+    @Nullable
+    private SpellProjectileImpact impact;
+
+    // Client side
+    private long lastTrailTime = Long.MIN_VALUE;
+
+    public SpellProjectileEntity(EntityType<? extends SpellProjectileEntity> type, World world) {
+        super(type, world);
+        this.noClip = true;
+    }
+
+    /**
+     * Sets up a freshly created projectile before it is spawned.
+     */
+    public void launch(PlayerEntity owner, @Nullable MagicEnums.MagicType element, float strength,
+                       Vec3d position, Vec3d velocity, int lifetimeTicks, SpellProjectileImpact impact) {
+        this.owner = owner;
+        this.element = element;
+        this.strength = strength;
+        this.ticksLeft = lifetimeTicks;
+        this.impact = impact;
+        this.dataTracker.set(COLOR, element != null ? 0xFF000000 | element.getColor() : 0xFFFFFFFF);
+        setPosition(position);
+        setVelocity(velocity);
+    }
+
+    @Override
+    protected void initDataTracker(DataTracker.Builder builder) {
+        builder.add(COLOR, 0xFFFFFFFF);
+    }
+
+    @Override
+    public void tick() {
+        if (getWorld().isClient()) {
+            // Position updates arrive every few ticks, move along the synced velocity in between
+            Vec3d velocity = getVelocity();
+            setPosition(getX() + velocity.x, getY() + velocity.y, getZ() + velocity.z);
+        }
+    }
+
+    /**
+     * Counts down the remaining flight time.
+     *
+     * @return true while the projectile may keep flying
+     */
+    public boolean consumeTick() {
+        return --ticksLeft > 0;
+    }
+
+    @Nullable
+    public PlayerEntity getOwner() {
+        return owner;
+    }
+
+    @Nullable
+    public MagicEnums.MagicType getElement() {
+        return element;
+    }
+
+    public float getStrength() {
+        return strength;
+    }
+
+    @Nullable
+    public SpellProjectileImpact getImpact() {
+        return impact;
+    }
+
+    /**
+     * Gets the trail color, as opaque ARGB.
+     */
+    public int getColor() {
+        return dataTracker.get(COLOR);
+    }
+
+    public long getLastTrailTime() {
+        return lastTrailTime;
+    }
+
+    public void setLastTrailTime(long lastTrailTime) {
+        this.lastTrailTime = lastTrailTime;
+    }
+
+    @Override
+    public boolean shouldSave() {
+        return false;
+    }
+
+    @Override
+    protected void readCustomDataFromNbt(NbtCompound nbt) {
+        // Never saved
+    }
+
+    @Override
+    protected void writeCustomDataToNbt(NbtCompound nbt) {
+        // Never saved
+    }
+}
@@ -88,6 +88,18 @@ public interface MagicEffect {
         return 0; // Default = instant
     }
 
+    /**
+     * Gets the effect that the active spell of the cast that was just applied ticks
+     * and ends. Called right after a successful {@link #apply}, before anything else
+     * is cast. Effects that keep state for each cast return a new effect holding
+     * that cast's state; by default all active spells share this effect.
+     *
+     * @return The effect for the active spell of the last applied cast
+     */
+    default MagicEffect forActiveSpell() {
+        return this;
+    }
+
     /**
      * Gets the mana cost for casting this effect.
      * Override to provide custom mana cost calculations.
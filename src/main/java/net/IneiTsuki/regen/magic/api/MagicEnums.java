@@ -56,11 +56,13 @@ public class MagicEnums {
         private final String name;
         private final int color;
         private final Priority priority;
+        private final String formattedName;
 
         Clarification(String name, int color, Priority priority) {
             this.name = name;
             this.color = color;
             this.priority = priority;
+            this.formattedName = formatName(name);
         }
 
         public String getName() {
@@ -76,9 +78,7 @@ public class MagicEnums {
         }
 
         public String getFormattedName() {
-            return Arrays.stream(name.split("_"))
-                    .map(word -> word.substring(0, 1).toUpperCase() + word.substring(1))
-                    .collect(Collectors.joining(" "));
+            return formattedName;
         }
 
         /**
@@ -141,11 +141,13 @@ public class MagicEnums {
         private final String name;
         private final int color;
         private final ElementGroup group;
+        private final String formattedName;
 
         MagicType(String name, int color, ElementGroup group) {
             this.name = name;
             this.color = color;
             this.group = group;
+            this.formattedName = formatName(name);
         }
 
         public String getName() {
@@ -161,9 +163,7 @@ public class MagicEnums {
         }
 
         public String getFormattedName() {
-            return Arrays.stream(name.split("_"))
-                    .map(word -> word.substring(0, 1).toUpperCase() + word.substring(1))
-                    .collect(Collectors.joining(" "));
+            return formattedName;
         }
 
         /**
@@ -237,4 +237,14 @@ public class MagicEnums {
         /** Elements have no special interaction */
         NEUTRAL
     }
-}
\ No newline at end of file
+
+    /**
+     * Turns an enum name such as "some_name" into "Some Name".
+     * Called once per constant so lookups do not split and join strings.
+     */
+    private static String formatName(String name) {
+        return Arrays.stream(name.split("_"))
+                .map(word -> word.substring(0, 1).toUpperCase() + word.substring(1))
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,80 @@
+package net.IneiTsuki.regen.magic.components;
+
+import net.IneiTsuki.regen.magic.item.MagicScrollItem;
+import net.minecraft.server.world.ServerWorld;
+import org.jetbrains.annotations.Nullable;
+import org.ladysnake.cca.api.v3.component.Component;
+
+/**
+ * The spell a player is currently casting, if any.
+ *
+ * <p>A player casts at most one spell at a time. The cast remembers which scroll
+ * and inventory slot it came from and resolves against whatever is in that slot
+ * when the cast time is up, so swapping items, moving or taking damage can
+ * interrupt it according to its {@link InterruptPolicy}. Casts are advanced by
+ * {@code CastingSystem} in one pass per world and are never persisted.
+ */
+public interface CastingComponent extends Component {
+
+    /**
+     * What interrupts a cast besides leaving the scroll's slot, dying or changing worlds.
+     */
+    enum InterruptPolicy {
+        /** Nothing else interrupts the cast. */
+        NONE(false, false),
+        /** Taking damage interrupts the cast. */
+        ON_DAMAGE(false, true),
+        /** Moving away from the start position or taking damage interrupts the cast. */
+        ON_MOVE_OR_DAMAGE(true, true);
+
+        private final boolean interruptedByMovement;
+        private final boolean interruptedByDamage;
+
+        InterruptPolicy(boolean interruptedByMovement, boolean interruptedByDamage) {
+            this.interruptedByMovement = interruptedByMovement;
+            this.interruptedByDamage = interruptedByDamage;
+        }
+
+        public boolean isInterruptedByMovement() {
+            return interruptedByMovement;
+        }
+
+        public boolean isInterruptedByDamage() {
+            return interruptedByDamage;
+        }
+    }
+
+    boolean isCasting();
+
+    /**
+     * Gets the scroll being cast.
+     *
+     * @return the scroll, or null when not casting
+     */
+    @Nullable
+    MagicScrollItem getSpell();
+
+    /**
+     * Starts a cast. Any cast already in progress is replaced without notice;
+     * callers should check {@link #isCasting()} first.
+     *
+     * @param spell the scroll being cast
+     * @param slot inventory slot holding the scroll
+     * @param manaCost mana to consume when the cast resolves
+     * @param castTicks ticks until the cast resolves
+     * @param policy what interrupts the cast
+     */
+    void begin(MagicScrollItem spell, int slot, int manaCost, int castTicks, InterruptPolicy policy);
+
+    /**
+     * Advances the cast by one tick, interrupting or resolving it when due.
+     *
+     * @param world the world the player is in
+     */
+    void tick(ServerWorld world);
+
+    /**
+     * Interrupts the cast in progress, if any, and tells the player.
+     */
+    void interrupt();
+}
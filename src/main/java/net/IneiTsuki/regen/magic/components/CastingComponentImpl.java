@@ -0,0 +1,138 @@
+package net.IneiTsuki.regen.magic.components;
+
+import net.IneiTsuki.regen.magic.item.MagicScrollItem;
+import net.IneiTsuki.regen.magic.network.CastProgressPayload;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+public class CastingComponentImpl implements CastingComponent {
+
+    /** Moving further than this (squared, in blocks) from the start interrupts movement-sensitive casts. */
+    private static final double MAX_MOVE_DISTANCE_SQUARED = 0.5 * 0.5;
+
+    private final PlayerEntity player;
+
+    // Cast state, plain fields so advancing a cast allocates nothing
+    @Nullable
+    private MagicScrollItem spell;
+    private int slot;
+    private int manaCost;
+    private int castTicks;
+    private long startTick;
+    private InterruptPolicy policy = InterruptPolicy.NONE;
+    @Nullable
+    private RegistryKey<World> castWorld;
+    private double startX;
+    private double startY;
+    private double startZ;
+    private float lastHealth;
+
+    public CastingComponentImpl(PlayerEntity player) {
+        this.player = player;
+    }
+
+    @Override
+    public boolean isCasting() {
+        return spell != null;
+    }
+
+    @Override
+    @Nullable
+    public MagicScrollItem getSpell() {
+        return spell;
+    }
+
+    @Override
+    public void begin(MagicScrollItem spell, int slot, int manaCost, int castTicks, InterruptPolicy policy) {
+        this.spell = spell;
+        this.slot = slot;
+        this.manaCost = manaCost;
+        this.castTicks = castTicks;
+        this.policy = policy;
+        this.startTick = player.getWorld().getTime();
+        this.castWorld = player.getWorld().getRegistryKey();
+        this.startX = player.getX();
+        this.startY = player.getY();
+        this.startZ = player.getZ();
+        this.lastHealth = player.getHealth();
+
+        CastProgressPayload.send(player, castTicks);
+    }
+
+    @Override
+    public void tick(ServerWorld world) {
+        MagicScrollItem casting = spell;
+        if (casting == null) {
+            return;
+        }
+
+        if (shouldInterrupt(world, casting)) {
+            interrupt();
+            return;
+        }
+        lastHealth = player.getHealth();
+
+        if (world.getTime() - startTick >= castTicks) {
+            ItemStack stack = player.getInventory().getStack(slot);
+            int cost = manaCost;
+            int delay = castTicks;
+            clear();
+            casting.resolveCast(world, player, stack, cost, delay);
+        }
+    }
+
+    @Override
+    public void interrupt() {
+        MagicScrollItem casting = spell;
+        if (casting == null) {
+            return;
+        }
+
+        clear();
+        CastProgressPayload.send(player, 0);
+        casting.onCastInterrupted(player.getWorld(), player);
+    }
+
+    private boolean shouldInterrupt(ServerWorld world, MagicScrollItem casting) {
+        if (!player.isAlive() || player.isRemoved() || world.getRegistryKey() != castWorld) {
+            return true;
+        }
+
+        // The scroll must still be in its slot, and still in hand if it was cast from the hotbar
+        PlayerInventory inventory = player.getInventory();
+        if (slot != PlayerInventory.OFF_HAND_SLOT && inventory.selectedSlot != slot) {
+            return true;
+        }
+        if (!inventory.getStack(slot).isOf(casting)) {
+            return true;
+        }
+
+        if (policy.isInterruptedByMovement()
+                && player.squaredDistanceTo(startX, startY, startZ) > MAX_MOVE_DISTANCE_SQUARED) {
+            return true;
+        }
+        return policy.isInterruptedByDamage() && player.getHealth() < lastHealth;
+    }
+
+    private void clear() {
+        spell = null;
+        castWorld = null;
+    }
+
+    @Override
+    public void readFromNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        // Casts are transient
+    }
+
+    @Override
+    public void writeToNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        // Casts are transient
+    }
+}
@@ -11,4 +11,29 @@ public interface ManaComponent extends AutoSyncedComponent {
     void consumeMana(int amount);
     boolean hasEnoughMana(int amount);
     void syncToClient();
+
+    /**
+     * Takes tokens from the player's cast rate limit bucket. The bucket refills
+     * continuously up to {@code MagicConstants.CAST_TOKEN_CAPACITY}.
+     *
+     * @param cost tokens the cast needs, usually the spell's cast weight
+     * @param worldTime current world time, used to refill the bucket
+     * @return true if the tokens were taken
+     */
+    boolean tryTakeCastTokens(int cost, long worldTime);
+
+    /**
+     * Gets how long the player has to wait until the bucket holds {@code cost} tokens.
+     *
+     * @param cost tokens the cast needs
+     * @param worldTime current world time
+     * @return ticks to wait, 0 if the cast is affordable now
+     */
+    int getCastTokenWaitTicks(int cost, long worldTime);
+
+    /**
+     * Fills the player's cast rate limit bucket. Used by load tests that cast
+     * more often than the limit allows.
+     */
+    void fillCastTokens();
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package net.IneiTsuki.regen.magic.components;
 
+import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
+import net.IneiTsuki.regen.magic.core.metrics.ModMetrics;
+import net.IneiTsuki.regen.magic.core.profiling.SpellProfiler;
+import net.IneiTsuki.regen.magic.core.profiling.jfr.ManaSyncJfrEvent;
 import net.IneiTsuki.regen.magic.core.scheduler.TickScheduler;
 import net.IneiTsuki.regen.magic.item.ManaRegenTask;
 import net.IneiTsuki.regen.magic.network.ManaSyncPacket;
@@ -15,6 +19,10 @@ public class ManaComponentImpl implements ManaComponent {
 
     private boolean isRegenerating = false;
 
+    // Cast rate limit bucket, kept as plain fields: checked on every cast attempt
+    private double castTokens = MagicConstants.CAST_TOKEN_CAPACITY;
+    private long castTokensTime = Long.MIN_VALUE;
+
     public ManaComponentImpl(PlayerEntity player) {
         this.player = player;
     }
@@ -57,6 +65,7 @@ public class ManaComponentImpl implements ManaComponent {
     public void consumeMana(int amount) {
         if (hasEnoughMana(amount)) {
             setMana(this.mana - amount);
+            ModMetrics.MANA_CONSUMED.add(amount);
 
             // ✅ Start regen loop only if not already running
             if (this.mana < this.maxMana && !isRegenerating) {
@@ -75,7 +84,55 @@ public class ManaComponentImpl implements ManaComponent {
     public void syncToClient() {
         if (player.getWorld().isClient) return;
         if (!(player instanceof ServerPlayerEntity serverPlayer)) return;
+
+        long start = SpellProfiler.begin();
         ManaSyncPacket.sendToClient(serverPlayer, mana, maxMana);
+        SpellProfiler.end(SpellProfiler.Section.MANA_SYNC, start);
+
+        ManaSyncJfrEvent jfrEvent = new ManaSyncJfrEvent();
+        if (jfrEvent.isEnabled() && jfrEvent.shouldCommit()) {
+            jfrEvent.player = serverPlayer.getUuidAsString();
+            jfrEvent.mana = mana;
+            jfrEvent.maxMana = maxMana;
+            jfrEvent.commit();
+        }
+    }
+
+    @Override
+    public boolean tryTakeCastTokens(int cost, long worldTime) {
+        refillCastTokens(worldTime);
+
+        int clampedCost = Math.min(cost, MagicConstants.CAST_TOKEN_CAPACITY);
+        if (castTokens < clampedCost) {
+            return false;
+        }
+        castTokens -= clampedCost;
+        return true;
+    }
+
+    @Override
+    public int getCastTokenWaitTicks(int cost, long worldTime) {
+        refillCastTokens(worldTime);
+
+        double missing = Math.min(cost, MagicConstants.CAST_TOKEN_CAPACITY) - castTokens;
+        return missing <= 0 ? 0 : (int) Math.ceil(missing / MagicConstants.CAST_TOKENS_PER_TICK);
+    }
+
+    @Override
+    public void fillCastTokens() {
+        castTokens = MagicConstants.CAST_TOKEN_CAPACITY;
+    }
+
+    private void refillCastTokens(long worldTime) {
+        // First use, or a clock that went backwards: start full. The game time only moves
+        // forward (/time set changes the time of day), so the second case is only a safeguard
+        if (castTokensTime == Long.MIN_VALUE || worldTime < castTokensTime) {
+            castTokens = MagicConstants.CAST_TOKEN_CAPACITY;
+        } else {
+            castTokens = Math.min(MagicConstants.CAST_TOKEN_CAPACITY,
+                    castTokens + (worldTime - castTokensTime) * MagicConstants.CAST_TOKENS_PER_TICK);
+        }
+        castTokensTime = worldTime;
     }
 
     @Override
@@ -13,8 +13,14 @@ public class ModComponents implements EntityComponentInitializer {
             ManaComponent.class
     );
 
+    public static final ComponentKey<CastingComponent> CASTING = ComponentRegistry.getOrCreate(
+            Identifier.of("regen", "casting"),
+            CastingComponent.class
+    );
+
     @Override
     public void registerEntityComponentFactories(EntityComponentFactoryRegistry registry) {
         registry.registerForPlayers(MANA, ManaComponentImpl::new, RespawnCopyStrategy.ALWAYS_COPY);
+        registry.registerForPlayers(CASTING, CastingComponentImpl::new, RespawnCopyStrategy.NEVER_COPY);
     }
 }
@@ -0,0 +1,35 @@
+package net.IneiTsuki.regen.magic.core.casting;
+
+import net.IneiTsuki.regen.magic.components.CastingComponent;
+import net.IneiTsuki.regen.magic.components.ModComponents;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.List;
+
+/**
+ * Advances every player's {@link CastingComponent} once per world tick.
+ *
+ * <p>The pass walks the world's own player list by index and only touches
+ * players that are casting, so it allocates nothing. Players that log out are
+ * simply no longer in the list, and their cast goes away with their component.
+ */
+public final class CastingSystem {
+
+    private CastingSystem() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Advances the casts of all players in the world. Called at the end of every world tick.
+     */
+    public static void tick(ServerWorld world) {
+        List<ServerPlayerEntity> players = world.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            CastingComponent casting = ModComponents.CASTING.get(players.get(i));
+            if (casting.isCasting()) {
+                casting.tick(world);
+            }
+        }
+    }
+}
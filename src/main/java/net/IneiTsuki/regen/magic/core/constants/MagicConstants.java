@@ -21,6 +21,42 @@ public final class MagicConstants {
     public static final int FIRE_DESTRUCTION_DAMAGE_RADIUS = 1;
     public static final int FIRE_EFFECT_DURATION_TICKS = 200;
 
+    // Spell Projectile Constants
+    public static final double PROJECTILE_SPEED = 1.5;           // blocks per tick
+    public static final int PROJECTILE_LIFETIME_TICKS = 100;     // 150 blocks of range
+    public static final double PROJECTILE_HIT_RADIUS = 0.3;
+    public static final float PROJECTILE_HIT_DAMAGE = 4.0F;
+    public static final int MAX_PATH_CHUNK_TICKETS = 24;         // chunks preloaded ahead of one projectile
+
+    // Spell Field Constants
+    public static final double STEAM_FIELD_RADIUS = 4.0;
+    public static final int STEAM_FIELD_DURATION_TICKS = 200;
+    public static final float STEAM_FIELD_DAMAGE = 1.0F;
+    public static final double THERMAL_SHOCK_FIELD_RADIUS = 3.0;
+    public static final int THERMAL_SHOCK_FIELD_DURATION_TICKS = 100;
+    public static final float THERMAL_SHOCK_FIELD_DAMAGE = 2.0F;
+    public static final double FIELD_CAST_RANGE = 8.0;          // blocks in front of the caster
+
+    // Light Spell Constants
+    public static final int LIGHT_BASE_RADIUS = 8;
+    public static final int LIGHT_SOURCE_SPACING = 8;           // blocks between light sources, keeps every block lit
+    public static final int LIGHT_SOURCE_LEVEL = 15;
+    public static final int LIGHT_MAX_SOURCES = 64;
+    public static final int LIGHT_EFFECT_DURATION_TICKS = 1200;
+
+    // Growth Spell Constants
+    public static final int GROWTH_BASE_RADIUS = 4;
+    public static final int GROWTH_PERIOD_TICKS = 5;
+    public static final int GROWTH_TICKS_PER_PULSE = 32;        // extra random ticks per pulse, before load scaling
+    public static final int GROWTH_EFFECT_DURATION_TICKS = 600;
+    public static final int GROWTH_TREE_RADIUS = 8;             // blocks a tree may reach sideways from its sapling
+    public static final int GROWTH_TREE_HEIGHT = 32;            // blocks a tree may reach above its sapling
+
+    // Ward Constants
+    public static final int WARD_STONE_RADIUS = 8;              // blocks protected around a ward stone
+    public static final long MAX_WARD_SECTIONS = 32_768;        // chunk sections one ward region may cover
+    public static final long MAX_SPAWN_WARD_CHUNKS = 16_384;    // chunks one spawn ward may cover
+
     // Sound Configuration
     public static final float DEFAULT_SOUND_VOLUME = 1.0F;
     public static final float DEFAULT_SOUND_PITCH = 1.0F;
@@ -35,14 +71,7 @@ public final class MagicConstants {
     public static final double OPPOSE_MULTIPLIER = 0.5;
     public static final double NEUTRAL_MULTIPLIER = 1.0;
 
-    // Error Messages
-    public static final String ERROR_SPELL_BACKFIRE = "The spell backfires and fizzles out!";
-    public static final String ERROR_INVALID_COMBINATION = "This magical combination is unstable!";
-    public static final String ERROR_INSUFFICIENT_POWER = "You lack the power to cast this spell!";
-
-    // Success Messages
-    public static final String SUCCESS_FIRE_SPELL = "You unleash a fiery spell!";
-    public static final String SUCCESS_SCROLL_CAST = "You cast %s %s magic!";
+    // Player-facing messages are translation keys, see SpellMessages
 
     // Casting Timing Configuration
     public static final int BASE_CASTING_DELAY_TICKS = 20; // 1-second base delay
@@ -58,6 +87,10 @@ public final class MagicConstants {
 
     public static final int DEFAULT_MANA_COST = 10;
 
+    // Cast Rate Limiting (token bucket per player, costs are spell cast weights)
+    public static final int CAST_TOKEN_CAPACITY = 24;     // burst: two of the heaviest spells
+    public static final double CAST_TOKENS_PER_TICK = 0.4; // 8 tokens per second
+
 
 
     private MagicConstants() {
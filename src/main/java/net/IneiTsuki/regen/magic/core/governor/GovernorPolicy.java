@@ -0,0 +1,71 @@
+package net.IneiTsuki.regen.magic.core.governor;
+
+/**
+ * Thresholds used by {@link SpellLoadGovernor}.
+ *
+ * <p>Read from system properties at startup:
+ * <ul>
+ *   <li>{@code regen.governor.enabled}: set to {@code false} to turn the governor off.</li>
+ *   <li>{@code regen.governor.scaleStartMspt}: average tick time at which per-cast
+ *       radii and block budgets start shrinking, default 30.</li>
+ *   <li>{@code regen.governor.delayMspt}: tick time from which low-priority casts
+ *       are pushed into later ticks, default 40.</li>
+ *   <li>{@code regen.governor.rejectMspt}: tick time from which every cast is
+ *       rejected, default 48.</li>
+ *   <li>{@code regen.governor.minScale}: smallest budget scale, reached at
+ *       {@code rejectMspt}, default 0.25.</li>
+ *   <li>{@code regen.governor.lowPriorityWeight}: casts at or above this weight are
+ *       low priority, default 4. See {@code MagicInteractionRules.calculateCastWeight}.</li>
+ *   <li>{@code regen.governor.delayTicks}: minimum extra delay of a deferred cast, default 20.</li>
+ *   <li>{@code regen.governor.delaySpreadTicks}: deferred casts are spread over this
+ *       many ticks after the minimum delay, default 40.</li>
+ * </ul>
+ */
+public record GovernorPolicy(boolean enabled,
+                             double scaleStartMspt,
+                             double delayMspt,
+                             double rejectMspt,
+                             double minScale,
+                             int lowPriorityWeight,
+                             int delayTicks,
+                             int delaySpreadTicks) {
+
+    public GovernorPolicy {
+        if (!(scaleStartMspt <= delayMspt && delayMspt <= rejectMspt)) {
+            throw new IllegalArgumentException("Governor thresholds must satisfy scaleStart <= delay <= reject");
+        }
+        if (minScale <= 0.0 || minScale > 1.0) {
+            throw new IllegalArgumentException("Governor minScale must be in (0, 1]");
+        }
+        if (delayTicks < 0 || delaySpreadTicks < 1) {
+            throw new IllegalArgumentException("Governor delays cannot be negative");
+        }
+    }
+
+    /**
+     * Reads the policy from {@code regen.governor.*} system properties.
+     */
+    public static GovernorPolicy fromSystemProperties() {
+        return new GovernorPolicy(
+                !"false".equalsIgnoreCase(System.getProperty("regen.governor.enabled")),
+                getDouble("regen.governor.scaleStartMspt", 30.0),
+                getDouble("regen.governor.delayMspt", 40.0),
+                getDouble("regen.governor.rejectMspt", 48.0),
+                getDouble("regen.governor.minScale", 0.25),
+                Integer.getInteger("regen.governor.lowPriorityWeight", 4),
+                Integer.getInteger("regen.governor.delayTicks", 20),
+                Integer.getInteger("regen.governor.delaySpreadTicks", 40));
+    }
+
+    private static double getDouble(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + key + ": " + value, e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package net.IneiTsuki.regen.magic.core.governor;
+
+import net.IneiTsuki.regen.Regen;
+import net.IneiTsuki.regen.magic.core.metrics.ModMetrics;
+import net.minecraft.server.MinecraftServer;
+
+import java.util.Objects;
+
+/**
+ * Server-wide spell load governor driven by the rolling average tick time.
+ *
+ * <p>As the average tick time climbs past {@link GovernorPolicy#scaleStartMspt()},
+ * effects get a shrinking budget scale for their radii and block counts. From
+ * {@link GovernorPolicy#delayMspt()} low-priority (heavy) casts are pushed into
+ * later ticks, spread out so they do not all land together, and from
+ * {@link GovernorPolicy#rejectMspt()} every cast is refused.
+ *
+ * <p>The state is sampled once per server tick and only read afterwards, so
+ * effects can call {@link #scaleRadius} and {@link #scaleBudget} freely. All
+ * methods must be called on the server thread.
+ */
+public final class SpellLoadGovernor {
+
+    /**
+     * What to do with a cast.
+     */
+    public enum Decision {
+        /** Cast normally. */
+        ALLOW,
+        /** Cast after {@link #nextDelayTicks()} extra ticks. */
+        DELAY,
+        /** Refuse the cast. */
+        REJECT
+    }
+
+    /**
+     * Governor states, in order of severity. Exported as the {@code regen_governor_level} gauge.
+     */
+    public enum Level {
+        NORMAL,
+        SCALING,
+        DELAYING,
+        REJECTING
+    }
+
+    private static GovernorPolicy policy = GovernorPolicy.fromSystemProperties();
+
+    private static Level level = Level.NORMAL;
+    private static double scale = 1.0;
+    private static int delaySlot = 0;
+
+    private SpellLoadGovernor() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Samples the average tick time and updates the governor state.
+     * Called at the end of every server tick.
+     */
+    public static void onServerTick(MinecraftServer server) {
+        update(server.getAverageNanosPerTick() / 1.0E6);
+    }
+
+    /**
+     * Updates the governor state for the given average tick time.
+     *
+     * @param averageMspt rolling average milliseconds per tick
+     */
+    public static void update(double averageMspt) {
+        Level previous = level;
+
+        if (!policy.enabled() || averageMspt < policy.scaleStartMspt()) {
+            level = Level.NORMAL;
+            scale = 1.0;
+        } else {
+            double range = policy.rejectMspt() - policy.scaleStartMspt();
+            double progress = range > 0.0 ? Math.min(1.0, (averageMspt - policy.scaleStartMspt()) / range) : 1.0;
+            scale = 1.0 - progress * (1.0 - policy.minScale());
+
+            if (averageMspt >= policy.rejectMspt()) {
+                level = Level.REJECTING;
+            } else if (averageMspt >= policy.delayMspt()) {
+                level = Level.DELAYING;
+            } else {
+                level = Level.SCALING;
+            }
+        }
+
+        if (level != previous) {
+            Regen.LOGGER.info("Spell load governor: {} -> {} at {} mspt", previous, level,
+                    String.format("%.1f", averageMspt));
+        }
+
+        ModMetrics.GOVERNOR_LEVEL.set(level.ordinal());
+        ModMetrics.GOVERNOR_SCALE_PERCENT.set(Math.round(scale * 100.0));
+    }
+
+    /**
+     * Decides whether a cast may go ahead now.
+     * Delayed and rejected casts are counted in the metrics.
+     *
+     * @param castWeight the weight of the spell, see {@code MagicInteractionRules.calculateCastWeight}
+     */
+    public static Decision admit(int castWeight) {
+        switch (level) {
+            case REJECTING:
+                ModMetrics.GOVERNOR_REJECTED.increment();
+                return Decision.REJECT;
+            case DELAYING:
+                if (castWeight >= policy.lowPriorityWeight()) {
+                    ModMetrics.GOVERNOR_DELAYED.increment();
+                    return Decision.DELAY;
+                }
+                return Decision.ALLOW;
+            default:
+                return Decision.ALLOW;
+        }
+    }
+
+    /**
+     * Gets the extra delay for a deferred cast. Successive casts are spread
+     * round-robin over the policy's spread window.
+     */
+    public static int nextDelayTicks() {
+        delaySlot = (delaySlot + 1) % policy.delaySpreadTicks();
+        return policy.delayTicks() + delaySlot;
+    }
+
+    /**
+     * Scales a spell radius by the current budget, never below 1.
+     */
+    public static int scaleRadius(int radius) {
+        if (scale >= 1.0) return radius;
+        return Math.max(1, (int) Math.round(radius * scale));
+    }
+
+    /**
+     * Scales a per-cast block or entity budget by the current budget, never below 1.
+     */
+    public static int scaleBudget(int budget) {
+        if (scale >= 1.0) return budget;
+        return Math.max(1, (int) (budget * scale));
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    public static double getScale() {
+        return scale;
+    }
+
+    public static GovernorPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Replaces the policy, for example from tests or a reload.
+     */
+    public static void setPolicy(GovernorPolicy newPolicy) {
+        policy = Objects.requireNonNull(newPolicy, "Governor policy cannot be null");
+        delaySlot = 0;
+    }
+}
@@ -0,0 +1,75 @@
+package net.IneiTsuki.regen.magic.core.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A value that can go up and down, optionally split by one label.
+ *
+ * <p>Gauges are set by the thread that owns the value, usually the server thread
+ * at the end of a tick, and read by the exporter thread.
+ */
+public final class Gauge implements Metric {
+
+    private final String name;
+    private final String help;
+    private final String labelName;
+    private final AtomicLong value = new AtomicLong();
+    private final Map<String, AtomicLong> labeledValues = new ConcurrentHashMap<>();
+
+    Gauge(String name, String help, String labelName) {
+        this.name = name;
+        this.help = help;
+        this.labelName = labelName;
+    }
+
+    public void set(long newValue) {
+        value.set(newValue);
+    }
+
+    /**
+     * Sets the value for one label value. Only valid for labeled gauges.
+     */
+    public void set(String labelValue, long newValue) {
+        labels(labelValue).set(newValue);
+    }
+
+    /**
+     * Gets the value holder for one label value, creating it on first use.
+     * Per-tick callers should keep the result instead of building the label each time.
+     */
+    public AtomicLong labels(String labelValue) {
+        if (labelName == null) {
+            throw new IllegalStateException("Gauge " + name + " has no label");
+        }
+        return labeledValues.computeIfAbsent(labelValue, v -> new AtomicLong());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getHelp() {
+        return help;
+    }
+
+    @Override
+    public String getType() {
+        return "gauge";
+    }
+
+    @Override
+    public void writeSamples(StringBuilder out) {
+        if (labelName == null) {
+            out.append(name).append(' ').append(value.get()).append('\n');
+            return;
+        }
+
+        labeledValues.forEach((labelValue, current) -> out.append(name)
+                .append('{').append(labelName).append("=\"").append(Metric.escapeLabel(labelValue)).append("\"} ")
+                .append(current.get()).append('\n'));
+    }
+}
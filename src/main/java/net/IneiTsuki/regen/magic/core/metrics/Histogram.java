@@ -0,0 +1,69 @@
+package net.IneiTsuki.regen.magic.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram with fixed upper bounds, one striped {@link LongAdder} per bucket.
+ *
+ * <p>Buckets are stored non-cumulatively and summed when written, so an
+ * observation touches exactly one bucket plus the sum.
+ */
+public final class Histogram implements Metric {
+
+    private final String name;
+    private final String help;
+    private final long[] upperBounds;
+    private final LongAdder[] buckets;
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * @param upperBounds bucket upper bounds in ascending order; a +Inf bucket is added
+     */
+    Histogram(String name, String help, long... upperBounds) {
+        this.name = name;
+        this.help = help;
+        this.upperBounds = upperBounds.clone();
+        this.buckets = new LongAdder[upperBounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void observe(long value) {
+        int bucket = 0;
+        while (bucket < upperBounds.length && value > upperBounds[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        sum.add(value);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getHelp() {
+        return help;
+    }
+
+    @Override
+    public String getType() {
+        return "histogram";
+    }
+
+    @Override
+    public void writeSamples(StringBuilder out) {
+        long cumulative = 0;
+        for (int i = 0; i < upperBounds.length; i++) {
+            cumulative += buckets[i].sum();
+            out.append(name).append("_bucket{le=\"").append(upperBounds[i]).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        cumulative += buckets[upperBounds.length].sum();
+        out.append(name).append("_bucket{le=\"+Inf\"} ").append(cumulative).append('\n');
+        out.append(name).append("_sum ").append(sum.sum()).append('\n');
+        out.append(name).append("_count ").append(cumulative).append('\n');
+    }
+}
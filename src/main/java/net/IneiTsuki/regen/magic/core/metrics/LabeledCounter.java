@@ -0,0 +1,54 @@
+package net.IneiTsuki.regen.magic.core.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A family of counters distinguished by the value of one label.
+ *
+ * <p>Hot paths should look up their {@link LongAdder} once with {@link #labels(String)}
+ * and keep it, so each increment is a single striped add.
+ */
+public final class LabeledCounter implements Metric {
+
+    private final String name;
+    private final String help;
+    private final String labelName;
+    private final Map<String, LongAdder> values = new ConcurrentHashMap<>();
+
+    LabeledCounter(String name, String help, String labelName) {
+        this.name = name;
+        this.help = help;
+        this.labelName = labelName;
+    }
+
+    /**
+     * Gets the counter for one label value, creating it on first use.
+     */
+    public LongAdder labels(String labelValue) {
+        return values.computeIfAbsent(labelValue, value -> new LongAdder());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getHelp() {
+        return help;
+    }
+
+    @Override
+    public String getType() {
+        return "counter";
+    }
+
+    @Override
+    public void writeSamples(StringBuilder out) {
+        values.forEach((labelValue, adder) -> out.append(name)
+                .append('{').append(labelName).append("=\"").append(Metric.escapeLabel(labelValue)).append("\"} ")
+                .append(adder.sum()).append('\n'));
+    }
+}
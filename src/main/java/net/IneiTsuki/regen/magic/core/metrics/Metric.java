@@ -0,0 +1,28 @@
+package net.IneiTsuki.regen.magic.core.metrics;
+
+/**
+ * A named metric that can write itself in the Prometheus text exposition format.
+ */
+public interface Metric {
+
+    String getName();
+
+    String getHelp();
+
+    /**
+     * The Prometheus type name: counter, gauge or histogram.
+     */
+    String getType();
+
+    /**
+     * Appends the sample lines of this metric, without the HELP and TYPE header.
+     */
+    void writeSamples(StringBuilder out);
+
+    /**
+     * Escapes a label value as required by the text format.
+     */
+    static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,108 @@
+package net.IneiTsuki.regen.magic.core.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import net.IneiTsuki.regen.Regen;
+import net.fabricmc.loader.api.FabricLoader;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exposes {@link MetricsRegistry} in the Prometheus text format.
+ *
+ * <p>The metrics file is rewritten periodically on a background thread, for use
+ * with node_exporter's textfile collector. An HTTP endpoint can be enabled as
+ * well; it only binds to the loopback address.
+ *
+ * <p>Configured with system properties:
+ * <ul>
+ *   <li>{@code regen.metrics.file}: file path, relative to the game directory,
+ *       or empty to disable. Defaults to {@code regen-metrics.prom}.</li>
+ *   <li>{@code regen.metrics.intervalSeconds}: file rewrite interval, default 15.</li>
+ *   <li>{@code regen.metrics.port}: local HTTP port serving {@code /metrics}, disabled by default.</li>
+ * </ul>
+ */
+public final class MetricsExporter {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static ScheduledExecutorService fileWriter;
+    private static HttpServer httpServer;
+
+    private MetricsExporter() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static synchronized void start() {
+        String file = System.getProperty("regen.metrics.file", "regen-metrics.prom");
+        if (!file.isEmpty()) {
+            startFileWriter(FabricLoader.getInstance().getGameDir().resolve(file),
+                    Integer.getInteger("regen.metrics.intervalSeconds", 15));
+        }
+
+        int port = Integer.getInteger("regen.metrics.port", -1);
+        if (port > 0) {
+            startHttpServer(port);
+        }
+    }
+
+    public static synchronized void stop() {
+        if (fileWriter != null) {
+            fileWriter.shutdownNow();
+            fileWriter = null;
+        }
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+    }
+
+    private static void startFileWriter(Path path, int intervalSeconds) {
+        fileWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Regen metrics writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        fileWriter.scheduleAtFixedRate(() -> writeFile(path), intervalSeconds, Math.max(1, intervalSeconds), TimeUnit.SECONDS);
+        Regen.LOGGER.info("Writing magic metrics to {}", path);
+    }
+
+    private static void writeFile(Path path) {
+        try {
+            // Write then move so scrapers never see a partial file
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.writeString(temp, MetricsRegistry.writePrometheus(), StandardCharsets.UTF_8);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Regen.LOGGER.warn("Failed to write metrics file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static void startHttpServer(int port) {
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            httpServer.createContext("/metrics", exchange -> {
+                byte[] body = MetricsRegistry.writePrometheus().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            httpServer.start();
+            Regen.LOGGER.info("Serving magic metrics on http://127.0.0.1:{}/metrics", port);
+        } catch (IOException e) {
+            Regen.LOGGER.error("Failed to start metrics HTTP server on port {}", port, e);
+            httpServer = null;
+        }
+    }
+}
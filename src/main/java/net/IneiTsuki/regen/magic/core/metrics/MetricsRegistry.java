@@ -0,0 +1,62 @@
+package net.IneiTsuki.regen.magic.core.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds every registered metric and renders them in the Prometheus text format.
+ *
+ * <p>Metrics are registered once during static initialization. Updating a metric
+ * never touches the registry, and rendering only reads the metrics, so no locks
+ * are taken on either path.
+ */
+public final class MetricsRegistry {
+
+    private static final Map<String, Metric> METRICS = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {
+        throw new UnsupportedOperationException("Registry class cannot be instantiated");
+    }
+
+    public static Counter counter(String name, String help) {
+        return register(new Counter(name, help));
+    }
+
+    public static LabeledCounter labeledCounter(String name, String help, String labelName) {
+        return register(new LabeledCounter(name, help, labelName));
+    }
+
+    public static Gauge gauge(String name, String help) {
+        return register(new Gauge(name, help, null));
+    }
+
+    public static Gauge labeledGauge(String name, String help, String labelName) {
+        return register(new Gauge(name, help, labelName));
+    }
+
+    public static Histogram histogram(String name, String help, long... upperBounds) {
+        return register(new Histogram(name, help, upperBounds));
+    }
+
+    private static <T extends Metric> T register(T metric) {
+        if (METRICS.putIfAbsent(metric.getName(), metric) != null) {
+            throw new IllegalArgumentException("Metric already registered: " + metric.getName());
+        }
+        return metric;
+    }
+
+    /**
+     * Renders every metric in the Prometheus text exposition format, version 0.0.4.
+     */
+    public static String writePrometheus() {
+        StringBuilder out = new StringBuilder(4096);
+        METRICS.values().stream()
+                .sorted((a, b) -> a.getName().compareTo(b.getName()))
+                .forEach(metric -> {
+                    out.append("# HELP ").append(metric.getName()).append(' ').append(metric.getHelp()).append('\n');
+                    out.append("# TYPE ").append(metric.getName()).append(' ').append(metric.getType()).append('\n');
+                    metric.writeSamples(out);
+                });
+        return out.toString();
+    }
+}
@@ -0,0 +1,110 @@
+package net.IneiTsuki.regen.magic.core.metrics;
+
+import net.IneiTsuki.regen.magic.core.profiling.BlockMutationCounter;
+import net.IneiTsuki.regen.magic.core.scheduler.TickScheduler;
+import net.IneiTsuki.regen.magic.effect.active.ActiveSpellTracker;
+import net.IneiTsuki.regen.magic.field.SpellFields;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.World;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of the magic system.
+ */
+public final class ModMetrics {
+
+    public static final LabeledCounter CASTS = MetricsRegistry.labeledCounter(
+            "regen_casts_total", "Spells successfully cast, by spell", "spell");
+
+    public static final Counter FIZZLES = MetricsRegistry.counter(
+            "regen_fizzles_total", "Casts that failed, backfired or were unstable");
+
+    public static final Counter MANA_CONSUMED = MetricsRegistry.counter(
+            "regen_mana_consumed_total", "Mana consumed by all players");
+
+    public static final Counter RATE_LIMITED = MetricsRegistry.counter(
+            "regen_rate_limited_total", "Casts refused by the per-player cast rate limit");
+
+    public static final Counter INTENTS_MERGED = MetricsRegistry.counter(
+            "regen_intents_merged_total", "Spell intents merged with or cancelled by another intent on the same target");
+
+    public static final Counter CHUNK_TICKETS = MetricsRegistry.counter(
+            "regen_chunk_tickets_total", "Chunk tickets placed to preload the paths of spells");
+
+    public static final Counter SPELLS_NEUTRALIZED = MetricsRegistry.counter(
+            "regen_spells_neutralized_total", "Active spells ended early by an overlapping spell of an opposing type");
+
+    public static final Counter LIGHT_SECTIONS = MetricsRegistry.counter(
+            "regen_light_sections_total", "Chunk sections lit or unlit in one batch by light spells");
+
+    public static final Counter GROWTH_TICKS = MetricsRegistry.counter(
+            "regen_growth_ticks_total", "Extra random ticks given to crops, saplings and stems by growth spells");
+
+    public static final Counter SPAWNS_SUPPRESSED = MetricsRegistry.counter(
+            "regen_spawns_suppressed_total", "Natural hostile spawn attempts refused by LIGHT spawn wards");
+
+    public static final Counter INSCRIBER_CRAFTS = MetricsRegistry.counter(
+            "regen_inscriber_crafts_total", "Items crafted in Spell Inscribers");
+
+    public static final Gauge ACTIVE_SPELLS = MetricsRegistry.labeledGauge(
+            "regen_active_spells", "Active lasting spells, by world", "world");
+
+    public static final Gauge SPELL_FIELDS = MetricsRegistry.gauge(
+            "regen_spell_fields", "Lingering spell fields such as steam and thermal shock");
+
+    public static final Gauge SCHEDULER_DEPTH = MetricsRegistry.gauge(
+            "regen_scheduler_depth", "Tasks waiting in the tick scheduler");
+
+    public static final Histogram BLOCK_MUTATIONS_PER_TICK = MetricsRegistry.histogram(
+            "regen_block_mutations_per_tick", "Blocks changed by spells in one server tick",
+            0, 1, 10, 50, 100, 500, 1000, 5000);
+
+    public static final Gauge GOVERNOR_LEVEL = MetricsRegistry.gauge(
+            "regen_governor_level", "Spell load governor level: 0 normal, 1 scaling, 2 delaying, 3 rejecting");
+
+    public static final Gauge GOVERNOR_SCALE_PERCENT = MetricsRegistry.gauge(
+            "regen_governor_scale_percent", "Per-cast radius and block budget scale set by the load governor");
+
+    public static final Counter GOVERNOR_DELAYED = MetricsRegistry.counter(
+            "regen_governor_delayed_total", "Casts pushed into later ticks by the load governor");
+
+    public static final Counter GOVERNOR_REJECTED = MetricsRegistry.counter(
+            "regen_governor_rejected_total", "Casts rejected by the load governor");
+
+    private static final Map<RegistryKey<World>, AtomicLong> ACTIVE_SPELLS_BY_WORLD = new HashMap<>();
+
+    private static long lastBlockMutations = 0;
+
+    private ModMetrics() {
+        throw new UnsupportedOperationException("Registry class cannot be instantiated");
+    }
+
+    /**
+     * Samples the per-tick gauges and histograms. Called at the end of every server tick.
+     */
+    public static void onServerTick(MinecraftServer server) {
+        SCHEDULER_DEPTH.set(TickScheduler.getScheduledTaskCount());
+        SPELL_FIELDS.set(SpellFields.getCount());
+        for (ServerWorld world : server.getWorlds()) {
+            activeSpells(world.getRegistryKey()).set(ActiveSpellTracker.getCount(world));
+        }
+
+        long blockMutations = BlockMutationCounter.getTotal();
+        BLOCK_MUTATIONS_PER_TICK.observe(blockMutations - lastBlockMutations);
+        lastBlockMutations = blockMutations;
+    }
+
+    private static AtomicLong activeSpells(RegistryKey<World> world) {
+        AtomicLong value = ACTIVE_SPELLS_BY_WORLD.get(world);
+        if (value == null) {
+            value = ACTIVE_SPELLS.labels(world.getValue().toString());
+            ACTIVE_SPELLS_BY_WORLD.put(world, value);
+        }
+        return value;
+    }
+}
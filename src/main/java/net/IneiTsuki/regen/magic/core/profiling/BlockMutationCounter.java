@@ -0,0 +1,35 @@
+package net.IneiTsuki.regen.magic.core.profiling;
+
+/**
+ * Running count of blocks changed by spell effects.
+ *
+ * <p>Spell intents report every block change when it is applied at the end of
+ * the tick, see {@link net.IneiTsuki.regen.magic.world.SpellIntentBuffer}.
+ * Changes queued in a tick therefore show up at its end. Diagnostics read the
+ * total before and after a section of work to see how many blocks it changed.
+ * Only touched on the server thread.
+ */
+public final class BlockMutationCounter {
+
+    private static long total = 0;
+
+    private BlockMutationCounter() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Records blocks changed by a spell.
+     *
+     * @param count number of blocks placed or removed
+     */
+    public static void record(int count) {
+        total += count;
+    }
+
+    /**
+     * Gets the number of blocks changed by spells since startup.
+     */
+    public static long getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,165 @@
+package net.IneiTsuki.regen.magic.core.profiling;
+
+import net.IneiTsuki.regen.magic.api.MagicEffect;
+import net.minecraft.item.Item;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-subsystem tick timing for the magic system, driven by {@code /regen profile}.
+ *
+ * <p>Instrumented code brackets its work with {@link #begin()} and one of the
+ * {@code end} methods. While no profiling window is open, {@code begin} returns 0
+ * without reading the clock and every {@code end} returns immediately, so the
+ * instrumentation costs one field read per section.
+ *
+ * <p>All methods must be called on the server thread.
+ */
+public final class SpellProfiler {
+
+    /** Number of spell effects listed in a report. */
+    private static final int TOP_EFFECTS = 5;
+
+    /**
+     * Profiled subsystems.
+     */
+    public enum Section {
+        SCHEDULER("TickScheduler.tick"),
+        INSCRIBER("Spell Inscriber ticks"),
+        MANA_SYNC("Mana sync"),
+        INTENTS("Spell intent flush");
+
+        private final String displayName;
+
+        Section(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    private static boolean enabled = false;
+    private static long windowStartNanos;
+
+    private static final Map<Section, TimingStats> SECTIONS = new EnumMap<>(Section.class);
+    private static final Map<RegistryKey<World>, TimingStats> ACTIVE_SPELLS_BY_WORLD = new HashMap<>();
+    private static final Map<String, TimingStats> EFFECTS = new HashMap<>();
+
+    private SpellProfiler() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Opens a new profiling window, discarding any previous results.
+     *
+     * @return false if a window was already open
+     */
+    public static boolean start() {
+        if (enabled) return false;
+
+        SECTIONS.clear();
+        ACTIVE_SPELLS_BY_WORLD.clear();
+        EFFECTS.clear();
+        windowStartNanos = System.nanoTime();
+        enabled = true;
+        return true;
+    }
+
+    /**
+     * Closes the profiling window and builds its report.
+     *
+     * @return report lines, or an empty list if no window was open
+     */
+    public static List<String> stop() {
+        if (!enabled) return List.of();
+        enabled = false;
+        return createReport(System.nanoTime() - windowStartNanos);
+    }
+
+    /**
+     * Marks the start of a profiled section.
+     *
+     * @return the start time to pass to an {@code end} method, or 0 when profiling is off
+     */
+    public static long begin() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void end(Section section, long start) {
+        if (start == 0L) return;
+        SECTIONS.computeIfAbsent(section, s -> new TimingStats()).record(System.nanoTime() - start);
+    }
+
+    /**
+     * Ends the active spell section of one world.
+     */
+    public static void endActiveSpells(RegistryKey<World> world, long start) {
+        if (start == 0L) return;
+        ACTIVE_SPELLS_BY_WORLD.computeIfAbsent(world, w -> new TimingStats()).record(System.nanoTime() - start);
+    }
+
+    /**
+     * Ends a call to {@link MagicEffect#apply} or {@link MagicEffect#onTick},
+     * attributing the time to the scroll it was cast from. Scroll effects are
+     * often lambdas or shared wrappers, so their classes do not tell spells apart.
+     *
+     * @param scroll the scroll the spell was cast from, or null to fall back to the effect's class
+     */
+    public static void endEffect(@Nullable Item scroll, MagicEffect effect, long start) {
+        if (start == 0L) return;
+        String name = scroll != null ? Registries.ITEM.getId(scroll).toString() : effect.getClass().getName();
+        EFFECTS.computeIfAbsent(name, n -> new TimingStats()).record(System.nanoTime() - start);
+    }
+
+    private static List<String> createReport(long windowNanos) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Profile window: %.1f s", windowNanos / 1.0E9));
+
+        for (Section section : Section.values()) {
+            TimingStats stats = SECTIONS.get(section);
+            if (stats != null) {
+                lines.add(formatLine(section.getDisplayName(), stats));
+            }
+        }
+
+        for (Map.Entry<RegistryKey<World>, TimingStats> entry : ACTIVE_SPELLS_BY_WORLD.entrySet()) {
+            lines.add(formatLine("ActiveSpellTracker " + entry.getKey().getValue(), entry.getValue()));
+        }
+
+        if (!EFFECTS.isEmpty()) {
+            lines.add("Top spell effects by total time:");
+            EFFECTS.entrySet().stream()
+                    .sorted((a, b) -> Long.compare(b.getValue().getTotalNanos(), a.getValue().getTotalNanos()))
+                    .limit(TOP_EFFECTS)
+                    .forEach(entry -> lines.add("  " + formatLine(entry.getKey(), entry.getValue())));
+        }
+
+        if (lines.size() == 1) {
+            lines.add("Nothing was recorded");
+        }
+        return lines;
+    }
+
+    private static String formatLine(String name, TimingStats stats) {
+        return String.format("%s: total %.2f ms, p50 %.1f us, p99 %.1f us, %d calls",
+                name,
+                stats.getTotalNanos() / 1.0E6,
+                stats.percentile(0.50) / 1.0E3,
+                stats.percentile(0.99) / 1.0E3,
+                stats.getCount());
+    }
+}
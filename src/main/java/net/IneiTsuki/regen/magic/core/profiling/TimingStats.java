@@ -0,0 +1,48 @@
+package net.IneiTsuki.regen.magic.core.profiling;
+
+import java.util.Arrays;
+
+/**
+ * Invocation count, total time and recent samples for one profiled section.
+ *
+ * <p>Percentiles are computed from the most recent {@link #MAX_SAMPLES} samples,
+ * which is enough for a profiling window of several minutes at normal tick rates.
+ */
+final class TimingStats {
+
+    private static final int MAX_SAMPLES = 8192;
+
+    private final long[] samples = new long[MAX_SAMPLES];
+    private long count = 0;
+    private long totalNanos = 0;
+
+    void record(long nanos) {
+        samples[(int) (count % MAX_SAMPLES)] = nanos;
+        count++;
+        totalNanos += nanos;
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Gets a percentile of the recorded samples.
+     *
+     * @param percentile between 0 and 1
+     * @return the sample at that percentile in nanoseconds, or 0 if nothing was recorded
+     */
+    long percentile(double percentile) {
+        int size = (int) Math.min(count, MAX_SAMPLES);
+        if (size == 0) return 0L;
+
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,25 @@
+package net.IneiTsuki.regen.magic.core.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One tick of every active spell in a world.
+ */
+@Name("regen.ActiveSpellTick")
+@Label("Active Spell Tick")
+@Category({"Regen", "Magic"})
+@Description("One batch tick of all active spells in a world")
+public class ActiveSpellTickJfrEvent extends jdk.jfr.Event {
+
+    @Label("World")
+    public String world;
+
+    @Label("Spells Ticked")
+    public int spellsTicked;
+
+    @Label("Spells Expired")
+    public int spellsExpired;
+}
@@ -0,0 +1,25 @@
+package net.IneiTsuki.regen.magic.core.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A single craft in a Spell Inscriber.
+ */
+@Name("regen.InscriberCraft")
+@Label("Inscriber Craft")
+@Category({"Regen", "Crafting"})
+@Description("A single craft in a Spell Inscriber")
+public class InscriberCraftJfrEvent extends jdk.jfr.Event {
+
+    @Label("Result")
+    public String result;
+
+    @Label("Result Count")
+    public int count;
+
+    @Label("Position")
+    public String position;
+}
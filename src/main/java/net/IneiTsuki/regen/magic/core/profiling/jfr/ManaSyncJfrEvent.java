@@ -0,0 +1,25 @@
+package net.IneiTsuki.regen.magic.core.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A mana sync packet sent to a player.
+ */
+@Name("regen.ManaSync")
+@Label("Mana Sync")
+@Category({"Regen", "Network"})
+@Description("A mana sync packet sent to a player")
+public class ManaSyncJfrEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("Mana")
+    public int mana;
+
+    @Label("Max Mana")
+    public int maxMana;
+}
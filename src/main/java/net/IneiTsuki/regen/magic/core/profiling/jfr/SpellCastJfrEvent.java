@@ -0,0 +1,34 @@
+package net.IneiTsuki.regen.magic.core.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A spell being applied. The event duration is the time spent in
+ * {@link net.IneiTsuki.regen.magic.api.MagicEffect#apply}.
+ */
+@Name("regen.SpellCast")
+@Label("Spell Cast")
+@Category({"Regen", "Magic"})
+@Description("A magic scroll spell being applied")
+public class SpellCastJfrEvent extends jdk.jfr.Event {
+
+    @Label("Spell")
+    public String spell;
+
+    @Label("Caster")
+    public String caster;
+
+    @Label("Cast Delay")
+    @Description("Delay before the spell was applied, in game ticks")
+    public int castDelayTicks;
+
+    @Label("Blocks Queued")
+    @Description("Block changes queued by the spell; they are applied, or cancelled, at the end of the tick")
+    public long blocksQueued;
+
+    @Label("Success")
+    public boolean success;
+}
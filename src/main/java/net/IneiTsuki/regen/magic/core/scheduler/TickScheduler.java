@@ -1,51 +1,78 @@
 package net.IneiTsuki.regen.magic.core.scheduler;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Runs tasks after a delay measured in server ticks.
+ *
+ * <p>Pending tasks are kept in two parallel arrays that only grow, so ticking and
+ * scheduling allocate nothing once the arrays have reached their working size.
+ * Tasks scheduled while a tick is running, including tasks that reschedule
+ * themselves, are first counted down on the next tick.
+ */
 @SuppressWarnings("unused")
 public class TickScheduler {
 
     private static final Logger LOGGER = Logger.getLogger(TickScheduler.class.getName());
 
-    private static class ScheduledTask {
-        int ticksLeft;
-        final Runnable task;
+    private static final int INITIAL_CAPACITY = 64;
 
-        ScheduledTask(int ticksLeft, Runnable task) {
-            this.ticksLeft = ticksLeft;
-            this.task = task;
-        }
-    }
+    private static Runnable[] tasks = new Runnable[INITIAL_CAPACITY];
+    private static int[] ticksLeft = new int[INITIAL_CAPACITY];
+    private static int size = 0;
 
-    private static final List<ScheduledTask> scheduledTasks = new LinkedList<>();
+    private static boolean ticking = false;
+    private static boolean clearRequested = false;
 
     /**
      * Call this once every server tick to update and execute delayed tasks.
      */
     public static void tick() {
-        if (scheduledTasks.isEmpty()) {
+        if (size == 0) {
             return;
         }
 
-        for (int i = scheduledTasks.size() - 1; i >= 0; i--) {
-            ScheduledTask scheduledTask = scheduledTasks.get(i);
-            scheduledTask.ticksLeft--;
-
-            if (scheduledTask.ticksLeft <= 0) {
-                //LOGGER.info("Executing scheduled task...");
-                try {
-                    scheduledTask.task.run();
-                    //LOGGER.info("Scheduled task executed successfully.");
-                } catch (Exception e) {
-                    //LOGGER.log(Level.SEVERE, "Error executing scheduled task", e);
+        ticking = true;
+        int count = size;
+        int write = 0;
+
+        try {
+            for (int read = 0; read < count; read++) {
+                Runnable task = tasks[read];
+                int left = ticksLeft[read] - 1;
+
+                if (left <= 0) {
+                    try {
+                        task.run();
+                    } catch (Exception e) {
+                        //LOGGER.log(Level.SEVERE, "Error executing scheduled task", e);
+                    }
+                } else {
+                    tasks[write] = task;
+                    ticksLeft[write] = left;
+                    write++;
                 }
-                scheduledTasks.remove(i);
-                //LOGGER.info("Scheduled task removed from queue.");
             }
+        } finally {
+            ticking = false;
         }
+
+        if (clearRequested) {
+            clearRequested = false;
+            write = 0;
+            count = size;
+        }
+
+        // Move tasks scheduled during this tick down behind the survivors
+        int added = size - count;
+        System.arraycopy(tasks, count, tasks, write, added);
+        System.arraycopy(ticksLeft, count, ticksLeft, write, added);
+
+        int newSize = write + added;
+        Arrays.fill(tasks, newSize, size, null);
+        size = newSize;
     }
 
     /**
@@ -61,8 +88,17 @@ public class TickScheduler {
                 //LOGGER.log(Level.SEVERE, "Error executing immediate task", e);
             }
         } else {
-            scheduledTasks.add(new ScheduledTask(delayTicks, task));
-            LOGGER.info("Scheduled new task to run in " + delayTicks + " ticks. Total scheduled: " + scheduledTasks.size());
+            if (size == tasks.length) {
+                tasks = Arrays.copyOf(tasks, size * 2);
+                ticksLeft = Arrays.copyOf(ticksLeft, size * 2);
+            }
+            tasks[size] = task;
+            ticksLeft[size] = delayTicks;
+            size++;
+
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Scheduled new task to run in " + delayTicks + " ticks. Total scheduled: " + size);
+            }
         }
     }
 
@@ -70,14 +106,20 @@ public class TickScheduler {
      * Returns the number of currently scheduled tasks.
      */
     public static int getScheduledTaskCount() {
-        return scheduledTasks.size();
+        return size;
     }
 
     /**
      * Clears all scheduled tasks. Use with caution!
+     * When called from a running task, the clear takes effect once the current tick finishes.
      */
     public static void clearAllTasks() {
-        LOGGER.warning("Clearing all scheduled tasks! Count: " + scheduledTasks.size());
-        scheduledTasks.clear();
+        LOGGER.warning("Clearing all scheduled tasks! Count: " + size);
+        if (ticking) {
+            clearRequested = true;
+            return;
+        }
+        Arrays.fill(tasks, 0, size, null);
+        size = 0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,232 @@
+package net.IneiTsuki.regen.magic.core.text;
+
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.text.MutableText;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Translatable message templates for everything the magic system tells a player.
+ *
+ * <p>Messages are sent as translation keys with typed arguments rather than
+ * preformatted English strings, so the server never formats text on the tick
+ * thread and the client resolves them in its own language. Messages without
+ * arguments, as well as the words used as arguments (intensity, spell style,
+ * clarification and type names), are built once and reused.
+ *
+ * <p>All messages are shown on the action bar.
+ */
+public final class SpellMessages {
+
+    // Translation keys
+    public static final String KEY_UNSTABLE = "message.regen.cast.unstable";
+    public static final String KEY_NO_MANA = "message.regen.cast.no_mana";
+    public static final String KEY_INSUFFICIENT_POWER = "message.regen.cast.insufficient_power";
+    public static final String KEY_BACKFIRE = "message.regen.cast.backfire";
+    public static final String KEY_MANA_ERROR = "message.regen.cast.mana_error";
+    public static final String KEY_FAILED = "message.regen.cast.failed";
+    public static final String KEY_CASTING = "message.regen.cast.casting";
+    public static final String KEY_ACTIVE = "message.regen.cast.active";
+    public static final String KEY_SUCCESS = "message.regen.cast.success";
+    public static final String KEY_BUSY = "message.regen.cast.busy";
+    public static final String KEY_INTERRUPTED = "message.regen.cast.interrupted";
+    public static final String KEY_DELAYED = "message.regen.cast.delayed";
+    public static final String KEY_OVERLOADED = "message.regen.cast.overloaded";
+    public static final String KEY_WARDED = "message.regen.cast.warded";
+    public static final String KEY_GENERIC_CAST = "message.regen.cast.generic";
+    public static final String KEY_FIRE_UNLEASH = "message.regen.fire.unleash";
+    public static final String KEY_FIRE_FADES = "message.regen.fire.fades";
+    public static final String KEY_FIRE_PROTECTED = "message.regen.fire.protected";
+    public static final String KEY_STEAM = "message.regen.steam";
+    public static final String KEY_THERMAL_SHOCK = "message.regen.thermal_shock";
+    public static final String KEY_SECONDS = "message.regen.seconds";
+
+    public static final String INTENSITY_KEY_PREFIX = "message.regen.intensity.";
+    public static final String STYLE_KEY_PREFIX = "message.regen.style.";
+    public static final String CLARIFICATION_KEY_PREFIX = "magic.regen.clarification.";
+    public static final String TYPE_KEY_PREFIX = "magic.regen.type.";
+
+    // Prebuilt messages without arguments
+    public static final Text UNSTABLE = Text.translatable(KEY_UNSTABLE).formatted(Formatting.RED);
+    public static final Text NO_MANA = Text.translatable(KEY_NO_MANA).formatted(Formatting.RED);
+    public static final Text INSUFFICIENT_POWER = Text.translatable(KEY_INSUFFICIENT_POWER).formatted(Formatting.YELLOW);
+    public static final Text BACKFIRE = Text.translatable(KEY_BACKFIRE).formatted(Formatting.RED);
+    public static final Text MANA_ERROR = Text.translatable(KEY_MANA_ERROR).formatted(Formatting.RED);
+    public static final Text SUCCESS = Text.translatable(KEY_SUCCESS).formatted(Formatting.GREEN);
+    public static final Text BUSY = Text.translatable(KEY_BUSY).formatted(Formatting.YELLOW);
+    public static final Text INTERRUPTED = Text.translatable(KEY_INTERRUPTED).formatted(Formatting.RED);
+    public static final Text OVERLOADED = Text.translatable(KEY_OVERLOADED).formatted(Formatting.RED);
+    public static final Text WARDED = Text.translatable(KEY_WARDED).formatted(Formatting.RED);
+    public static final Text FIRE_FADES = Text.translatable(KEY_FIRE_FADES);
+    public static final Text FIRE_PROTECTED = Text.translatable(KEY_FIRE_PROTECTED);
+    public static final Text STEAM = Text.translatable(KEY_STEAM);
+    public static final Text THERMAL_SHOCK = Text.translatable(KEY_THERMAL_SHOCK);
+
+    /** Intensity words, indexed from strongest to weakest. */
+    public static final String[] INTENSITY_NAMES = {"devastating", "powerful", "moderate", "weak", "feeble"};
+
+    /** Spell style words used in the fire spell message. */
+    public static final String[] STYLE_NAMES = {"controlled", "destructive", "constructive", "area", "basic"};
+
+    private static final Text[] INTENSITY_WORDS = createWords(INTENSITY_KEY_PREFIX, INTENSITY_NAMES);
+    private static final Text[] STYLE_WORDS = createWords(STYLE_KEY_PREFIX, STYLE_NAMES);
+
+    private static final Map<MagicEnums.Clarification, Text> CLARIFICATION_NAMES = new EnumMap<>(MagicEnums.Clarification.class);
+    private static final Map<MagicEnums.MagicType, Text> TYPE_NAMES = new EnumMap<>(MagicEnums.MagicType.class);
+
+    static {
+        for (MagicEnums.Clarification clarification : MagicEnums.Clarification.values()) {
+            CLARIFICATION_NAMES.put(clarification, Text.translatable(CLARIFICATION_KEY_PREFIX + clarification.getName()));
+        }
+        for (MagicEnums.MagicType type : MagicEnums.MagicType.values()) {
+            TYPE_NAMES.put(type, Text.translatable(TYPE_KEY_PREFIX + type.getName()));
+        }
+    }
+
+    private SpellMessages() {
+        throw new UnsupportedOperationException("Messages class cannot be instantiated");
+    }
+
+    /**
+     * Sends a message to the player's action bar.
+     *
+     * @param player The player to notify
+     * @param message The message to show
+     */
+    public static void send(PlayerEntity player, Text message) {
+        player.sendMessage(message, true);
+    }
+
+    /**
+     * "Casting spell... (1.5s)"
+     *
+     * @param castDelayTicks The cast delay in ticks
+     */
+    public static Text casting(int castDelayTicks) {
+        return Text.translatable(KEY_CASTING, seconds(castDelayTicks))
+                .formatted(Formatting.GRAY);
+    }
+
+    /**
+     * "The flow of magic is strained, your spell is delayed... (2.5s)"
+     *
+     * @param delayTicks The total delay before the spell resolves, in ticks
+     */
+    public static Text delayed(int delayTicks) {
+        return Text.translatable(KEY_DELAYED, seconds(delayTicks))
+                .formatted(Formatting.YELLOW);
+    }
+
+    /**
+     * "Spell active for 10.0 seconds"
+     *
+     * @param durationTicks The active duration in ticks
+     */
+    public static Text active(int durationTicks) {
+        return Text.translatable(KEY_ACTIVE, seconds(durationTicks))
+                .formatted(Formatting.GREEN);
+    }
+
+    /**
+     * "Spell casting failed: reason"
+     *
+     * @param reason The failure reason, usually an exception message
+     */
+    public static Text failed(String reason) {
+        return Text.translatable(KEY_FAILED, String.valueOf(reason)).formatted(Formatting.RED);
+    }
+
+    /**
+     * "You cast Control Fire magic!"
+     *
+     * @param clarifications The clarifications of the spell
+     * @param types The magic types of the spell
+     */
+    public static Text genericCast(List<MagicEnums.Clarification> clarifications,
+                                   List<MagicEnums.MagicType> types) {
+        return Text.translatable(KEY_GENERIC_CAST,
+                joinNames(clarifications, CLARIFICATION_NAMES),
+                joinNames(types, TYPE_NAMES));
+    }
+
+    /**
+     * "You unleash powerful controlled fire spell! (12 fires created)"
+     *
+     * @param intensity The final spell intensity
+     * @param clarifications The effective clarifications of the spell
+     * @param firesCreated How many fire blocks were placed
+     */
+    public static Text fireUnleashed(double intensity,
+                                     List<MagicEnums.Clarification> clarifications,
+                                     int firesCreated) {
+        return Text.translatable(KEY_FIRE_UNLEASH,
+                INTENSITY_WORDS[intensityIndex(intensity)],
+                STYLE_WORDS[styleIndex(clarifications)],
+                firesCreated);
+    }
+
+    /**
+     * Gets the translatable name of a clarification.
+     */
+    public static Text name(MagicEnums.Clarification clarification) {
+        return CLARIFICATION_NAMES.get(clarification);
+    }
+
+    /**
+     * Gets the translatable name of a magic type.
+     */
+    public static Text name(MagicEnums.MagicType type) {
+        return TYPE_NAMES.get(type);
+    }
+
+    /**
+     * A tick count as seconds with one decimal, rounded half up. The decimal
+     * separator comes from the {@link #KEY_SECONDS} translation.
+     */
+    public static Text seconds(int ticks) {
+        int tenths = (ticks + 1) / 2;
+        return Text.translatable(KEY_SECONDS, tenths / 10, tenths % 10);
+    }
+
+    private static int intensityIndex(double intensity) {
+        if (intensity >= 2.0) return 0;
+        if (intensity >= 1.5) return 1;
+        if (intensity >= 1.0) return 2;
+        if (intensity >= 0.5) return 3;
+        return 4;
+    }
+
+    private static int styleIndex(List<MagicEnums.Clarification> clarifications) {
+        if (clarifications.contains(MagicEnums.Clarification.CONTROL)) return 0;
+        if (clarifications.contains(MagicEnums.Clarification.DESTRUCTION)) return 1;
+        if (clarifications.contains(MagicEnums.Clarification.CONSTRUCTION)) return 2;
+        if (clarifications.contains(MagicEnums.Clarification.AREA)) return 3;
+        return 4;
+    }
+
+    private static <E extends Enum<E>> Text joinNames(List<E> values, Map<E, Text> names) {
+        if (values.size() == 1) {
+            return names.get(values.getFirst());
+        }
+
+        MutableText joined = Text.empty();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) joined.append(" ");
+            joined.append(names.get(values.get(i)));
+        }
+        return joined;
+    }
+
+    private static Text[] createWords(String keyPrefix, String[] names) {
+        Text[] words = new Text[names.length];
+        for (int i = 0; i < names.length; i++) {
+            words[i] = Text.translatable(keyPrefix + names[i]);
+        }
+        return words;
+    }
+}
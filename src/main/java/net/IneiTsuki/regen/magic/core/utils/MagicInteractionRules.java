@@ -94,6 +94,27 @@ public final class MagicInteractionRules {
         return radius;
     }
 
+    /**
+     * Estimates how much server work one cast of a spell causes, for load
+     * governing and rate limiting. The weight grows with the area and the
+     * intensity of the spell: a plain spell weighs 1, a MUCH AREA fire spell 12.
+     *
+     * @param clarifications The clarifications of the spell
+     * @param types The magic types of the spell
+     * @return The cast weight, at least 1
+     */
+    public static int calculateCastWeight(List<MagicEnums.Clarification> clarifications,
+                                          List<MagicEnums.MagicType> types) {
+        Objects.requireNonNull(clarifications, "Clarifications cannot be null");
+        Objects.requireNonNull(types, "Magic types cannot be null");
+
+        List<MagicEnums.Clarification> resolved = resolveClairificationConflicts(clarifications);
+        int radius = calculateRadiusModifier(resolved, MagicConstants.FIRE_BASE_RADIUS);
+        double intensity = calculateIntensityModifier(resolved) * calculateTypeInteractionMultiplier(types);
+
+        return Math.max(1, (int) Math.round(radius * intensity));
+    }
+
     /**
      * Calculates the overall effect multiplier based on magic type interactions.
      *
@@ -128,6 +149,22 @@ public final class MagicInteractionRules {
         return multiplier;
     }
 
+    /**
+     * Determines if a spell is launched as a projectile, which lets it preload
+     * the chunks along its path while it is being cast.
+     *
+     * @param clarifications The clarifications in the spell
+     * @param types The magic types in the spell
+     * @return true for a single MOVE clarification with a single FIRE type
+     */
+    public static boolean isProjectileSpell(List<MagicEnums.Clarification> clarifications,
+                                            List<MagicEnums.MagicType> types) {
+        return clarifications.size() == 1
+                && types.size() == 1
+                && clarifications.getFirst() == MagicEnums.Clarification.MOVE
+                && types.getFirst() == MagicEnums.MagicType.FIRE;
+    }
+
     /**
      * Determines if a spell combination is stable and can be cast.
      * Highly conflicting combinations may be unstable.
@@ -152,50 +189,100 @@ public final class MagicInteractionRules {
     }
 
     /**
-     * Gets a description of what modifications are applied to a spell.
+     * A modification clarifications and type interactions apply to a spell.
+     */
+    public enum Modification {
+        AMPLIFIED("amplified"),
+        WEAKENED("weakened"),
+        AREA_EFFECT("area effect"),
+        MULTI_TARGET("multi-target"),
+        PRECISE("precise"),
+        MOBILE("mobile"),
+        SYNERGISTIC("synergistic"),
+        CONFLICTED("conflicted");
+
+        private final String description;
+
+        Modification(String description) {
+            this.description = description;
+        }
+
+        /**
+         * Gets the English description, as used in logs and the spell description.
+         */
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * Gets the lowercase name, used as the last part of its translation key.
+         */
+        public String getKey() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Gets the modifications applied to a spell, in display order.
      *
      * @param clarifications The clarifications in the spell
      * @param types The magic types in the spell
-     * @return A human-readable description of the modifications
+     * @return The modifications, empty for a standard spell
      */
-    public static String getModificationDescription(List<MagicEnums.Clarification> clarifications,
-                                                    List<MagicEnums.MagicType> types) {
+    public static List<Modification> getModifications(List<MagicEnums.Clarification> clarifications,
+                                                      List<MagicEnums.MagicType> types) {
         Objects.requireNonNull(clarifications, "Clarifications cannot be null");
         Objects.requireNonNull(types, "Magic types cannot be null");
 
-        List<String> modifications = new ArrayList<>();
+        List<Modification> modifications = new ArrayList<>();
 
         double intensityMod = calculateIntensityModifier(clarifications);
         if (intensityMod > 1.0) {
-            modifications.add("amplified");
+            modifications.add(Modification.AMPLIFIED);
         } else if (intensityMod < 1.0) {
-            modifications.add("weakened");
+            modifications.add(Modification.WEAKENED);
         }
 
         if (clarifications.contains(MagicEnums.Clarification.AREA)) {
-            modifications.add("area effect");
+            modifications.add(Modification.AREA_EFFECT);
         }
 
         if (clarifications.contains(MagicEnums.Clarification.MANY)) {
-            modifications.add("multi-target");
+            modifications.add(Modification.MULTI_TARGET);
         }
 
         if (clarifications.contains(MagicEnums.Clarification.CONTROL)) {
-            modifications.add("precise");
+            modifications.add(Modification.PRECISE);
         }
 
         if (clarifications.contains(MagicEnums.Clarification.MOVE)) {
-            modifications.add("mobile");
+            modifications.add(Modification.MOBILE);
         }
 
         double typeMod = calculateTypeInteractionMultiplier(types);
         if (typeMod > 1.0) {
-            modifications.add("synergistic");
+            modifications.add(Modification.SYNERGISTIC);
         } else if (typeMod < 1.0) {
-            modifications.add("conflicted");
+            modifications.add(Modification.CONFLICTED);
         }
 
-        return modifications.isEmpty() ? "standard" : String.join(", ", modifications);
+        return modifications;
+    }
+
+    /**
+     * Gets a description of what modifications are applied to a spell.
+     *
+     * @param clarifications The clarifications in the spell
+     * @param types The magic types in the spell
+     * @return A human-readable description of the modifications
+     */
+    public static String getModificationDescription(List<MagicEnums.Clarification> clarifications,
+                                                    List<MagicEnums.MagicType> types) {
+        List<Modification> modifications = getModifications(clarifications, types);
+        if (modifications.isEmpty()) {
+            return "standard";
+        }
+        return modifications.stream().map(Modification::getDescription).collect(Collectors.joining(", "));
     }
 
     // Private helper methods
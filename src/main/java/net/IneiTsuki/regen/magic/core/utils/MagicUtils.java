@@ -27,4 +27,23 @@ public class MagicUtils {
                 Math.min(MagicConstants.MAX_CASTING_DELAY_TICKS, delay)
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Packs a list of magic types into a bit mask keyed by enum ordinal.
+     * Two scrolls with the same set of types always share the same mask.
+     */
+    public static int toTypeMask(List<MagicEnums.MagicType> types) {
+        int mask = 0;
+        for (MagicEnums.MagicType type : types) {
+            mask |= 1 << type.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Checks whether the given magic type is set in a mask built by {@link #toTypeMask(List)}.
+     */
+    public static boolean hasType(int typeMask, MagicEnums.MagicType type) {
+        return (typeMask & (1 << type.ordinal())) != 0;
+    }
+}
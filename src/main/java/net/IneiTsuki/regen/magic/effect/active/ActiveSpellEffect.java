@@ -2,8 +2,16 @@ package net.IneiTsuki.regen.magic.effect.active;
 
 import net.IneiTsuki.regen.magic.api.MagicEffect;
 import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
+import net.IneiTsuki.regen.magic.core.profiling.SpellProfiler;
+import net.IneiTsuki.regen.magic.core.utils.MagicInteractionRules;
+import net.IneiTsuki.regen.magic.network.SpellCastEventPayload;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Objects;
@@ -16,16 +24,88 @@ public class ActiveSpellEffect {
     public int ticksRemaining;
     private final int totalDuration;
     private boolean hasStarted = false;
+    @Nullable
+    private final Item source;
+    private final float intensity;
+
+    // Area the spell affects, indexed by ActiveSpellIndex
+    private final World world;
+    private int centerX;
+    private int centerY;
+    private int centerZ;
+    private int radius;
+
+    /** Last query that visited this spell, see {@link ActiveSpellIndex}. */
+    int queryMark;
 
     public ActiveSpellEffect(PlayerEntity caster, MagicEffect effect,
                              List<MagicEnums.Clarification> clarifications,
                              List<MagicEnums.MagicType> types, int durationTicks) {
+        this(caster, effect, clarifications, types, durationTicks, null, 1.0f);
+    }
+
+    /**
+     * Creates an active spell that announces its end to nearby clients.
+     *
+     * @param source The scroll the spell was cast from, or null to send no cast events
+     * @param intensity The final spell intensity, forwarded to client visuals
+     */
+    public ActiveSpellEffect(PlayerEntity caster, MagicEffect effect,
+                             List<MagicEnums.Clarification> clarifications,
+                             List<MagicEnums.MagicType> types, int durationTicks,
+                             @Nullable Item source, float intensity) {
+        // Until the effect says otherwise, the spell covers its clarified radius around the caster
+        this(caster, Objects.requireNonNull(caster, "Caster cannot be null").getWorld(), caster.getBlockPos(),
+                MagicInteractionRules.calculateRadiusModifier(
+                        Objects.requireNonNull(clarifications, "Clarifications cannot be null"),
+                        MagicConstants.FIRE_BASE_RADIUS),
+                effect, clarifications, types, durationTicks, source, intensity);
+    }
+
+    /**
+     * Creates an active spell covering an explicit area of a world, instead of
+     * reading the world and position of its caster.
+     *
+     * @param world The world the spell is ticked and indexed in
+     * @param center The center of the area
+     * @param radius The radius of the area in blocks, at least 0
+     * @param source The scroll the spell was cast from, or null to send no cast events
+     * @param intensity The final spell intensity, forwarded to client visuals
+     */
+    public ActiveSpellEffect(PlayerEntity caster, World world, BlockPos center, int radius, MagicEffect effect,
+                             List<MagicEnums.Clarification> clarifications,
+                             List<MagicEnums.MagicType> types, int durationTicks,
+                             @Nullable Item source, float intensity) {
+        this.source = source;
+        this.intensity = intensity;
         this.caster = Objects.requireNonNull(caster, "Caster cannot be null");
         this.effect = Objects.requireNonNull(effect, "Effect cannot be null");
         this.clarifications = List.copyOf(Objects.requireNonNull(clarifications, "Clarifications cannot be null"));
         this.types = List.copyOf(Objects.requireNonNull(types, "Types cannot be null"));
         this.ticksRemaining = Math.max(0, durationTicks);
         this.totalDuration = this.ticksRemaining;
+
+        this.world = Objects.requireNonNull(world, "World cannot be null");
+        Objects.requireNonNull(center, "Center cannot be null");
+        this.centerX = center.getX();
+        this.centerY = center.getY();
+        this.centerZ = center.getZ();
+        this.radius = Math.max(0, radius);
+    }
+
+    /**
+     * Sets the area this spell affects. Must be called before the spell is added
+     * to {@link ActiveSpellTracker}, which indexes it by this area.
+     *
+     * @param center The center of the area
+     * @param radius The radius of the area in blocks, at least 0
+     */
+    public ActiveSpellEffect setArea(BlockPos center, int radius) {
+        this.centerX = center.getX();
+        this.centerY = center.getY();
+        this.centerZ = center.getZ();
+        this.radius = Math.max(0, radius);
+        return this;
     }
 
     public void tick(World world) {
@@ -39,12 +119,21 @@ public class ActiveSpellEffect {
         }
 
         // Call the effect's tick method
+        long start = SpellProfiler.begin();
         effect.onTick(world, caster, clarifications, types, ticksRemaining);
+        SpellProfiler.endEffect(source, effect, start);
         ticksRemaining--;
 
         // If this is the last tick, call onEnd
         if (ticksRemaining <= 0) {
-            effect.onEnd(world, caster, clarifications, types);
+            end(world);
+        }
+    }
+
+    private void end(World world) {
+        effect.onEnd(world, caster, clarifications, types);
+        if (source != null) {
+            SpellCastEventPayload.send(world, caster, source, SpellCastEventPayload.Stage.END, intensity);
         }
     }
 
@@ -83,13 +172,79 @@ public class ActiveSpellEffect {
         return types.contains(type);
     }
 
+    /**
+     * Checks if this spell has a magic type opposing one of the other spell's types,
+     * such as FIRE against WATER.
+     */
+    public boolean opposes(ActiveSpellEffect other) {
+        for (int i = 0; i < types.size(); i++) {
+            for (int j = 0; j < other.types.size(); j++) {
+                if (types.get(i).getInteractionWith(other.types.get(j)) == MagicEnums.InteractionType.OPPOSE) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if this spell's area overlaps a box of blocks, bounds inclusive.
+     */
+    public boolean overlaps(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        return getMinX() <= maxX && getMaxX() >= minX
+                && getMinY() <= maxY && getMaxY() >= minY
+                && getMinZ() <= maxZ && getMaxZ() >= minZ;
+    }
+
+    /**
+     * Gets the world the spell was cast in.
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    public int getMinX() {
+        return centerX - radius;
+    }
+
+    public int getMinY() {
+        return centerY - radius;
+    }
+
+    public int getMinZ() {
+        return centerZ - radius;
+    }
+
+    public int getMaxX() {
+        return centerX + radius;
+    }
+
+    public int getMaxY() {
+        return centerY + radius;
+    }
+
+    public int getMaxZ() {
+        return centerZ + radius;
+    }
+
+    /**
+     * Gets the packed position of the chunk section containing the spell's center.
+     */
+    public long getSectionKey() {
+        return ChunkSectionPos.asLong(centerX >> 4, centerY >> 4, centerZ >> 4);
+    }
+
     /**
      * Forcibly expires this spell effect, calling onEnd if it hasn't been called yet
      */
     public void forceExpire(World world) {
         if (ticksRemaining > 0) {
             ticksRemaining = 0;
-            effect.onEnd(world, caster, clarifications, types);
+            end(world);
         }
     }
 
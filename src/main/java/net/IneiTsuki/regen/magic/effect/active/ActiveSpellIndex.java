@@ -0,0 +1,131 @@
+package net.IneiTsuki.regen.magic.effect.active;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spatial index of active spells by the chunk sections their areas overlap.
+ *
+ * <p>Each world has a grid of 16x16x16 sections; a spell is listed in every
+ * section its area touches. An overlap query only visits the sections of the
+ * queried box, so its cost grows with the number of spells nearby rather than
+ * with every active spell. Spells listed in several visited sections are
+ * reported once, using a per-query mark on the spell instead of a set.
+ *
+ * <p>Owned by {@link ActiveSpellTracker}. Not thread safe.
+ */
+public final class ActiveSpellIndex {
+
+    private final Map<World, Long2ObjectOpenHashMap<ArrayList<ActiveSpellEffect>>> worlds = new IdentityHashMap<>();
+
+    private int queryMark = 0;
+
+    ActiveSpellIndex() {
+    }
+
+    void add(ActiveSpellEffect spell) {
+        Long2ObjectOpenHashMap<ArrayList<ActiveSpellEffect>> sections =
+                worlds.computeIfAbsent(spell.getWorld(), w -> new Long2ObjectOpenHashMap<>());
+
+        for (int x = spell.getMinX() >> 4; x <= spell.getMaxX() >> 4; x++) {
+            for (int y = spell.getMinY() >> 4; y <= spell.getMaxY() >> 4; y++) {
+                for (int z = spell.getMinZ() >> 4; z <= spell.getMaxZ() >> 4; z++) {
+                    sections.computeIfAbsent(ChunkSectionPos.asLong(x, y, z), key -> new ArrayList<>()).add(spell);
+                }
+            }
+        }
+    }
+
+    void remove(ActiveSpellEffect spell) {
+        Long2ObjectOpenHashMap<ArrayList<ActiveSpellEffect>> sections = worlds.get(spell.getWorld());
+        if (sections == null) {
+            return;
+        }
+
+        for (int x = spell.getMinX() >> 4; x <= spell.getMaxX() >> 4; x++) {
+            for (int y = spell.getMinY() >> 4; y <= spell.getMaxY() >> 4; y++) {
+                for (int z = spell.getMinZ() >> 4; z <= spell.getMaxZ() >> 4; z++) {
+                    long key = ChunkSectionPos.asLong(x, y, z);
+                    ArrayList<ActiveSpellEffect> section = sections.get(key);
+                    if (section == null) continue;
+
+                    removeInstance(section, spell);
+                    if (section.isEmpty()) {
+                        sections.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the unexpired spells whose areas overlap a box of blocks, bounds inclusive.
+     *
+     * @param world the world to search
+     * @param out receives the spells; not cleared first
+     * @return how many spells were added to {@code out}
+     */
+    public int query(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                     List<ActiveSpellEffect> out) {
+        Long2ObjectOpenHashMap<ArrayList<ActiveSpellEffect>> sections = worlds.get(world);
+        if (sections == null || sections.isEmpty()) {
+            return 0;
+        }
+
+        int mark = ++queryMark;
+        int found = 0;
+        for (int x = minX >> 4; x <= maxX >> 4; x++) {
+            for (int y = minY >> 4; y <= maxY >> 4; y++) {
+                for (int z = minZ >> 4; z <= maxZ >> 4; z++) {
+                    ArrayList<ActiveSpellEffect> section = sections.get(ChunkSectionPos.asLong(x, y, z));
+                    if (section == null) continue;
+
+                    for (int i = 0; i < section.size(); i++) {
+                        ActiveSpellEffect spell = section.get(i);
+                        if (spell.queryMark == mark) continue;
+                        spell.queryMark = mark;
+
+                        if (!spell.isExpired() && spell.overlaps(minX, minY, minZ, maxX, maxY, maxZ)) {
+                            out.add(spell);
+                            found++;
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Removes one spell by identity; spells with the same caster and effect are equal.
+     */
+    private static void removeInstance(ArrayList<ActiveSpellEffect> section, ActiveSpellEffect spell) {
+        for (int i = section.size() - 1; i >= 0; i--) {
+            if (section.get(i) == spell) {
+                section.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of occupied sections in all worlds.
+     */
+    public int getSectionCount() {
+        int count = 0;
+        for (Long2ObjectOpenHashMap<ArrayList<ActiveSpellEffect>> sections : worlds.values()) {
+            count += sections.size();
+        }
+        return count;
+    }
+
+    void clear() {
+        worlds.clear();
+    }
+}
@@ -1,35 +1,168 @@
 package net.IneiTsuki.regen.magic.effect.active;
 
+import net.IneiTsuki.regen.magic.core.metrics.ModMetrics;
+import net.IneiTsuki.regen.magic.core.profiling.jfr.ActiveSpellTickJfrEvent;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Ticks every active lasting spell once per tick of the world it was cast in.
+ *
+ * <p>Each world keeps its spells in an {@link ArrayList} that is walked by index
+ * and compacted in place, so a tick allocates nothing. Spells added while a tick
+ * is running are first ticked on the next tick.
+ *
+ * <p>Every spell is also listed in an {@link ActiveSpellIndex} by its area, for
+ * overlap queries. A new spell that overlaps an active spell of an opposing type,
+ * such as WATER over FIRE, neutralizes it: both end at once. After spells are
+ * added, the list is re-sorted by chunk section so a tick visits nearby spells
+ * one after another.
+ */
 public class ActiveSpellTracker {
-    private static final List<ActiveSpellEffect> activeSpells = new LinkedList<>();
+    private static final Map<World, WorldSpells> worlds = new IdentityHashMap<>();
+    private static final ActiveSpellIndex index = new ActiveSpellIndex();
 
+    private static final Comparator<ActiveSpellEffect> SECTION_ORDER =
+            Comparator.comparingLong(ActiveSpellEffect::getSectionKey);
+
+    // Reused by add
+    private static final ArrayList<ActiveSpellEffect> overlapping = new ArrayList<>();
+
+    /**
+     * Ticks the spells cast in a world. Called at the end of every world tick.
+     */
     public static void tick(World world) {
-        Iterator<ActiveSpellEffect> iterator = activeSpells.iterator();
-        while (iterator.hasNext()) {
-            ActiveSpellEffect spell = iterator.next();
+        WorldSpells spells = worlds.get(world);
+        if (spells == null || spells.list.isEmpty()) {
+            return;
+        }
+
+        ActiveSpellTickJfrEvent jfrEvent = new ActiveSpellTickJfrEvent();
+        jfrEvent.begin();
+
+        ArrayList<ActiveSpellEffect> activeSpells = spells.list;
+        if (spells.unsorted) {
+            activeSpells.sort(SECTION_ORDER);
+            spells.unsorted = false;
+        }
+
+        int ticked = activeSpells.size();
+        int write = 0;
+
+        for (int read = 0; read < ticked; read++) {
+            ActiveSpellEffect spell = activeSpells.get(read);
             spell.tick(world);
-            if (spell.isExpired()) {
-                // cleanup logic
-                iterator.remove();
+            if (!spell.isExpired()) {
+                activeSpells.set(write++, spell);
+            } else {
+                index.remove(spell);
+            }
+        }
+
+        int expired = ticked - write;
+        if (expired > 0) {
+            // Keep spells added during this tick, then drop the leftover tail
+            int total = activeSpells.size();
+            for (int read = ticked; read < total; read++) {
+                activeSpells.set(write++, activeSpells.get(read));
             }
+            while (activeSpells.size() > write) {
+                activeSpells.remove(activeSpells.size() - 1);
+            }
+        }
+
+        jfrEvent.end();
+        if (jfrEvent.isEnabled() && ticked > 0 && jfrEvent.shouldCommit()) {
+            jfrEvent.world = world.getRegistryKey().getValue().toString();
+            jfrEvent.spellsTicked = ticked;
+            jfrEvent.spellsExpired = expired;
+            jfrEvent.commit();
         }
     }
 
+    /**
+     * Starts tracking a spell. If its area overlaps active spells of an opposing
+     * type, the new spell and those spells are all expired.
+     */
     public static void add(ActiveSpellEffect spell) {
-        activeSpells.add(spell);
+        overlapping.clear();
+        index.query(spell.getWorld(), spell.getMinX(), spell.getMinY(), spell.getMinZ(),
+                spell.getMaxX(), spell.getMaxY(), spell.getMaxZ(), overlapping);
+
+        WorldSpells spells = worlds.computeIfAbsent(spell.getWorld(), w -> new WorldSpells());
+        spells.list.add(spell);
+        spells.unsorted = true;
+        index.add(spell);
+
+        boolean neutralized = false;
+        for (int i = 0; i < overlapping.size(); i++) {
+            ActiveSpellEffect other = overlapping.get(i);
+            if (other.opposes(spell)) {
+                other.forceExpire(other.getWorld());
+                neutralized = true;
+                ModMetrics.SPELLS_NEUTRALIZED.increment();
+            }
+        }
+        if (neutralized) {
+            spell.forceExpire(spell.getWorld());
+            ModMetrics.SPELLS_NEUTRALIZED.increment();
+        }
+        overlapping.clear();
+    }
+
+    /**
+     * Collects the active spells whose areas contain a block.
+     *
+     * @param out receives the spells; not cleared first
+     * @return how many spells were added to {@code out}
+     */
+    public static int getSpellsAt(World world, BlockPos pos, List<ActiveSpellEffect> out) {
+        return index.query(world, pos.getX(), pos.getY(), pos.getZ(), pos.getX(), pos.getY(), pos.getZ(), out);
+    }
+
+    /**
+     * Collects the active spells whose areas overlap a box of blocks, bounds inclusive.
+     *
+     * @param out receives the spells; not cleared first
+     * @return how many spells were added to {@code out}
+     */
+    public static int getSpellsIn(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                                  List<ActiveSpellEffect> out) {
+        return index.query(world, minX, minY, minZ, maxX, maxY, maxZ, out);
     }
 
     public static void clear() {
-        activeSpells.clear();
+        worlds.clear();
+        index.clear();
     }
 
+    /**
+     * Gets the number of active spells in all worlds.
+     */
     public static int getCount() {
-        return activeSpells.size();
+        int count = 0;
+        for (WorldSpells spells : worlds.values()) {
+            count += spells.list.size();
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of active spells cast in a world.
+     */
+    public static int getCount(World world) {
+        WorldSpells spells = worlds.get(world);
+        return spells != null ? spells.list.size() : 0;
+    }
+
+    private static final class WorldSpells {
+        private final ArrayList<ActiveSpellEffect> list = new ArrayList<>();
+        private boolean unsorted = false;
     }
 }
@@ -3,16 +3,16 @@ package net.IneiTsuki.regen.magic.effect.scroll;
 import net.IneiTsuki.regen.magic.api.MagicEnums;
 import net.IneiTsuki.regen.magic.api.MagicEffect;
 import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
+import net.IneiTsuki.regen.magic.core.governor.SpellLoadGovernor;
+import net.IneiTsuki.regen.magic.core.text.SpellMessages;
 import net.IneiTsuki.regen.magic.core.utils.MagicInteractionRules;
+import net.IneiTsuki.regen.magic.projectile.SpellProjectiles;
+import net.IneiTsuki.regen.magic.world.SpellIntents;
+import net.IneiTsuki.regen.magic.world.SpellWorld;
 import net.minecraft.block.Blocks;
-import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.damage.DamageTypes;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.sound.SoundCategory;
-import net.minecraft.sound.SoundEvents;
-import net.minecraft.text.Text;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
 import net.minecraft.world.World;
@@ -46,7 +46,7 @@ public final class MagicScrollEffects {
      * - CONTROL: More precise placement, no self-damage
      * - DESTRUCTION: Damages entities in range
      * - CONSTRUCTION: Creates more stable fires
-     * - MOVE: Creates fire trail or projectile effect
+     * - MOVE: Launches the fire as a projectile that burns where it lands
      *
      * @param world The world where the spell is cast
      * @param user The player casting the spell
@@ -71,8 +71,8 @@ public final class MagicScrollEffects {
 
             // Calculate effect parameters
             int baseRadius = MagicConstants.FIRE_BASE_RADIUS;
-            int effectiveRadius = MagicInteractionRules.calculateRadiusModifier(
-                    effectiveClarifications, baseRadius);
+            int effectiveRadius = SpellLoadGovernor.scaleRadius(MagicInteractionRules.calculateRadiusModifier(
+                    effectiveClarifications, baseRadius));
 
             double intensityModifier = MagicInteractionRules.calculateIntensityModifier(
                     effectiveClarifications);
@@ -84,6 +84,7 @@ public final class MagicScrollEffects {
 
             // Get center position
             BlockPos center = user.getBlockPos();
+            SpellWorld spellWorld = SpellIntents.forCast(world, MagicEnums.MagicType.FIRE, (float) finalIntensity);
 
             // Handle special clarifications
             boolean isControlled = effectiveClarifications.contains(MagicEnums.Clarification.CONTROL);
@@ -91,33 +92,33 @@ public final class MagicScrollEffects {
             boolean isConstructive = effectiveClarifications.contains(MagicEnums.Clarification.CONSTRUCTION);
             boolean hasMovement = effectiveClarifications.contains(MagicEnums.Clarification.MOVE);
 
+            // Moving fire flies as a projectile and burns where it lands
+            if (hasMovement) {
+                return SpellProjectiles.launch(world, user, MagicEnums.MagicType.FIRE, (float) finalIntensity,
+                        (impactWorld, impactPos, hitEntity) -> {
+                            if (hitEntity != null) {
+                                impactWorld.damage(hitEntity, DamageTypes.IN_FIRE,
+                                        (float) (MagicConstants.PROJECTILE_HIT_DAMAGE * finalIntensity));
+                                impactWorld.ignite(hitEntity, Math.max(1, (int) (3 * finalIntensity)));
+                            }
+                            placeFireBlocks(impactWorld, impactPos, effectiveRadius, isConstructive, finalIntensity);
+                            if (isDestructive) {
+                                damageEntitiesInRange(impactWorld, impactPos, effectiveRadius, user, isControlled, finalIntensity);
+                            }
+                        });
+            }
+
             // Apply fire placement
-            int firesPlaced = placeFireBlocks(world, center, effectiveRadius, isConstructive, finalIntensity);
+            int firesPlaced = placeFireBlocks(spellWorld, center, effectiveRadius, isConstructive, finalIntensity);
 
             // Apply entity effects if destructive
             if (isDestructive) {
-                damageEntitiesInRange(world, center, effectiveRadius, user, isControlled, finalIntensity);
-            }
-
-            // Apply movement effects
-            if (hasMovement) {
-                applyMovementEffect(world, user, isControlled, finalIntensity);
+                damageEntitiesInRange(spellWorld, center, effectiveRadius, user, isControlled, finalIntensity);
             }
 
             // Provide feedback
-            String intensityDesc = getIntensityDescription(finalIntensity);
-            String effectDesc = getEffectDescription(effectiveClarifications);
-
-            user.sendMessage(Text.literal(String.format(
-                    "You unleash %s %s fire spell! (%d fires created)",
-                    intensityDesc, effectDesc, firesPlaced)), false);
-
-            // Play appropriate sound
-            world.playSound(null, center,
-                    finalIntensity > 1.5 ? SoundEvents.ENTITY_BLAZE_SHOOT : SoundEvents.ITEM_FIRECHARGE_USE,
-                    SoundCategory.PLAYERS,
-                    MagicConstants.DEFAULT_SOUND_VOLUME * (float)Math.min(finalIntensity, 2.0),
-                    MagicConstants.DEFAULT_SOUND_PITCH);
+            SpellMessages.send(user, SpellMessages.fireUnleashed(
+                    finalIntensity, effectiveClarifications, firesPlaced));
 
             return firesPlaced > 0; // Success if we placed at least one fire
 
@@ -130,32 +131,34 @@ public final class MagicScrollEffects {
 
     /**
      * Places fire blocks in the specified radius around the center position.
+     *
+     * @return the number of fire blocks placed
      */
-    private static int placeFireBlocks(World world, BlockPos center, int radius,
+    public static int placeFireBlocks(SpellWorld world, BlockPos center, int radius,
                                        boolean isConstructive, double intensity) {
         Objects.requireNonNull(world, "World cannot be null");
         Objects.requireNonNull(center, "Center position cannot be null");
 
         int firesPlaced = 0;
-        int maxFires = (int) (50 * intensity); // Limit total fires to prevent lag
+        // Limit total fires to prevent lag, tighter while the server is overloaded
+        int maxFires = SpellLoadGovernor.scaleBudget((int) (50 * intensity));
 
         for (BlockPos pos : BlockPos.iterateOutwards(center, radius, radius, radius)) {
             if (firesPlaced >= maxFires) break;
 
-            // Check if we can place fire here
-            if (canPlaceFireAt(world, pos, isConstructive)) {
-                world.setBlockState(pos, Blocks.FIRE.getDefaultState());
+            // Check if we can place fire here; warded blocks refuse the change
+            if (canPlaceFireAt(world, pos, isConstructive)
+                    && world.setBlockState(pos, Blocks.FIRE.getDefaultState())) {
                 firesPlaced++;
             }
         }
-
         return firesPlaced;
     }
 
     /**
      * Checks if fire can be placed at the given position.
      */
-    private static boolean canPlaceFireAt(World world, BlockPos pos, boolean isConstructive) {
+    private static boolean canPlaceFireAt(SpellWorld world, BlockPos pos, boolean isConstructive) {
         // Must be air block
         if (!world.isAir(pos)) {
             return false;
@@ -176,7 +179,7 @@ public final class MagicScrollEffects {
     /**
      * Damages entities in range if the spell is destructive.
      */
-    private static void damageEntitiesInRange(World world, BlockPos center, int radius,
+    public static void damageEntitiesInRange(SpellWorld world, BlockPos center, int radius,
                                               PlayerEntity caster, boolean isControlled,
                                               double intensity) {
         Objects.requireNonNull(world, "World cannot be null");
@@ -186,77 +189,25 @@ public final class MagicScrollEffects {
         double actualRadius = radius + 0.5; // Add 0.5 for better coverage
         Box damageBox = new Box(center).expand(actualRadius);
 
-        List<Entity> entities = world.getOtherEntities(null, damageBox);
-
-        for (Entity entity : entities) {
-            if (!(entity instanceof LivingEntity livingEntity)) continue;
+        List<LivingEntity> entities = world.getLivingEntities(damageBox);
 
+        for (LivingEntity livingEntity : entities) {
             // Skip the caster if controlled
-            if (isControlled && entity == caster) continue;
+            if (isControlled && livingEntity == caster) continue;
 
             // Calculate damage based on distance and intensity
-            double distance = entity.getPos().distanceTo(center.toCenterPos());
+            double distance = livingEntity.getPos().distanceTo(center.toCenterPos());
             if (distance > actualRadius) continue;
 
             double damageMultiplier = 1.0 - (distance / actualRadius); // Closer = more damage
             float damage = (float) (4.0 * intensity * damageMultiplier);
 
             // Apply fire damage
-            DamageSource fireSource = world.getDamageSources().create(DamageTypes.IN_FIRE);
-            livingEntity.damage(fireSource, damage);
+            world.damage(livingEntity, DamageTypes.IN_FIRE, damage);
 
             // Set on fire
             int fireTicks = (int) (60 * intensity * damageMultiplier); // 3 seconds base
-            livingEntity.setOnFireFor(Math.max(1, fireTicks / 20));
-        }
-    }
-
-    /**
-     * Applies movement-based effects to the spell.
-     */
-    private static void applyMovementEffect(World world, PlayerEntity user,
-                                            boolean isControlled, double intensity) {
-        Objects.requireNonNull(world, "World cannot be null");
-        Objects.requireNonNull(user, "User cannot be null");
-
-        if (isControlled) {
-            // Controlled movement: Add fire resistance
-            // TODO: Apply fire resistance potion effect
-            user.sendMessage(Text.literal("You feel protected from your own flames!"), true);
-        } else {
-            // Uncontrolled movement: Set user on fire briefly
-            int fireDuration = Math.max(1, (int) (MagicConstants.FIRE_MOVE_DURATION_SECONDS * intensity));
-            user.setOnFireFor(fireDuration);
-        }
-    }
-
-    /**
-     * Gets a description of the spell intensity.
-     */
-    private static String getIntensityDescription(double intensity) {
-        if (intensity >= 2.0) return "devastating";
-        if (intensity >= 1.5) return "powerful";
-        if (intensity >= 1.0) return "moderate";
-        if (intensity >= 0.5) return "weak";
-        return "feeble";
-    }
-
-    /**
-     * Gets a description of the spell effects based on clarifications.
-     */
-    private static String getEffectDescription(List<MagicEnums.Clarification> clarifications) {
-        if (clarifications.contains(MagicEnums.Clarification.CONTROL)) {
-            return "controlled";
-        }
-        if (clarifications.contains(MagicEnums.Clarification.DESTRUCTION)) {
-            return "destructive";
-        }
-        if (clarifications.contains(MagicEnums.Clarification.CONSTRUCTION)) {
-            return "constructive";
-        }
-        if (clarifications.contains(MagicEnums.Clarification.AREA)) {
-            return "area";
+            world.ignite(livingEntity, Math.max(1, fireTicks / 20));
         }
-        return "basic";
     }
-}
\ No newline at end of file
+}
@@ -6,14 +6,15 @@ import net.IneiTsuki.regen.magic.api.MagicEnums;
 import net.IneiTsuki.regen.magic.components.ManaComponent;
 import net.IneiTsuki.regen.magic.components.ModComponents;
 import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
+import net.IneiTsuki.regen.magic.core.governor.SpellLoadGovernor;
+import net.IneiTsuki.regen.magic.core.text.SpellMessages;
 import net.IneiTsuki.regen.magic.core.utils.MagicInteractionRules;
 import net.IneiTsuki.regen.magic.effect.active.ActiveSpellEffect;
 import net.IneiTsuki.regen.magic.effect.active.ActiveSpellTracker;
+import net.IneiTsuki.regen.magic.world.SpellIntents;
+import net.IneiTsuki.regen.magic.world.SpellWorld;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.sound.SoundCategory;
-import net.minecraft.sound.SoundEvents;
-import net.minecraft.text.Text;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
@@ -43,7 +44,7 @@ public class FireSpellEffect implements MagicEffect {
             int manaCost = calculateManaCost(cls, tys);
 
             if (!mana.hasEnoughMana(manaCost)) {
-                user.sendMessage(Text.literal("Not enough mana to cast this spell!"), true);
+                SpellMessages.send(user, SpellMessages.NO_MANA);
                 return false;
             }
 
@@ -56,7 +57,8 @@ public class FireSpellEffect implements MagicEffect {
             }
 
             int baseRadius = MagicConstants.FIRE_BASE_RADIUS;
-            int effectiveRadius = MagicInteractionRules.calculateRadiusModifier(clarifications, baseRadius);
+            int effectiveRadius = SpellLoadGovernor.scaleRadius(
+                    MagicInteractionRules.calculateRadiusModifier(clarifications, baseRadius));
             double intensityModifier = MagicInteractionRules.calculateIntensityModifier(clarifications);
             double typeInteractionModifier = MagicInteractionRules.calculateTypeInteractionMultiplier(types);
             double finalIntensity = intensityModifier * typeInteractionModifier;
@@ -65,9 +67,10 @@ public class FireSpellEffect implements MagicEffect {
 
             boolean isConstructive = clarifications.contains(MagicEnums.Clarification.CONSTRUCTION);
 
-            // Place fire blocks and track positions
+            // Queue fire blocks and track positions, applied at the end of the tick
+            SpellWorld spellWorld = SpellIntents.forCast(world, MagicEnums.MagicType.FIRE, (float) finalIntensity);
             placedFirePositions.clear();
-            placedFirePositions.addAll(placeFireBlocks(world, center, effectiveRadius, isConstructive, finalIntensity));
+            placedFirePositions.addAll(placeFireBlocks(spellWorld, center, effectiveRadius, isConstructive, finalIntensity));
 
             if (placedFirePositions.isEmpty()) {
                 Regen.LOGGER.warn("FireSpellEffect: No fire blocks placed, not registering active spell");
@@ -87,22 +90,12 @@ public class FireSpellEffect implements MagicEffect {
 // CREATE AND REGISTER THE ACTIVE SPELL EFFECT
             ActiveSpellEffect activeSpell = new ActiveSpellEffect(
                     user, this, cls, tys, duration
-            );
+            ).setArea(center, effectiveRadius);
             ActiveSpellTracker.add(activeSpell);
 
 // Send message only after successful activation
-            user.sendMessage(Text.literal(String.format(
-                    "You unleash %s %s fire spell! (%d fires created)",
-                    getIntensityDescription(finalIntensity),
-                    getEffectDescription(clarifications),
-                    placedFirePositions.size()
-            )), false);
-
-            world.playSound(null, center,
-                    finalIntensity > 1.5 ? SoundEvents.ENTITY_BLAZE_SHOOT : SoundEvents.ITEM_FIRECHARGE_USE,
-                    SoundCategory.PLAYERS,
-                    MagicConstants.DEFAULT_SOUND_VOLUME * (float) Math.min(finalIntensity, 2.0),
-                    MagicConstants.DEFAULT_SOUND_PITCH);
+            SpellMessages.send(user, SpellMessages.fireUnleashed(
+                    finalIntensity, clarifications, placedFirePositions.size()));
 
             return true;
 
@@ -159,59 +152,62 @@ public class FireSpellEffect implements MagicEffect {
         //Regen.LOGGER.info("FireSpellEffect onEnd called for user: {}", user.getName().getString());
 
         // Remove all placed fire blocks
-        for (BlockPos pos : placedFirePositions) {
-            if (world.getBlockState(pos).isOf(Blocks.FIRE)) {
-                world.setBlockState(pos, Blocks.AIR.getDefaultState());
-            }
-        }
+        // Neutral cleanup, so fire placed here by another spell this tick wins
+        removeFireBlocks(SpellIntents.forCast(world, null, 0.0F), placedFirePositions);
         placedFirePositions.clear();
 
         //Regen.LOGGER.info("FireSpellEffect onEnd: Removed {} fire blocks", removedCount);
 
-        user.sendMessage(Text.literal("Your fire spell fades away."), true);
+        SpellMessages.send(user, SpellMessages.FIRE_FADES);
     }
 
-    private static Set<BlockPos> placeFireBlocks(World world, BlockPos center, int radius,
-                                                 boolean isConstructive, double intensity) {
+    /**
+     * Places fire on air blocks around the center, up to a limit scaled by intensity.
+     *
+     * @return the positions where fire was placed
+     */
+    public static Set<BlockPos> placeFireBlocks(SpellWorld world, BlockPos center, int radius,
+                                                boolean isConstructive, double intensity) {
         Set<BlockPos> placed = new HashSet<>();
-        int maxFires = (int) (50 * intensity);
+        int maxFires = SpellLoadGovernor.scaleBudget((int) (50 * intensity));
 
         for (BlockPos pos : BlockPos.iterateOutwards(center, radius, radius, radius)) {
             if (placed.size() >= maxFires) break;
 
-            if (canPlaceFireAt(world, pos, isConstructive)) {
-                world.setBlockState(pos, Blocks.FIRE.getDefaultState());
+            // Warded blocks refuse the change and do not count against the budget
+            if (canPlaceFireAt(world, pos, isConstructive)
+                    && world.setBlockState(pos, Blocks.FIRE.getDefaultState())) {
                 placed.add(pos.toImmutable());
             }
         }
         return placed;
     }
 
-    private static boolean canPlaceFireAt(World world, BlockPos pos, boolean isConstructive) {
+    /**
+     * Removes fire from the given positions, leaving other blocks untouched.
+     *
+     * @return the number of fire blocks removed
+     */
+    public static int removeFireBlocks(SpellWorld world, Collection<BlockPos> positions) {
+        int removed = 0;
+        for (BlockPos pos : positions) {
+            if (world.getBlockState(pos).isOf(Blocks.FIRE)
+                    && world.setBlockState(pos, Blocks.AIR.getDefaultState())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static boolean canPlaceFireAt(SpellWorld world, BlockPos pos, boolean isConstructive) {
         if (!world.isAir(pos)) {
             return false;
         }
         BlockPos below = pos.down();
         if (isConstructive) {
-            return world.getBlockState(below).isSolidBlock(world, below);
+            return world.isSolidBlock(below);
         } else {
             return world.getBlockState(below).isBurnable();
         }
     }
-
-    private static String getIntensityDescription(double intensity) {
-        if (intensity >= 2.0) return "devastating";
-        if (intensity >= 1.5) return "powerful";
-        if (intensity >= 1.0) return "moderate";
-        if (intensity >= 0.5) return "weak";
-        return "feeble";
-    }
-
-    private static String getEffectDescription(List<MagicEnums.Clarification> clarifications) {
-        if (clarifications.contains(MagicEnums.Clarification.CONTROL)) return "controlled";
-        if (clarifications.contains(MagicEnums.Clarification.DESTRUCTION)) return "destructive";
-        if (clarifications.contains(MagicEnums.Clarification.CONSTRUCTION)) return "constructive";
-        if (clarifications.contains(MagicEnums.Clarification.AREA)) return "area";
-        return "basic";
-    }
 }
@@ -0,0 +1,165 @@
+package net.IneiTsuki.regen.magic.effect.spell;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.IneiTsuki.regen.magic.api.MagicEffect;
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
+import net.IneiTsuki.regen.magic.core.governor.SpellLoadGovernor;
+import net.IneiTsuki.regen.magic.core.metrics.ModMetrics;
+import net.IneiTsuki.regen.magic.core.utils.MagicInteractionRules;
+import net.IneiTsuki.regen.magic.growth.GrowableIndex;
+import net.IneiTsuki.regen.magic.ward.SpellWards;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.StemBlock;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.registry.tag.BlockTags;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Speeds up crops, saplings and stems around where the spell was cast while it
+ * lasts. The center is fixed when the spell is cast and handed to its active
+ * spell through {@link #forActiveSpell()}, so the spell stays where it is indexed
+ * even if the caster walks away or changes dimension.
+ *
+ * <p>Every {@link MagicConstants#GROWTH_PERIOD_TICKS} ticks, the growable blocks
+ * within the spell's radius are taken from the {@link GrowableIndex} and up to
+ * {@link MagicConstants#GROWTH_TICKS_PER_PULSE} of them, picked at random, get an
+ * extra random tick. The cost of a pulse depends on the number of growable
+ * blocks nearby, not on the volume of the area.
+ *
+ * <p>A random tick grows the block the vanilla way, so what it places, such as
+ * a tree or a melon, is written straight to the world: it does not go through
+ * spell intents and is not counted by the block mutation counter. Wards are
+ * still respected by skipping every block whose growth could reach a warded
+ * block: trees up to {@link MagicConstants#GROWTH_TREE_RADIUS} blocks sideways
+ * and {@link MagicConstants#GROWTH_TREE_HEIGHT} up, stem fruit next to the stem.
+ */
+public class GrowthSpellEffect implements MagicEffect {
+
+    // Reused by every pulse
+    private static final LongArrayList GROWABLES = new LongArrayList();
+
+    @Nullable
+    private BlockPos lastCenter;
+
+    @Override
+    public boolean apply(World world, PlayerEntity user,
+                         List<MagicEnums.Clarification> cls,
+                         List<MagicEnums.MagicType> tys) {
+        MagicEffect.validateParameters(world, user, cls, tys);
+        if (world.isClient()) {
+            return false;
+        }
+
+        lastCenter = user.getBlockPos();
+        return true;
+    }
+
+    @Override
+    public int getCastDelayTicks(World world, PlayerEntity user,
+                                 List<MagicEnums.Clarification> cls,
+                                 List<MagicEnums.MagicType> tys) {
+        return 0;
+    }
+
+    @Override
+    public int getActiveDurationTicks(World world, PlayerEntity user,
+                                      List<MagicEnums.Clarification> cls,
+                                      List<MagicEnums.MagicType> tys) {
+        return MagicConstants.GROWTH_EFFECT_DURATION_TICKS;
+    }
+
+    @Override
+    public MagicEffect forActiveSpell() {
+        BlockPos center = lastCenter;
+        lastCenter = null;
+        return center != null ? new Growth(center) : this;
+    }
+
+    /**
+     * The active spell of one growth cast, which pulses around that cast's center.
+     */
+    private static final class Growth implements MagicEffect {
+
+        private final BlockPos center;
+
+        private Growth(BlockPos center) {
+            this.center = center;
+        }
+
+        @Override
+        public boolean apply(World world, PlayerEntity user,
+                             List<MagicEnums.Clarification> cls,
+                             List<MagicEnums.MagicType> tys) {
+            return false; // Only ever ticks; the cast itself is applied by GrowthSpellEffect
+        }
+
+        @Override
+        public void onTick(World world, PlayerEntity user,
+                           List<MagicEnums.Clarification> cls,
+                           List<MagicEnums.MagicType> tys,
+                           int ticksRemaining) {
+            if (ticksRemaining % MagicConstants.GROWTH_PERIOD_TICKS == 0
+                    && world instanceof ServerWorld serverWorld) {
+                pulse(serverWorld, center, cls);
+            }
+        }
+    }
+
+    /**
+     * Gives random growable blocks around the center an extra random tick.
+     */
+    private static void pulse(ServerWorld world, BlockPos center, List<MagicEnums.Clarification> cls) {
+        int radius = SpellLoadGovernor.scaleRadius(MagicInteractionRules.calculateRadiusModifier(
+                MagicInteractionRules.resolveClairificationConflicts(cls), MagicConstants.GROWTH_BASE_RADIUS));
+
+        GROWABLES.clear();
+        int found = GrowableIndex.collect(world,
+                center.getX() - radius, center.getY() - radius, center.getZ() - radius,
+                center.getX() + radius, center.getY() + radius, center.getZ() + radius, GROWABLES);
+
+        Random random = world.getRandom();
+        int budget = Math.min(found, SpellLoadGovernor.scaleBudget(MagicConstants.GROWTH_TICKS_PER_PULSE));
+        int grown = 0;
+
+        // Partial shuffle: the first budget entries become a random pick without repeats
+        for (int i = 0; i < budget; i++) {
+            int j = i + random.nextInt(found - i);
+            long packed = GROWABLES.getLong(j);
+            GROWABLES.set(j, GROWABLES.getLong(i));
+
+            // Immutable, as saplings and stems may keep the position they grow from
+            BlockPos pos = BlockPos.fromLong(packed);
+            BlockState state = world.getBlockState(pos);
+            if (state.hasRandomTicks() && GrowableIndex.isGrowable(state) && !canGrowIntoWard(world, pos, state)) {
+                state.randomTick(world, pos, random);
+                grown++;
+            }
+        }
+
+        GROWABLES.clear();
+        ModMetrics.GROWTH_TICKS.add(grown);
+    }
+
+    /**
+     * Checks if growing the block could change a warded block.
+     */
+    private static boolean canGrowIntoWard(ServerWorld world, BlockPos pos, BlockState state) {
+        int reach = 0;
+        int height = 0;
+        if (state.isIn(BlockTags.SAPLINGS)) {
+            reach = MagicConstants.GROWTH_TREE_RADIUS;
+            height = MagicConstants.GROWTH_TREE_HEIGHT;
+        } else if (state.getBlock() instanceof StemBlock) {
+            reach = 1;
+        }
+        return SpellWards.isAnyWarded(world, pos.getX() - reach, pos.getY(), pos.getZ() - reach,
+                pos.getX() + reach, pos.getY() + height, pos.getZ() + reach);
+    }
+}
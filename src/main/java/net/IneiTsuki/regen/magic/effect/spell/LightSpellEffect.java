@@ -0,0 +1,158 @@
+package net.IneiTsuki.regen.magic.effect.spell;
+
+import net.IneiTsuki.regen.Regen;
+import net.IneiTsuki.regen.magic.api.MagicEffect;
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
+import net.IneiTsuki.regen.magic.core.governor.SpellLoadGovernor;
+import net.IneiTsuki.regen.magic.core.utils.MagicInteractionRules;
+import net.IneiTsuki.regen.magic.light.SpellLightBatch;
+import net.IneiTsuki.regen.magic.light.SpellLights;
+import net.IneiTsuki.regen.magic.world.SpellIntents;
+import net.IneiTsuki.regen.magic.world.SpellWorld;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.LightBlock;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Illuminates the area around the caster with invisible light blocks for a while.
+ *
+ * <p>Light sources sit on a world-aligned grid every
+ * {@link MagicConstants#LIGHT_SOURCE_SPACING} blocks, which keeps every block
+ * between them lit while placing a few sources per chunk section instead of one
+ * per block. Sources are placed and removed through a {@link SpellLightBatch}.
+ *
+ * <p>Each cast's batch is handed to its active spell through
+ * {@link #forActiveSpell()}, and removed when that spell ends. Lights still lit
+ * when the server stops are removed by {@link SpellLights} after a restart.
+ */
+public class LightSpellEffect implements MagicEffect {
+
+    @Nullable
+    private SpellLightBatch lastBatch;
+
+    @Override
+    public boolean apply(World world, PlayerEntity user,
+                         List<MagicEnums.Clarification> cls,
+                         List<MagicEnums.MagicType> tys) {
+        try {
+            MagicEffect.validateParameters(world, user, cls, tys);
+
+            if (world.isClient()) {
+                return false;
+            }
+
+            List<MagicEnums.Clarification> clarifications = MagicInteractionRules.resolveClairificationConflicts(cls);
+            int radius = SpellLoadGovernor.scaleRadius(
+                    MagicInteractionRules.calculateRadiusModifier(clarifications, MagicConstants.LIGHT_BASE_RADIUS));
+            int maxSources = SpellLoadGovernor.scaleBudget(MagicConstants.LIGHT_MAX_SOURCES);
+
+            SpellLightBatch batch = collectSources(world, user.getBlockPos(), radius, maxSources);
+            if (batch.isEmpty()) {
+                return false;
+            }
+
+            float strength = (float) MagicInteractionRules.calculateIntensityModifier(clarifications);
+            SpellWorld spellWorld = SpellIntents.forCast(world, MagicEnums.MagicType.LIGHT, strength);
+            if (batch.place(spellWorld, lightState()) == 0) {
+                return false;
+            }
+
+            lastBatch = batch;
+            return true;
+
+        } catch (Exception e) {
+            Regen.LOGGER.error("LightSpellEffect: Error in apply method", e);
+            return false;
+        }
+    }
+
+    @Override
+    public int getCastDelayTicks(World world, PlayerEntity user,
+                                 List<MagicEnums.Clarification> cls,
+                                 List<MagicEnums.MagicType> tys) {
+        return 0;
+    }
+
+    @Override
+    public int getActiveDurationTicks(World world, PlayerEntity user,
+                                      List<MagicEnums.Clarification> cls,
+                                      List<MagicEnums.MagicType> tys) {
+        return MagicConstants.LIGHT_EFFECT_DURATION_TICKS;
+    }
+
+    @Override
+    public MagicEffect forActiveSpell() {
+        SpellLightBatch batch = lastBatch;
+        lastBatch = null;
+        return batch != null ? new Illumination(batch) : this;
+    }
+
+    /**
+     * The active spell of one light cast, which removes that cast's light when it ends.
+     */
+    private static final class Illumination implements MagicEffect {
+
+        private final SpellLightBatch batch;
+
+        private Illumination(SpellLightBatch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public boolean apply(World world, PlayerEntity user,
+                             List<MagicEnums.Clarification> cls,
+                             List<MagicEnums.MagicType> tys) {
+            return false; // Only ever ends; the cast itself is applied by LightSpellEffect
+        }
+
+        @Override
+        public void onEnd(World world, PlayerEntity user,
+                          List<MagicEnums.Clarification> cls,
+                          List<MagicEnums.MagicType> tys) {
+            // Neutral cleanup, so a light placed here by another spell this tick wins
+            batch.remove(SpellIntents.forCast(world, null, 0.0F));
+        }
+    }
+
+    /**
+     * Picks the air blocks on the light grid within a radius of the center, nearest first.
+     * A grid point inside a block moves up to the first air block above it, if one is
+     * within half the grid spacing.
+     */
+    private static SpellLightBatch collectSources(World world, BlockPos center, int radius, int maxSources) {
+        SpellLightBatch batch = new SpellLightBatch(world);
+        int spacing = MagicConstants.LIGHT_SOURCE_SPACING;
+        int maxShift = spacing / 2;
+
+        // Walk the grid in grid units, so only grid points are visited
+        BlockPos gridCenter = new BlockPos(Math.floorDiv(center.getX(), spacing),
+                Math.floorDiv(center.getY(), spacing), Math.floorDiv(center.getZ(), spacing));
+        int gridRadius = Math.max(1, (radius + spacing - 1) / spacing);
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        for (BlockPos point : BlockPos.iterateOutwards(gridCenter, gridRadius, gridRadius, gridRadius)) {
+            if (batch.size() >= maxSources) break;
+
+            pos.set(point.getX() * spacing, point.getY() * spacing, point.getZ() * spacing);
+            for (int shift = 0; shift <= maxShift; shift++) {
+                if (world.isAir(pos)) {
+                    batch.add(pos);
+                    break;
+                }
+                pos.move(0, 1, 0);
+            }
+        }
+        return batch;
+    }
+
+    private static BlockState lightState() {
+        return Blocks.LIGHT.getDefaultState().with(LightBlock.LEVEL_15, MagicConstants.LIGHT_SOURCE_LEVEL);
+    }
+}
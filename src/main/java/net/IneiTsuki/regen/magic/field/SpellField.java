@@ -0,0 +1,100 @@
+package net.IneiTsuki.regen.magic.field;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.MathHelper;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * One lingering spell field: a sphere that pulses its {@link SpellFieldKind}
+ * onto the living entities inside it until it expires.
+ *
+ * <p>Fields are plain data owned by {@link SpellFields}; they are not entities,
+ * so they are neither tracked nor saved and never scan for collisions themselves.
+ */
+public final class SpellField {
+
+    private final SpellFieldKind kind;
+    private final double x;
+    private final double y;
+    private final double z;
+    private final double radius;
+    private final float strength;
+    private final long endTime;
+    @Nullable
+    private final UUID owner;
+
+    SpellField(SpellFieldKind kind, double x, double y, double z, double radius, float strength,
+               long endTime, @Nullable UUID owner) {
+        this.kind = kind;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.radius = radius;
+        this.strength = strength;
+        this.endTime = endTime;
+        this.owner = owner;
+    }
+
+    /**
+     * Checks if an entity's center is inside the field. The field's owner is never affected.
+     */
+    boolean affects(Entity entity) {
+        if (owner != null && owner.equals(entity.getUuid())) {
+            return false;
+        }
+        double dx = entity.getX() - x;
+        double dy = entity.getBodyY(0.5) - y;
+        double dz = entity.getZ() - z;
+        return dx * dx + dy * dy + dz * dz <= radius * radius;
+    }
+
+    boolean isExpired(long time) {
+        return time >= endTime;
+    }
+
+    int getMinChunkX() {
+        return MathHelper.floor(x - radius) >> 4;
+    }
+
+    int getMaxChunkX() {
+        return MathHelper.floor(x + radius) >> 4;
+    }
+
+    int getMinChunkZ() {
+        return MathHelper.floor(z - radius) >> 4;
+    }
+
+    int getMaxChunkZ() {
+        return MathHelper.floor(z + radius) >> 4;
+    }
+
+    public SpellFieldKind getKind() {
+        return kind;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getZ() {
+        return z;
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    public float getStrength() {
+        return strength;
+    }
+
+    public long getEndTime() {
+        return endTime;
+    }
+}
@@ -0,0 +1,73 @@
+package net.IneiTsuki.regen.magic.field;
+
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.world.SpellWorld;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.damage.DamageTypes;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.effect.StatusEffects;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * What a lingering spell field does to the living entities inside it on every pulse.
+ */
+public enum SpellFieldKind {
+
+    /** Scalding steam: puts out burning entities, blinds them and deals light damage. */
+    STEAM(null, 0xFFD8E4EC) {
+        @Override
+        void apply(SpellWorld world, LivingEntity entity, float strength) {
+            world.extinguish(entity);
+            world.damage(entity, DamageTypes.HOT_FLOOR, strength);
+            world.addStatusEffect(entity, new StatusEffectInstance(StatusEffects.BLINDNESS, 30, 0, false, false));
+        }
+    },
+
+    /** Thermal shock: freezing damage and heavy slowness. */
+    THERMAL_SHOCK(MagicEnums.MagicType.ICE, 0xFF9FD8FF) {
+        @Override
+        void apply(SpellWorld world, LivingEntity entity, float strength) {
+            world.damage(entity, DamageTypes.FREEZE, strength);
+            world.addStatusEffect(entity, new StatusEffectInstance(StatusEffects.SLOWNESS, 40, 1, false, false));
+        }
+    };
+
+    private static final SpellFieldKind[] VALUES = values();
+
+    @Nullable
+    private final MagicEnums.MagicType element;
+    private final int color;
+
+    SpellFieldKind(@Nullable MagicEnums.MagicType element, int color) {
+        this.element = element;
+        this.color = color;
+    }
+
+    /**
+     * Applies one pulse of the field to an entity inside it.
+     *
+     * @param world where the changes go, see {@link net.IneiTsuki.regen.magic.world.SpellIntents}
+     * @param entity the entity inside the field
+     * @param strength strength of the field, its damage per pulse
+     */
+    abstract void apply(SpellWorld world, LivingEntity entity, float strength);
+
+    /**
+     * Gets the element the field's entity changes are merged under, or null for neutral.
+     */
+    @Nullable
+    public MagicEnums.MagicType getElement() {
+        return element;
+    }
+
+    /**
+     * Gets the particle color of the field, as opaque ARGB.
+     */
+    public int getColor() {
+        return color;
+    }
+
+    public static SpellFieldKind byIndex(int index) {
+        return index >= 0 && index < VALUES.length ? VALUES[index] : STEAM;
+    }
+}
@@ -0,0 +1,224 @@
+package net.IneiTsuki.regen.magic.field;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.IneiTsuki.regen.magic.network.SpellFieldPayload;
+import net.IneiTsuki.regen.magic.world.SpellIntents;
+import net.IneiTsuki.regen.magic.world.SpellWorld;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.TypeFilter;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lingering area spells such as steam and thermal shock.
+ *
+ * <p>Fields are kept in a per-world spatial hash keyed by chunk: each chunk a
+ * field overlaps holds a reference to it. Every {@link #PULSE_PERIOD_TICKS}
+ * ticks, each occupied chunk collects the living entities standing in it with a
+ * single section lookup and applies every field of that chunk that contains
+ * them. An entity is only handled by the chunk its position is in, so a field
+ * spanning several chunks affects it once. Between pulses a field costs nothing
+ * but its expiry check.
+ *
+ * <p>Clients get one {@link SpellFieldPayload} when a field is created and draw
+ * it for its whole lifetime on their own.
+ *
+ * <p>The pulse period is read from the {@code regen.fields.pulseTicks} system
+ * property, default 10. All methods must be called on the server thread.
+ */
+public final class SpellFields {
+
+    public static final int PULSE_PERIOD_TICKS = Math.max(1, Integer.getInteger("regen.fields.pulseTicks", 10));
+
+    /** Fields per world; creating more fails until some expire. */
+    public static final int MAX_FIELDS_PER_WORLD = 256;
+
+    private static final TypeFilter<Entity, LivingEntity> LIVING = TypeFilter.instanceOf(LivingEntity.class);
+
+    private static final Map<World, WorldFields> WORLDS = new IdentityHashMap<>();
+
+    // Reused by every pulse
+    private static final ArrayList<LivingEntity> ENTITIES = new ArrayList<>();
+
+    private SpellFields() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Creates a field and tells nearby clients about it.
+     *
+     * @param world the world to create the field in
+     * @param kind what the field does
+     * @param center center of the field
+     * @param radius radius of the field in blocks
+     * @param strength strength of the field, its damage per pulse
+     * @param durationTicks how long the field lingers
+     * @param owner entity never affected by the field, usually the caster
+     * @return the field, or null if the world already has too many fields
+     */
+    @Nullable
+    public static SpellField spawn(ServerWorld world, SpellFieldKind kind, Vec3d center, double radius,
+                                   float strength, int durationTicks, @Nullable Entity owner) {
+        Objects.requireNonNull(kind, "Field kind cannot be null");
+        Objects.requireNonNull(center, "Field center cannot be null");
+
+        if (radius <= 0.0 || durationTicks <= 0) {
+            throw new IllegalArgumentException("Field radius and duration must be positive");
+        }
+
+        WorldFields fields = WORLDS.computeIfAbsent(world, w -> new WorldFields());
+        if (fields.all.size() >= MAX_FIELDS_PER_WORLD) {
+            return null;
+        }
+
+        SpellField field = new SpellField(kind, center.x, center.y, center.z, radius, strength,
+                world.getTime() + durationTicks, owner != null ? owner.getUuid() : null);
+        fields.add(field);
+
+        SpellFieldPayload.send(world, field, durationTicks);
+        return field;
+    }
+
+    /**
+     * Expires old fields and, on pulse ticks, applies the rest. Called at the end of every world tick.
+     */
+    public static void tick(ServerWorld world) {
+        WorldFields fields = WORLDS.get(world);
+        if (fields == null || fields.all.isEmpty()) {
+            return;
+        }
+
+        long time = world.getTime();
+        fields.removeExpired(time);
+
+        if (time % PULSE_PERIOD_TICKS != 0) {
+            return;
+        }
+
+        for (Long2ObjectMap.Entry<ArrayList<SpellField>> chunk : Long2ObjectMaps.fastIterable(fields.byChunk)) {
+            pulseChunk(world, chunk.getLongKey(), chunk.getValue());
+        }
+        ENTITIES.clear();
+    }
+
+    /**
+     * Gets the number of live fields in all worlds.
+     */
+    public static int getCount() {
+        int count = 0;
+        for (WorldFields fields : WORLDS.values()) {
+            count += fields.all.size();
+        }
+        return count;
+    }
+
+    /**
+     * Forgets every field, for example when the server stops.
+     */
+    public static void clear() {
+        WORLDS.clear();
+        ENTITIES.clear();
+    }
+
+    private static void pulseChunk(ServerWorld world, long chunkKey, List<SpellField> chunkFields) {
+        int chunkX = ChunkPos.getPackedX(chunkKey);
+        int chunkZ = ChunkPos.getPackedZ(chunkKey);
+        if (!world.getChunkManager().isChunkLoaded(chunkX, chunkZ)) {
+            return;
+        }
+
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < chunkFields.size(); i++) {
+            SpellField field = chunkFields.get(i);
+            minY = Math.min(minY, field.getY() - field.getRadius());
+            maxY = Math.max(maxY, field.getY() + field.getRadius());
+        }
+
+        int minX = chunkX << 4;
+        int minZ = chunkZ << 4;
+        Box box = new Box(minX, minY, minZ, minX + 16, maxY, minZ + 16);
+
+        ENTITIES.clear();
+        world.collectEntitiesByType(LIVING, box,
+                entity -> entity.isAlive() && entity.getChunkPos().toLong() == chunkKey, ENTITIES);
+        if (ENTITIES.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < chunkFields.size(); i++) {
+            SpellField field = chunkFields.get(i);
+            SpellWorld spellWorld = null;
+
+            for (int j = 0; j < ENTITIES.size(); j++) {
+                LivingEntity entity = ENTITIES.get(j);
+                if (!field.affects(entity)) continue;
+
+                if (spellWorld == null) {
+                    spellWorld = SpellIntents.forCast(world, field.getKind().getElement(), field.getStrength());
+                }
+                field.getKind().apply(spellWorld, entity, field.getStrength());
+            }
+        }
+    }
+
+    /**
+     * The fields of one world, indexed by every chunk they overlap.
+     */
+    private static final class WorldFields {
+        private final ArrayList<SpellField> all = new ArrayList<>();
+        private final Long2ObjectOpenHashMap<ArrayList<SpellField>> byChunk = new Long2ObjectOpenHashMap<>();
+
+        void add(SpellField field) {
+            all.add(field);
+            for (int x = field.getMinChunkX(); x <= field.getMaxChunkX(); x++) {
+                for (int z = field.getMinChunkZ(); z <= field.getMaxChunkZ(); z++) {
+                    byChunk.computeIfAbsent(ChunkPos.toLong(x, z), key -> new ArrayList<>()).add(field);
+                }
+            }
+        }
+
+        void removeExpired(long time) {
+            int write = 0;
+            for (int read = 0; read < all.size(); read++) {
+                SpellField field = all.get(read);
+                if (field.isExpired(time)) {
+                    unindex(field);
+                } else {
+                    all.set(write++, field);
+                }
+            }
+            while (all.size() > write) {
+                all.remove(all.size() - 1);
+            }
+        }
+
+        private void unindex(SpellField field) {
+            for (int x = field.getMinChunkX(); x <= field.getMaxChunkX(); x++) {
+                for (int z = field.getMinChunkZ(); z <= field.getMaxChunkZ(); z++) {
+                    long key = ChunkPos.toLong(x, z);
+                    ArrayList<SpellField> chunkFields = byChunk.get(key);
+                    if (chunkFields == null) continue;
+
+                    chunkFields.remove(field);
+                    if (chunkFields.isEmpty()) {
+                        byChunk.remove(key);
+                    }
+                }
+            }
+        }
+    }
+}
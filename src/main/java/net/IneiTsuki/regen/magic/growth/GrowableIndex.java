@@ -0,0 +1,177 @@
+package net.IneiTsuki.regen.magic.growth;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.StemBlock;
+import net.minecraft.registry.tag.BlockTags;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Positions of growable blocks (crops, saplings and stems), cached per chunk section.
+ *
+ * <p>A section is scanned the first time a growth spell asks for it. Sections
+ * whose palette holds no growable state are recorded as empty without looking
+ * at a single block, which covers almost every section of a world. Otherwise
+ * the section's 4096 blocks are scanned once and the growable ones kept as
+ * packed local positions.
+ *
+ * <p>An entry is dropped when a block in its section turns growable or stops
+ * being growable, and when its chunk unloads; the next query scans it again.
+ * Growth itself, such as a crop getting older, keeps the block growable and
+ * leaves the entry alone.
+ *
+ * <p>All methods must be called on the server thread.
+ */
+public final class GrowableIndex {
+
+    public static final Predicate<BlockState> GROWABLE = GrowableIndex::isGrowable;
+
+    /** Shared entry of sections without growable blocks. Never written. */
+    private static final short[] NONE = new short[0];
+
+    private static final Map<World, Long2ObjectOpenHashMap<short[]>> WORLDS = new IdentityHashMap<>();
+
+    // Reused by every section scan
+    private static final ShortArrayList SCAN = new ShortArrayList();
+
+    private GrowableIndex() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Checks if a block is one growth spells speed up.
+     */
+    public static boolean isGrowable(BlockState state) {
+        return state.isIn(BlockTags.CROPS) || state.isIn(BlockTags.SAPLINGS) || state.getBlock() instanceof StemBlock;
+    }
+
+    /**
+     * Collects the growable blocks in a box of blocks, bounds inclusive. Sections
+     * in chunks that are not loaded are skipped.
+     *
+     * @param out receives packed block positions, see {@link BlockPos#asLong}; not cleared first
+     * @return how many positions were added to {@code out}
+     */
+    public static int collect(ServerWorld world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                              LongArrayList out) {
+        Long2ObjectOpenHashMap<short[]> sections = WORLDS.computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>());
+
+        int minSectionY = Math.max(minY >> 4, world.getBottomSectionCoord());
+        int maxSectionY = Math.min(maxY >> 4, world.getTopSectionCoord() - 1);
+        int found = 0;
+
+        for (int sx = minX >> 4; sx <= maxX >> 4; sx++) {
+            for (int sz = minZ >> 4; sz <= maxZ >> 4; sz++) {
+                WorldChunk chunk = null;
+
+                for (int sy = minSectionY; sy <= maxSectionY; sy++) {
+                    long key = ChunkSectionPos.asLong(sx, sy, sz);
+                    short[] positions = sections.get(key);
+
+                    if (positions == null) {
+                        if (chunk == null) {
+                            chunk = world.getChunkManager().getWorldChunk(sx, sz);
+                            if (chunk == null) break;
+                        }
+                        positions = scan(chunk.getSection(world.sectionCoordToIndex(sy)));
+                        sections.put(key, positions);
+                    }
+
+                    int originX = sx << 4, originY = sy << 4, originZ = sz << 4;
+                    for (short packed : positions) {
+                        int x = originX + (packed & 15);
+                        int y = originY + ((packed >> 8) & 15);
+                        int z = originZ + ((packed >> 4) & 15);
+                        if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+                            out.add(BlockPos.asLong(x, y, z));
+                            found++;
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Drops the entry of a block's section if the block turned growable or stopped
+     * being growable. Called for every block change in a server world.
+     */
+    public static void onBlockChanged(ServerWorld world, BlockPos pos, BlockState oldState, BlockState newState) {
+        if (WORLDS.isEmpty() || oldState.getBlock() == newState.getBlock()) {
+            return;
+        }
+        if (isGrowable(oldState) == isGrowable(newState)) {
+            return;
+        }
+
+        Long2ObjectOpenHashMap<short[]> sections = WORLDS.get(world);
+        if (sections != null) {
+            sections.remove(ChunkSectionPos.toLong(pos));
+        }
+    }
+
+    /**
+     * Drops the entries of an unloading chunk.
+     */
+    public static void onChunkUnload(ServerWorld world, WorldChunk chunk) {
+        Long2ObjectOpenHashMap<short[]> sections = WORLDS.get(world);
+        if (sections == null || sections.isEmpty()) {
+            return;
+        }
+
+        ChunkPos pos = chunk.getPos();
+        for (int sy = world.getBottomSectionCoord(); sy < world.getTopSectionCoord(); sy++) {
+            sections.remove(ChunkSectionPos.asLong(pos.x, sy, pos.z));
+        }
+    }
+
+    /**
+     * Gets the number of cached sections in all worlds.
+     */
+    public static int getSectionCount() {
+        int count = 0;
+        for (Long2ObjectOpenHashMap<short[]> sections : WORLDS.values()) {
+            count += sections.size();
+        }
+        return count;
+    }
+
+    /**
+     * Forgets every entry, for example when the server stops.
+     */
+    public static void clear() {
+        WORLDS.clear();
+    }
+
+    private static short[] scan(ChunkSection section) {
+        // The palette check skips sections without growables without reading any block
+        if (section.isEmpty() || !section.hasAny(GROWABLE)) {
+            return NONE;
+        }
+
+        SCAN.clear();
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    if (isGrowable(section.getBlockState(x, y, z))) {
+                        SCAN.add((short) (y << 8 | z << 4 | x));
+                    }
+                }
+            }
+        }
+        return SCAN.toShortArray();
+    }
+}
@@ -1,28 +1,40 @@
 package net.IneiTsuki.regen.magic.item;
 
+import net.IneiTsuki.regen.magic.components.CastingComponent;
 import net.IneiTsuki.regen.magic.components.ManaComponent;
 import net.IneiTsuki.regen.magic.components.ModComponents;
 import net.IneiTsuki.regen.magic.effect.active.ActiveSpellEffect;
 import net.IneiTsuki.regen.magic.effect.active.ActiveSpellTracker;
-import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
 import net.IneiTsuki.regen.magic.api.MagicEnums;
 import net.IneiTsuki.regen.magic.core.utils.MagicInteractionRules;
-import net.IneiTsuki.regen.magic.core.scheduler.TickScheduler;
+import net.IneiTsuki.regen.magic.core.utils.MagicUtils;
+import net.IneiTsuki.regen.magic.core.governor.SpellLoadGovernor;
+import net.IneiTsuki.regen.magic.core.metrics.ModMetrics;
+import net.IneiTsuki.regen.magic.core.profiling.SpellProfiler;
+import net.IneiTsuki.regen.magic.core.profiling.jfr.SpellCastJfrEvent;
+import net.IneiTsuki.regen.magic.core.text.SpellMessages;
 import net.IneiTsuki.regen.magic.api.MagicEffect;
+import net.IneiTsuki.regen.magic.network.SpellCastEventPayload;
+import net.IneiTsuki.regen.magic.projectile.SpellProjectiles;
+import net.IneiTsuki.regen.magic.ward.SpellWards;
+import net.IneiTsuki.regen.magic.world.SpellIntents;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.tooltip.TooltipType;
-import net.minecraft.sound.SoundCategory;
-import net.minecraft.sound.SoundEvents;
+import net.minecraft.registry.Registries;
+import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.Hand;
 import net.minecraft.util.TypedActionResult;
 import net.minecraft.world.World;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Represents a magic scroll item that can be used to cast spells.
@@ -41,6 +53,23 @@ public class MagicScrollItem extends Item {
     private final MagicEffect effect;
     private final boolean isStable;
     private final int manaCost;
+    private final int typeMask;
+    private final float intensity;
+    private final int castWeight;
+    private final CastingComponent.InterruptPolicy interruptPolicy;
+    private final boolean projectile;
+
+    /** Prefix of the scroll tooltip translation keys. */
+    public static final String TOOLTIP_KEY_PREFIX = "tooltip.regen.scroll.";
+
+    /**
+     * Static tooltip lines, built on first hover. They are translatable, so the
+     * client resolves them in its current language and they never go stale.
+     */
+    private TooltipCache tooltipCache;
+
+    /** Cast counter of this scroll, looked up on first cast once the registry id is known. */
+    private LongAdder castCounter;
 
     /**
      * Creates a new magic scroll item.
@@ -76,6 +105,16 @@ public class MagicScrollItem extends Item {
         this.effect = effect;
         this.isStable = MagicInteractionRules.isStableCombination(clarifications, types);
         this.manaCost = manaCost;
+        this.typeMask = MagicUtils.toTypeMask(this.types);
+        this.intensity = (float) (MagicInteractionRules.calculateIntensityModifier(
+                MagicInteractionRules.resolveClairificationConflicts(this.clarifications))
+                * MagicInteractionRules.calculateTypeInteractionMultiplier(this.types));
+        this.castWeight = MagicInteractionRules.calculateCastWeight(this.clarifications, this.types);
+        // Movement spells are meant to be cast on the move
+        this.interruptPolicy = this.clarifications.contains(MagicEnums.Clarification.MOVE)
+                ? CastingComponent.InterruptPolicy.ON_DAMAGE
+                : CastingComponent.InterruptPolicy.ON_MOVE_OR_DAMAGE;
+        this.projectile = MagicInteractionRules.isProjectileSpell(this.clarifications, this.types);
     }
 
     @Override
@@ -89,58 +128,86 @@ public class MagicScrollItem extends Item {
         if (!world.isClient()) {
             try {
                 if (!isStable) {
-                    user.sendMessage(Text.literal(MagicConstants.ERROR_INVALID_COMBINATION)
-                            .formatted(Formatting.RED), false);
-                    world.playSound(null, user.getX(), user.getY(), user.getZ(),
-                            SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.PLAYERS,
-                            MagicConstants.DEFAULT_SOUND_VOLUME, MagicConstants.DEFAULT_SOUND_PITCH);
+                    SpellMessages.send(user, SpellMessages.UNSTABLE);
+                    sendCastEvent(world, user, SpellCastEventPayload.Stage.FIZZLE);
                     return TypedActionResult.fail(itemStack);
                 }
 
-                // Get mana cost for this spell cast
-                int manaCost = effect.getManaCost(world, user, clarifications, types);
+                if (SpellWards.isNoMagic(world, user.getBlockPos())) {
+                    SpellMessages.send(user, SpellMessages.WARDED);
+                    sendCastEvent(world, user, SpellCastEventPayload.Stage.FIZZLE);
+                    return TypedActionResult.fail(itemStack);
+                }
+
+                CastingComponent casting = ModComponents.CASTING.get(user);
+                if (casting.isCasting()) {
+                    SpellMessages.send(user, SpellMessages.BUSY);
+                    return TypedActionResult.fail(itemStack);
+                }
 
                 ManaComponent mana = ModComponents.MANA.get(user);
+                if (mana == null) {
+                    SpellMessages.send(user, SpellMessages.MANA_ERROR);
+                    return TypedActionResult.fail(itemStack);
+                }
 
-                if (mana == null || !mana.hasEnoughMana(manaCost)) {
-                    user.sendMessage(Text.literal("Not enough mana to cast this spell!")
-                            .formatted(Formatting.RED), false);
-                    world.playSound(null, user.getX(), user.getY(), user.getZ(),
-                            SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.PLAYERS,
-                            MagicConstants.DEFAULT_SOUND_VOLUME, MagicConstants.DEFAULT_SOUND_PITCH);
+                // Get mana cost for this spell cast
+                int manaCost = effect.getManaCost(world, user, clarifications, types);
+
+                // Checked before the rate limit, so a cast without mana costs no tokens
+                if (!mana.hasEnoughMana(manaCost)) {
+                    SpellMessages.send(user, SpellMessages.NO_MANA);
+                    sendCastEvent(world, user, SpellCastEventPayload.Stage.FIZZLE);
                     return TypedActionResult.fail(itemStack);
                 }
 
                 if (!effect.canApply(world, user, clarifications, types)) {
-                    user.sendMessage(Text.literal(MagicConstants.ERROR_INSUFFICIENT_POWER)
-                            .formatted(Formatting.YELLOW), false);
+                    SpellMessages.send(user, SpellMessages.INSUFFICIENT_POWER);
                     return TypedActionResult.fail(itemStack);
                 }
 
                 int castDelay = effect.getCastDelayTicks(world, user, clarifications, types);
 
-                world.playSound(null, user.getX(), user.getY(), user.getZ(),
-                        SoundEvents.ITEM_BOOK_PAGE_TURN, SoundCategory.PLAYERS,
-                        MagicConstants.DEFAULT_SOUND_VOLUME, MagicConstants.DEFAULT_SOUND_PITCH);
+                // Shed load when the server is struggling
+                SpellLoadGovernor.Decision decision = SpellLoadGovernor.admit(castWeight);
+                if (decision == SpellLoadGovernor.Decision.REJECT) {
+                    SpellMessages.send(user, SpellMessages.OVERLOADED);
+                    sendCastEvent(world, user, SpellCastEventPayload.Stage.FIZZLE);
+                    return TypedActionResult.fail(itemStack);
+                }
 
-                if (castDelay > 0) {
-                    float castTimeSeconds = castDelay / 20.0f;
-                    user.sendMessage(Text.literal("Casting spell... (" + String.format("%.1f", castTimeSeconds) + "s)")
-                            .formatted(Formatting.GRAY), true);
+                // Rate limit only casts that would go ahead, heavier spells cost more
+                long now = world.getTime();
+                if (!mana.tryTakeCastTokens(castWeight, now)) {
+                    ModMetrics.RATE_LIMITED.increment();
+                    startCooldown(user, mana.getCastTokenWaitTicks(castWeight, now));
+                    return TypedActionResult.fail(itemStack);
+                }
+                startCooldown(user, mana.getCastTokenWaitTicks(castWeight, now));
 
-                    TickScheduler.schedule(castDelay, () -> {
-                        executeSpell(world, user, itemStack, manaCost);
-                    });
+                sendCastEvent(world, user, SpellCastEventPayload.Stage.START);
+
+                if (decision == SpellLoadGovernor.Decision.DELAY) {
+                    castDelay += SpellLoadGovernor.nextDelayTicks();
+                    SpellMessages.send(user, SpellMessages.delayed(castDelay));
+                } else if (castDelay > 0) {
+                    SpellMessages.send(user, SpellMessages.casting(castDelay));
+                }
+
+                if (castDelay > 0) {
+                    int slot = hand == Hand.MAIN_HAND ? user.getInventory().selectedSlot : PlayerInventory.OFF_HAND_SLOT;
+                    casting.begin(this, slot, manaCost, castDelay, interruptPolicy);
+                    if (projectile) {
+                        // Load the path in the background while the cast charges
+                        SpellProjectiles.preloadPath(world, user);
+                    }
                 } else {
-                    executeSpell(world, user, itemStack, manaCost);
+                    executeSpell(world, user, itemStack, manaCost, castDelay);
                 }
 
             } catch (Exception e) {
-                user.sendMessage(Text.literal(MagicConstants.ERROR_SPELL_BACKFIRE)
-                        .formatted(Formatting.RED), false);
-                world.playSound(null, user.getX(), user.getY(), user.getZ(),
-                        SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.PLAYERS,
-                        MagicConstants.DEFAULT_SOUND_VOLUME, MagicConstants.DEFAULT_SOUND_PITCH);
+                SpellMessages.send(user, SpellMessages.BACKFIRE);
+                sendCastEvent(world, user, SpellCastEventPayload.Stage.FIZZLE);
                 return TypedActionResult.fail(itemStack);
             }
         }
@@ -148,16 +215,61 @@ public class MagicScrollItem extends Item {
         return TypedActionResult.success(itemStack, world.isClient());
     }
 
+    /**
+     * Casts this scroll immediately, skipping the stability, mana and item checks
+     * and the cast delay. No scroll is consumed. Used to generate synthetic load,
+     * see {@code /regen stress}.
+     * Effects that charge mana themselves still do, so the caller should keep the
+     * caster's mana topped up.
+     *
+     * @param world The world to cast in
+     * @param caster The player the spell is cast by and centered on
+     */
+    public void castUnchecked(World world, PlayerEntity caster) {
+        Objects.requireNonNull(world, "World cannot be null");
+        Objects.requireNonNull(caster, "Caster cannot be null");
+
+        sendCastEvent(world, caster, SpellCastEventPayload.Stage.START);
+        executeSpell(world, caster, ItemStack.EMPTY, 0, 0);
+    }
+
+    /**
+     * Resolves a delayed cast started by {@link #use}. Called by the caster's
+     * {@link CastingComponent} once the cast time is up.
+     *
+     * @param world The world to cast in
+     * @param caster The casting player
+     * @param itemStack The stack currently in the slot the cast started from
+     * @param manaCost The mana to consume
+     * @param castDelay The cast time that passed, in ticks
+     */
+    public void resolveCast(World world, PlayerEntity caster, ItemStack itemStack, int manaCost, int castDelay) {
+        // The caster may have walked into a no-magic region while casting
+        if (SpellWards.isNoMagic(world, caster.getBlockPos())) {
+            SpellMessages.send(caster, SpellMessages.WARDED);
+            sendCastEvent(world, caster, SpellCastEventPayload.Stage.FIZZLE);
+            return;
+        }
+        executeSpell(world, caster, itemStack, manaCost, castDelay);
+    }
+
+    /**
+     * Tells the caster and nearby players that a delayed cast of this scroll was interrupted.
+     */
+    public void onCastInterrupted(World world, PlayerEntity caster) {
+        SpellMessages.send(caster, SpellMessages.INTERRUPTED);
+        sendCastEvent(world, caster, SpellCastEventPayload.Stage.FIZZLE);
+    }
+
     /**
      * Modified executeSpell method to consume mana after casting delay.
      */
-    private void executeSpell(World world, PlayerEntity user, ItemStack itemStack, int manaCost) {
+    private void executeSpell(World world, PlayerEntity user, ItemStack itemStack, int manaCost, int castDelay) {
         try {
             ManaComponent mana = ManaComponents.getMana(user);
 
             if (mana == null) {
-                user.sendMessage(Text.literal("Mana system error: Cannot find mana component!")
-                        .formatted(Formatting.RED), false);
+                SpellMessages.send(user, SpellMessages.MANA_ERROR);
                 return;
             }
 
@@ -165,48 +277,84 @@ public class MagicScrollItem extends Item {
             mana.consumeMana(manaCost);
             mana.syncToClient();
 
+            SpellCastJfrEvent jfrEvent = new SpellCastJfrEvent();
+            int queuedBefore = SpellIntents.getQueuedBlockCount();
+            jfrEvent.begin();
+
+            long start = SpellProfiler.begin();
             boolean success = effect.apply(world, user, clarifications, types);
+            SpellProfiler.endEffect(this, effect, start);
+
+            jfrEvent.end();
+            if (jfrEvent.isEnabled() && jfrEvent.shouldCommit()) {
+                jfrEvent.spell = Registries.ITEM.getId(this).toString();
+                jfrEvent.caster = user.getUuidAsString();
+                jfrEvent.castDelayTicks = castDelay;
+                jfrEvent.blocksQueued = SpellIntents.getQueuedBlockCount() - queuedBefore;
+                jfrEvent.success = success;
+                jfrEvent.commit();
+            }
 
             if (success) {
                 int duration = effect.getActiveDurationTicks(world, user, clarifications, types);
 
                 if (duration > 0) {
                     ActiveSpellEffect activeSpell = new ActiveSpellEffect(
-                            user, effect, clarifications, types, duration
+                            user, effect.forActiveSpell(), clarifications, types, duration, this, intensity
                     );
                     ActiveSpellTracker.add(activeSpell);
 
-                    float durationSeconds = duration / 20.0f;
-                    user.sendMessage(Text.literal("Spell active for " + String.format("%.1f", durationSeconds) + " seconds")
-                            .formatted(Formatting.GREEN), true);
+                    SpellMessages.send(user, SpellMessages.active(duration));
                 } else {
-                    user.sendMessage(Text.literal("Spell cast successfully!")
-                            .formatted(Formatting.GREEN), true);
+                    SpellMessages.send(user, SpellMessages.SUCCESS);
                 }
 
-                world.playSound(null, user.getX(), user.getY(), user.getZ(),
-                        SoundEvents.ENTITY_EXPERIENCE_ORB_PICKUP, SoundCategory.PLAYERS,
-                        MagicConstants.DEFAULT_SOUND_VOLUME, 1.2f);
+                sendCastEvent(world, user, SpellCastEventPayload.Stage.RESOLVE);
+                getCastCounter().increment();
 
-                if (!user.getAbilities().creativeMode) {
+                // Unchecked casts have no stack; never decrement the shared EMPTY stack
+                if (!user.getAbilities().creativeMode && !itemStack.isEmpty()) {
                     itemStack.decrement(1);
                 }
 
             } else {
-                user.sendMessage(Text.literal(MagicConstants.ERROR_SPELL_BACKFIRE)
-                        .formatted(Formatting.RED), false);
-                world.playSound(null, user.getX(), user.getY(), user.getZ(),
-                        SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.PLAYERS,
-                        MagicConstants.DEFAULT_SOUND_VOLUME, MagicConstants.DEFAULT_SOUND_PITCH);
+                SpellMessages.send(user, SpellMessages.BACKFIRE);
+                sendCastEvent(world, user, SpellCastEventPayload.Stage.FIZZLE);
             }
 
         } catch (Exception e) {
-            user.sendMessage(Text.literal("Spell casting failed: " + e.getMessage())
-                    .formatted(Formatting.RED), false);
-            world.playSound(null, user.getX(), user.getY(), user.getZ(),
-                    SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.PLAYERS,
-                    MagicConstants.DEFAULT_SOUND_VOLUME, MagicConstants.DEFAULT_SOUND_PITCH);
+            SpellMessages.send(user, SpellMessages.failed(e.getMessage()));
+            sendCastEvent(world, user, SpellCastEventPayload.Stage.FIZZLE);
+        }
+    }
+
+    /**
+     * Shows the rate limit wait on this scroll through the vanilla item cooldown.
+     * The cooldown is synced to the client, which draws the sweep and stops
+     * sending use packets for this scroll until it runs out.
+     */
+    private void startCooldown(PlayerEntity user, int ticks) {
+        if (ticks > 0) {
+            user.getItemCooldownManager().set(this, ticks);
+        }
+    }
+
+    /**
+     * Sends one cast stage of this scroll to players tracking the caster.
+     * Sounds and particles for the stage are played client-side.
+     */
+    private void sendCastEvent(World world, PlayerEntity user, SpellCastEventPayload.Stage stage) {
+        if (stage == SpellCastEventPayload.Stage.FIZZLE) {
+            ModMetrics.FIZZLES.increment();
         }
+        SpellCastEventPayload.send(world, user, this, stage, intensity);
+    }
+
+    private LongAdder getCastCounter() {
+        if (castCounter == null) {
+            castCounter = ModMetrics.CASTS.labels(Registries.ITEM.getId(this).getPath());
+        }
+        return castCounter;
     }
 
     public class ManaComponents {
@@ -216,93 +364,185 @@ public class MagicScrollItem extends Item {
     }
 
 
+    /**
+     * Appends the cached lines, ending with the affordable variant of the mana cost
+     * line. The client swaps that line for the variant matching the viewer's mana;
+     * it sits before any advanced tooltip lines, which are added after this.
+     */
     @Override
     public void appendTooltip(ItemStack stack, TooltipContext context, List<Text> tooltip, TooltipType type) {
         super.appendTooltip(stack, context, tooltip, type);
+        TooltipCache cache = getTooltipCache();
+        tooltip.addAll(cache.lines());
+        tooltip.add(cache.affordableManaLine());
+    }
+
+    /**
+     * Gets the mana cost line for the tooltip, colored by whether the viewer can afford it.
+     * Both variants are built once with the rest of the cached tooltip, so this is safe to call
+     * every frame, and the same instances are returned every time.
+     *
+     * @param affordable whether the viewing player currently has enough mana
+     * @return The cached mana cost line
+     */
+    public Text getManaCostTooltip(boolean affordable) {
+        TooltipCache cache = getTooltipCache();
+        return affordable ? cache.affordableManaLine() : cache.unaffordableManaLine();
+    }
+
+    /**
+     * Gets the mana cost shown in the tooltip.
+     *
+     * @return The default mana cost of this scroll's effect
+     */
+    public int getTooltipManaCost() {
+        return getTooltipCache().manaCost();
+    }
+
+    /**
+     * Returns the cached static tooltip, building it on first use.
+     */
+    private TooltipCache getTooltipCache() {
+        TooltipCache cache = tooltipCache;
+        if (cache == null) {
+            cache = buildTooltipCache();
+            tooltipCache = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * Builds every tooltip line that does not depend on the viewing player.
+     */
+    private TooltipCache buildTooltipCache() {
+        List<Text> lines = new ArrayList<>();
 
         // Stability warning
         if (!isStable) {
-            tooltip.add(Text.literal("⚠ Unstable Combination ⚠")
+            lines.add(tooltipText("unstable")
                     .formatted(Formatting.BOLD, Formatting.RED));
-            tooltip.add(Text.literal("This scroll may backfire!")
+            lines.add(tooltipText("unstable.warning")
                     .formatted(Formatting.ITALIC, Formatting.DARK_RED));
-            tooltip.add(Text.empty()); // Empty line for spacing
+            lines.add(Text.empty()); // Empty line for spacing
         }
 
         // Clarifications section
-        tooltip.add(Text.literal("Clarifications:")
+        lines.add(tooltipText("clarifications")
                 .formatted(Formatting.GRAY, Formatting.UNDERLINE));
         for (var clarification : clarifications) {
-            tooltip.add(Text.literal("• " + clarification.getFormattedName())
+            lines.add(tooltipText("entry", SpellMessages.name(clarification))
                     .formatted(Formatting.BOLD)
                     .styled(style -> style.withColor(clarification.getColor())));
         }
 
-        tooltip.add(Text.empty()); // Empty line for spacing
+        lines.add(Text.empty()); // Empty line for spacing
 
         // Magic types section
-        tooltip.add(Text.literal("Magic Types:")
+        lines.add(tooltipText("types")
                 .formatted(Formatting.GRAY, Formatting.UNDERLINE));
         for (var magicType : types) {
-            tooltip.add(Text.literal("• " + magicType.getFormattedName())
+            lines.add(tooltipText("entry", SpellMessages.name(magicType))
                     .formatted(Formatting.BOLD)
                     .styled(style -> style.withColor(magicType.getColor())));
         }
 
-        tooltip.add(Text.empty()); // Empty line for spacing
+        lines.add(Text.empty()); // Empty line for spacing
 
-        // Timing information (context-aware)
-        addTimingTooltip(tooltip, context);
+        // Timing information
+        addTimingTooltip(lines);
 
         // Interaction effects
-        String modifications = MagicInteractionRules.getModificationDescription(clarifications, types);
-        tooltip.add(Text.literal("Effect: " + modifications)
+        lines.add(tooltipText("effect", modificationsText())
                 .formatted(Formatting.ITALIC, Formatting.AQUA));
 
         // Usage instructions
-        tooltip.add(Text.empty()); // Empty line for spacing
-        tooltip.add(Text.literal("Right-click to cast spell")
+        lines.add(Text.empty()); // Empty line for spacing
+        lines.add(tooltipText("use")
                 .formatted(Formatting.ITALIC, Formatting.DARK_GRAY));
+
+        int tooltipManaCost;
+        try {
+            tooltipManaCost = effect.getManaCost(null, null, clarifications, types);
+        } catch (Exception e) {
+            tooltipManaCost = manaCost;
+        }
+
+        return new TooltipCache(
+                List.copyOf(lines),
+                tooltipManaCost,
+                tooltipText("mana_cost", tooltipManaCost).formatted(Formatting.BLUE),
+                tooltipText("mana_cost", tooltipManaCost).formatted(Formatting.RED)
+        );
     }
 
     /**
      * Adds timing information to the tooltip.
      * Note: This provides general timing info since we don't have world/player context in tooltip.
      */
-    private void addTimingTooltip(List<Text> tooltip, TooltipContext context) {
+    private void addTimingTooltip(List<Text> tooltip) {
         try {
-            // For tooltip, we can only show default timing since we don't have world/player context
-            // In a real implementation, you might want to cache this or use a different approach
+            // Without world/player context we can only show the effect's default timing
 
             // Show casting time (using default from effect)
             int defaultCastDelay = effect.getCastDelayTicks(null, null, clarifications, types);
             if (defaultCastDelay > 0) {
-                float castTimeSeconds = defaultCastDelay / 20.0f;
-                tooltip.add(Text.literal("Cast Time: " + String.format("%.1f", castTimeSeconds) + "s")
+                tooltip.add(tooltipText("cast_time", SpellMessages.seconds(defaultCastDelay))
                         .formatted(Formatting.DARK_PURPLE));
             } else {
-                tooltip.add(Text.literal("Cast Time: Instant")
+                tooltip.add(tooltipText("cast_time.instant")
                         .formatted(Formatting.DARK_PURPLE));
             }
 
             // Show duration (using default from effect)
             int defaultDuration = effect.getActiveDurationTicks(null, null, clarifications, types);
             if (defaultDuration > 0) {
-                float durationSeconds = defaultDuration / 20.0f;
-                tooltip.add(Text.literal("Duration: " + String.format("%.1f", durationSeconds) + "s")
+                tooltip.add(tooltipText("duration", SpellMessages.seconds(defaultDuration))
                         .formatted(Formatting.DARK_PURPLE));
             } else {
-                tooltip.add(Text.literal("Duration: Infinite")
+                tooltip.add(tooltipText("duration.infinite")
                         .formatted(Formatting.DARK_PURPLE));
             }
 
         } catch (Exception e) {
             // If timing info fails, show generic info
-            tooltip.add(Text.literal("Timing: Variable")
+            tooltip.add(tooltipText("timing.variable")
                     .formatted(Formatting.DARK_PURPLE));
         }
     }
 
+    /**
+     * Gets the translatable, comma separated list of the spell's modifications.
+     */
+    private Text modificationsText() {
+        List<MagicInteractionRules.Modification> modifications =
+                MagicInteractionRules.getModifications(clarifications, types);
+        if (modifications.isEmpty()) {
+            return tooltipText("modification.standard");
+        }
+
+        MutableText joined = Text.empty();
+        for (int i = 0; i < modifications.size(); i++) {
+            if (i > 0) {
+                joined.append(", ");
+            }
+            joined.append(tooltipText("modification." + modifications.get(i).getKey()));
+        }
+        return joined;
+    }
+
+    private static MutableText tooltipText(String key, Object... args) {
+        return Text.translatable(TOOLTIP_KEY_PREFIX + key, args);
+    }
+
+    /**
+     * Static tooltip lines of a scroll.
+     */
+    private record TooltipCache(List<Text> lines,
+                                int manaCost,
+                                Text affordableManaLine,
+                                Text unaffordableManaLine) {
+    }
+
     /**
      * Gets an immutable copy of the clarifications for this scroll.
      *
@@ -321,6 +561,51 @@ public class MagicScrollItem extends Item {
         return types; // Already immutable from constructor
     }
 
+    /**
+     * Gets the magic types of this scroll packed into a bit mask.
+     *
+     * @return The type mask, see {@link MagicUtils#toTypeMask(List)}
+     */
+    public int getTypeMask() {
+        return typeMask;
+    }
+
+    /**
+     * Gets the final intensity of this scroll's spell after clarification and type interactions.
+     *
+     * @return The intensity multiplier (1.0 = normal)
+     */
+    public float getIntensity() {
+        return intensity;
+    }
+
+    /**
+     * Gets the estimated server cost of one cast of this scroll.
+     *
+     * @return The cast weight, see {@link MagicInteractionRules#calculateCastWeight}
+     */
+    public int getCastWeight() {
+        return castWeight;
+    }
+
+    /**
+     * Gets what interrupts a delayed cast of this scroll.
+     *
+     * @return The interrupt policy
+     */
+    public CastingComponent.InterruptPolicy getInterruptPolicy() {
+        return interruptPolicy;
+    }
+
+    /**
+     * Checks if this scroll launches a projectile.
+     *
+     * @return true if casting preloads the chunks along the projectile's path
+     */
+    public boolean isProjectile() {
+        return projectile;
+    }
+
     /**
      * Gets the magic effect for this scroll.
      *
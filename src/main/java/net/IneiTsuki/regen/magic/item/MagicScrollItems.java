@@ -5,15 +5,24 @@ import net.IneiTsuki.regen.magic.api.MagicEnums;
 import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
 import net.IneiTsuki.regen.magic.api.MagicEnums.Clarification;
 import net.IneiTsuki.regen.magic.api.MagicEnums.MagicType;
+import net.IneiTsuki.regen.magic.core.governor.SpellLoadGovernor;
+import net.IneiTsuki.regen.magic.core.text.SpellMessages;
+import net.IneiTsuki.regen.magic.core.utils.MagicInteractionRules;
 import net.IneiTsuki.regen.magic.effect.spell.FireSpellEffect;
+import net.IneiTsuki.regen.magic.effect.spell.GrowthSpellEffect;
+import net.IneiTsuki.regen.magic.effect.spell.LightSpellEffect;
 import net.IneiTsuki.regen.magic.effect.scroll.MagicScrollEffects;
 import net.IneiTsuki.regen.magic.api.MagicEffect;
+import net.IneiTsuki.regen.magic.field.SpellFieldKind;
+import net.IneiTsuki.regen.magic.field.SpellFields;
 import net.fabricmc.fabric.api.itemgroup.v1.FabricItemGroupEntries;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.Item;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.Registry;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
+import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 
 import java.util.*;
@@ -282,20 +291,7 @@ public final class MagicScrollItems {
                                                    List<MagicType> types) {
         return (world, user, cls, tys) -> {
             try {
-                String clarificationNames = cls.stream()
-                        .map(Clarification::getFormattedName)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.joining(" "));
-
-                String typeNames = tys.stream()
-                        .map(MagicType::getFormattedName)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.joining(" "));
-
-                String message = String.format(MagicConstants.SUCCESS_SCROLL_CAST,
-                        clarificationNames, typeNames);
-
-                user.sendMessage(Text.literal(message), false);
+                SpellMessages.send(user, SpellMessages.genericCast(cls, tys));
                 return true;
 
             } catch (Exception e) {
@@ -312,10 +308,25 @@ public final class MagicScrollItems {
                                                         List<MagicType> types,
                                                         MagicEffect defaultEffect) {
         // Control + Fire combination gets fire spell
-        if (isSingleCombination(clarifications, types)) {
+        if (isSingleCombination(clarifications, types, Clarification.CONTROL, MagicType.FIRE)) {
             return MagicScrollEffects::fireSpell;
         }
 
+        // Move + Fire launches the fire spell as a projectile
+        if (MagicInteractionRules.isProjectileSpell(clarifications, types)) {
+            return MagicScrollEffects::fireSpell;
+        }
+
+        // Light lights up the area around the caster
+        if (types.size() == 1 && types.contains(MagicType.LIGHT)) {
+            return new LightSpellEffect();
+        }
+
+        // Life speeds up the crops around the caster
+        if (types.size() == 1 && types.contains(MagicType.LIFE)) {
+            return new GrowthSpellEffect();
+        }
+
         return defaultEffect;
     }
 
@@ -323,40 +334,60 @@ public final class MagicScrollItems {
      * Helper method to check if lists contain exactly one specific clarification and type.
      */
     private static boolean isSingleCombination(List<Clarification> clarifications,
-                                               List<MagicType> types) {
+                                               List<MagicType> types,
+                                               Clarification clarification,
+                                               MagicType type) {
         return clarifications.size() == 1 &&
                 types.size() == 1 &&
-                clarifications.contains(Clarification.CONTROL) &&
-                types.contains(MagicType.FIRE);
+                clarifications.contains(clarification) &&
+                types.contains(type);
     }
 
     /**
      * Creates a steam effect for Fire + Water combinations.
      */
     private static MagicEffect createSteamEffect() {
-        return (world, user, clarifications, types) -> {
-            try {
-                // TODO: Implement steam effect
-                user.sendMessage(Text.literal("You create a cloud of steam!"), false);
-                return true;
-            } catch (Exception e) {
-                Regen.LOGGER.error("Failed to execute steam effect", e);
-                return false;
-            }
-        };
+        return createFieldEffect(SpellFieldKind.STEAM,
+                MagicConstants.STEAM_FIELD_RADIUS,
+                MagicConstants.STEAM_FIELD_DURATION_TICKS,
+                MagicConstants.STEAM_FIELD_DAMAGE,
+                SpellMessages.STEAM);
     }
 
     /**
      * Creates a thermal shock effect for Fire + Ice combinations.
      */
     private static MagicEffect createThermalShockEffect() {
+        return createFieldEffect(SpellFieldKind.THERMAL_SHOCK,
+                MagicConstants.THERMAL_SHOCK_FIELD_RADIUS,
+                MagicConstants.THERMAL_SHOCK_FIELD_DURATION_TICKS,
+                MagicConstants.THERMAL_SHOCK_FIELD_DAMAGE,
+                SpellMessages.THERMAL_SHOCK);
+    }
+
+    /**
+     * Creates an effect that leaves a lingering field where the caster is looking,
+     * at most {@link MagicConstants#FIELD_CAST_RANGE} blocks away.
+     */
+    private static MagicEffect createFieldEffect(SpellFieldKind kind, double radius, int durationTicks,
+                                                 float damage, Text message) {
         return (world, user, clarifications, types) -> {
             try {
-                // TODO: Implement thermal shock effect
-                user.sendMessage(Text.literal("You unleash devastating thermal shock!"), false);
+                if (!(world instanceof ServerWorld serverWorld)) {
+                    return false;
+                }
+
+                Vec3d center = user.raycast(MagicConstants.FIELD_CAST_RANGE, 0.0F, false).getPos();
+                double scaledRadius = radius * Math.min(1.0, SpellLoadGovernor.getScale());
+                if (SpellFields.spawn(serverWorld, kind, center, scaledRadius, damage, durationTicks, user) == null) {
+                    SpellMessages.send(user, SpellMessages.OVERLOADED);
+                    return false;
+                }
+
+                SpellMessages.send(user, message);
                 return true;
             } catch (Exception e) {
-                Regen.LOGGER.error("Failed to execute thermal shock effect", e);
+                Regen.LOGGER.error("Failed to execute {} field effect", kind, e);
                 return false;
             }
         };
@@ -0,0 +1,149 @@
+package net.IneiTsuki.regen.magic.light;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.IneiTsuki.regen.magic.core.metrics.ModMetrics;
+import net.IneiTsuki.regen.magic.world.SpellWorld;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+
+import java.util.Objects;
+
+/**
+ * The light sources of one light spell, grouped by chunk section.
+ *
+ * <p>Every placed or removed light block makes the server light engine check
+ * that position. The engine runs queued checks in batches and propagates each
+ * batch in one pass, so checks that arrive together are much cheaper than the
+ * same checks spread out. A batch therefore writes its sources one section at
+ * a time, and removes them the same way when the spell ends, so each section's
+ * checks reach the light engine back to back.
+ *
+ * <p>Placed sources are recorded in the world's {@link SpellLightState}, so
+ * they are removed after a restart even if the spell never ended.
+ *
+ * <p>Not thread safe; only used on the server thread.
+ */
+public final class SpellLightBatch {
+
+    private final World world;
+    private final Long2ObjectLinkedOpenHashMap<LongArrayList> sections = new Long2ObjectLinkedOpenHashMap<>();
+    private int size = 0;
+
+    private final BlockPos.Mutable cursor = new BlockPos.Mutable();
+
+    public SpellLightBatch(World world) {
+        this.world = Objects.requireNonNull(world, "World cannot be null");
+    }
+
+    /**
+     * Adds a light source position. Adding the same position twice places one source.
+     */
+    public void add(BlockPos pos) {
+        long key = ChunkSectionPos.toLong(pos);
+        LongArrayList section = sections.get(key);
+        if (section == null) {
+            section = new LongArrayList();
+            sections.put(key, section);
+        }
+
+        long packed = pos.asLong();
+        if (!section.contains(packed)) {
+            section.add(packed);
+            size++;
+        }
+    }
+
+    /**
+     * Places a light block at every position, section by section. Positions where
+     * the block could not be placed are dropped from the batch.
+     *
+     * @param spellWorld the world to place the blocks through
+     * @param state the light block state to place
+     * @return how many light blocks were placed
+     */
+    public int place(SpellWorld spellWorld, BlockState state) {
+        SpellLightState saved = SpellLights.findState(world);
+        int placed = 0;
+        for (Long2ObjectMap.Entry<LongArrayList> section : Long2ObjectMaps.fastIterable(sections)) {
+            LongArrayList positions = section.getValue();
+            int kept = 0;
+            for (int i = 0; i < positions.size(); i++) {
+                long packed = positions.getLong(i);
+                cursor.set(packed);
+                // Warded positions refuse the change; forget them so they are never removed either
+                if (spellWorld.isAir(cursor) && spellWorld.setBlockState(cursor, state)) {
+                    positions.set(kept++, packed);
+                    placed++;
+                    if (saved != null) {
+                        saved.add(packed);
+                    }
+                }
+            }
+            positions.size(kept);
+        }
+        size = placed;
+
+        ModMetrics.LIGHT_SECTIONS.add(sections.size());
+        return placed;
+    }
+
+    /**
+     * Removes the light blocks that are still at the batch's positions, section by
+     * section. Other blocks are left alone.
+     *
+     * @param spellWorld the world to remove the blocks through
+     * @return how many light blocks were removed
+     */
+    public int remove(SpellWorld spellWorld) {
+        SpellLightState saved = SpellLights.findState(world);
+        BlockState air = Blocks.AIR.getDefaultState();
+        int removed = 0;
+        for (Long2ObjectMap.Entry<LongArrayList> section : Long2ObjectMaps.fastIterable(sections)) {
+            LongArrayList positions = section.getValue();
+            for (int i = 0; i < positions.size(); i++) {
+                long packed = positions.getLong(i);
+                cursor.set(packed);
+                if (saved != null) {
+                    saved.remove(packed);
+                }
+                if (spellWorld.getBlockState(cursor).isOf(Blocks.LIGHT) && spellWorld.setBlockState(cursor, air)) {
+                    removed++;
+                }
+            }
+        }
+
+        ModMetrics.LIGHT_SECTIONS.add(sections.size());
+        return removed;
+    }
+
+    /**
+     * Gets the world the batch lights.
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of light source positions.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of chunk sections the light sources are in.
+     */
+    public int getSectionCount() {
+        return sections.size();
+    }
+}
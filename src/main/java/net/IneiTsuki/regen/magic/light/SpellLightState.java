@@ -0,0 +1,89 @@
+package net.IneiTsuki.regen.magic.light;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.PersistentState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The light blocks spells have placed in one world, saved with it.
+ *
+ * <p>Light spells remove their blocks when they end, but active spells are not
+ * saved, so blocks that are still lit when the server stops or crashes would stay
+ * forever. Every position loaded from disk is therefore a leftover: it is kept by
+ * chunk until {@link SpellLights} removes it once its chunk is loaded.
+ */
+public final class SpellLightState extends PersistentState {
+
+    public static final String ID = "regen_spell_lights";
+
+    public static final Type<SpellLightState> TYPE = new Type<>(SpellLightState::new, SpellLightState::fromNbt, null);
+
+    private final LongOpenHashSet lit = new LongOpenHashSet();
+    private final Long2ObjectOpenHashMap<LongArrayList> leftovers = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Records a light block placed by an active spell.
+     */
+    public void add(long pos) {
+        if (lit.add(pos)) {
+            markDirty();
+        }
+    }
+
+    /**
+     * Forgets a light block its spell has removed.
+     */
+    public void remove(long pos) {
+        if (lit.remove(pos)) {
+            markDirty();
+        }
+    }
+
+    public int getLitCount() {
+        return lit.size();
+    }
+
+    public boolean hasLeftovers() {
+        return !leftovers.isEmpty();
+    }
+
+    /**
+     * Takes the leftover light positions of a chunk.
+     *
+     * @return the positions, or null if the chunk has none
+     */
+    @Nullable
+    public LongArrayList takeLeftovers(long chunkPos) {
+        LongArrayList positions = leftovers.remove(chunkPos);
+        if (positions != null) {
+            markDirty();
+        }
+        return positions;
+    }
+
+    @Override
+    public NbtCompound writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        LongArrayList all = new LongArrayList(lit);
+        for (Long2ObjectMap.Entry<LongArrayList> chunk : leftovers.long2ObjectEntrySet()) {
+            all.addAll(chunk.getValue());
+        }
+        nbt.putLongArray("lights", all.toLongArray());
+        return nbt;
+    }
+
+    private static SpellLightState fromNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        SpellLightState state = new SpellLightState();
+        for (long pos : nbt.getLongArray("lights")) {
+            long chunkPos = ChunkPos.toLong(BlockPos.unpackLongX(pos) >> 4, BlockPos.unpackLongZ(pos) >> 4);
+            state.leftovers.computeIfAbsent(chunkPos, key -> new LongArrayList()).add(pos);
+        }
+        return state;
+    }
+}
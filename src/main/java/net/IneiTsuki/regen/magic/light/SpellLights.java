@@ -0,0 +1,102 @@
+package net.IneiTsuki.regen.magic.light;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.block.Blocks;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of the light blocks placed by light spells, so none outlive a
+ * server stop or crash.
+ *
+ * <p>Each world's {@link SpellLightState} is saved with it. Leftover lights from
+ * an earlier run are removed in the first world tick after their chunk loads,
+ * rather than while the chunk is still being loaded.
+ *
+ * <p>All methods must be called on the server thread.
+ */
+public final class SpellLights {
+
+    private static final Map<World, SpellLightState> STATES = new IdentityHashMap<>();
+    private static final Map<World, LongArrayList> LOADED_CHUNKS = new IdentityHashMap<>();
+
+    private SpellLights() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Gets the saved spell lights of a world, loading them on first use.
+     */
+    public static SpellLightState getState(ServerWorld world) {
+        SpellLightState state = STATES.get(world);
+        if (state == null) {
+            state = world.getPersistentStateManager().getOrCreate(SpellLightState.TYPE, SpellLightState.ID);
+            STATES.put(world, state);
+        }
+        return state;
+    }
+
+    /**
+     * Gets the saved spell lights of a world, or null on the client.
+     */
+    @Nullable
+    static SpellLightState findState(World world) {
+        return world instanceof ServerWorld serverWorld ? getState(serverWorld) : null;
+    }
+
+    /**
+     * Queues a loaded chunk for leftover removal if its world has leftovers.
+     */
+    public static void onChunkLoad(ServerWorld world, WorldChunk chunk) {
+        if (getState(world).hasLeftovers()) {
+            LOADED_CHUNKS.computeIfAbsent(world, key -> new LongArrayList()).add(chunk.getPos().toLong());
+        }
+    }
+
+    /**
+     * Removes the leftover lights of the chunks loaded since the last tick.
+     */
+    public static void tick(ServerWorld world) {
+        LongArrayList chunks = LOADED_CHUNKS.remove(world);
+        if (chunks == null) {
+            return;
+        }
+
+        SpellLightState state = getState(world);
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int i = 0; i < chunks.size(); i++) {
+            long chunkPos = chunks.getLong(i);
+            if (!world.isChunkLoaded(ChunkPos.getPackedX(chunkPos), ChunkPos.getPackedZ(chunkPos))) {
+                continue; // Unloaded again; it is queued once more when it next loads
+            }
+
+            LongArrayList positions = state.takeLeftovers(chunkPos);
+            if (positions == null) {
+                continue;
+            }
+            for (int j = 0; j < positions.size(); j++) {
+                pos.set(positions.getLong(j));
+                if (world.getBlockState(pos).isOf(Blocks.LIGHT)) {
+                    world.setBlockState(pos, Blocks.AIR.getDefaultState());
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets the cached states and queued chunks, for example when the server
+     * stops. The states themselves are saved with their worlds, so lights that
+     * are still lit are removed the next time their chunks load.
+     */
+    public static void clear() {
+        STATES.clear();
+        LOADED_CHUNKS.clear();
+    }
+}
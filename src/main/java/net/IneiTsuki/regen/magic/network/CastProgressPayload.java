@@ -0,0 +1,43 @@
+package net.IneiTsuki.regen.magic.network;
+
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+
+/**
+ * Tells a player that their cast started or stopped.
+ *
+ * <p>Sent once when a delayed cast begins, with its cast time; the client draws
+ * the progress bar from its own clock. Sent again with zero ticks only when the
+ * cast is interrupted, since a cast that resolves ends on the client by itself.
+ *
+ * @param castTicks ticks until the cast resolves, or 0 to clear the bar
+ */
+public record CastProgressPayload(int castTicks) implements CustomPayload {
+
+    public static final Id<CastProgressPayload> ID = new Id<>(Identifier.of("regen", "cast_progress"));
+
+    public static final PacketCodec<PacketByteBuf, CastProgressPayload> CODEC = PacketCodec.of(
+            (payload, buf) -> buf.writeVarInt(payload.castTicks()),
+            buf -> new CastProgressPayload(buf.readVarInt())
+    );
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+
+    /**
+     * Sends the cast progress to the player. Does nothing for non-server players.
+     */
+    public static void send(PlayerEntity player, int castTicks) {
+        if (!(player instanceof ServerPlayerEntity serverPlayer)) return;
+
+        ServerPlayNetworking.send(serverPlayer, new CastProgressPayload(castTicks));
+        PayloadStats.recordSent();
+    }
+}
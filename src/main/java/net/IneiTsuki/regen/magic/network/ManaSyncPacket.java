@@ -31,5 +31,6 @@ public record ManaSyncPacket(int mana, int maxMana) implements CustomPayload {
 
     public static void sendToClient(ServerPlayerEntity player, int mana, int maxMana) {
         ServerPlayNetworking.send(player, new ManaSyncPacket(mana, maxMana));
+        PayloadStats.recordSent();
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package net.IneiTsuki.regen.magic.network;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the custom payloads the mod sends to clients.
+ *
+ * <p>Used by load tests and diagnostics to see how much network traffic spell
+ * casting generates. Counting is a single uncontended add per payload.
+ */
+public final class PayloadStats {
+
+    private static final LongAdder SENT = new LongAdder();
+
+    private PayloadStats() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Records one payload sent to one player.
+     */
+    public static void recordSent() {
+        SENT.increment();
+    }
+
+    /**
+     * Gets the number of payloads sent since startup or the last reset.
+     */
+    public static long getSentCount() {
+        return SENT.sum();
+    }
+
+    public static void reset() {
+        SENT.reset();
+    }
+}
@@ -0,0 +1,116 @@
+package net.IneiTsuki.regen.magic.network;
+
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.entity.Entity;
+import net.minecraft.item.Item;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.listener.ClientCommonPacketListener;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.registry.Registries;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * One stage of a spell cast, sent to every player tracking the cast position.
+ *
+ * <p>The server no longer plays cast sounds itself. Clients receive a single
+ * payload per stage and play the sounds and particles of that spell locally.
+ * The spell is encoded by its raw item id, which Fabric keeps in sync between
+ * server and client.
+ *
+ * @param spell     the scroll item that was cast
+ * @param stage     which stage of the cast this event describes
+ * @param x         event position x
+ * @param y         event position y
+ * @param z         event position z
+ * @param intensity final spell intensity, used to scale visuals
+ */
+public record SpellCastEventPayload(Item spell, Stage stage, double x, double y, double z, float intensity)
+        implements CustomPayload {
+
+    public static final Id<SpellCastEventPayload> ID = new Id<>(Identifier.of("regen", "spell_cast_event"));
+
+    public static final PacketCodec<PacketByteBuf, SpellCastEventPayload> CODEC = PacketCodec.of(
+            (payload, buf) -> {
+                buf.writeVarInt(Registries.ITEM.getRawId(payload.spell()));
+                buf.writeByte(payload.stage().ordinal());
+                buf.writeDouble(payload.x());
+                buf.writeDouble(payload.y());
+                buf.writeDouble(payload.z());
+                buf.writeFloat(payload.intensity());
+            },
+            buf -> new SpellCastEventPayload(
+                    Registries.ITEM.get(buf.readVarInt()),
+                    Stage.byIndex(buf.readByte()),
+                    buf.readDouble(),
+                    buf.readDouble(),
+                    buf.readDouble(),
+                    buf.readFloat()
+            )
+    );
+
+    /**
+     * Stages of a spell cast.
+     */
+    public enum Stage {
+        /** The caster started casting. */
+        START,
+        /** The spell was applied successfully. */
+        RESOLVE,
+        /** A lasting spell expired. */
+        END,
+        /** The cast failed or backfired. */
+        FIZZLE;
+
+        private static final Stage[] VALUES = values();
+
+        public static Stage byIndex(int index) {
+            return index >= 0 && index < VALUES.length ? VALUES[index] : FIZZLE;
+        }
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+
+    /**
+     * Sends a cast event at an entity's position.
+     *
+     * @see #send(World, double, double, double, Item, Stage, float)
+     */
+    public static void send(World world, Entity at, Item spell, Stage stage, float intensity) {
+        send(world, at.getX(), at.getY(), at.getZ(), spell, stage, intensity);
+    }
+
+    /**
+     * Sends a cast event to every player tracking the chunk containing the position.
+     * The packet is built once and shared by every recipient. Does nothing on the client.
+     *
+     * @param world     the world the cast happens in
+     * @param x         event position x
+     * @param y         event position y
+     * @param z         event position z
+     * @param spell     the scroll item that was cast
+     * @param stage     the cast stage
+     * @param intensity final spell intensity
+     */
+    public static void send(World world, double x, double y, double z, Item spell, Stage stage, float intensity) {
+        if (!(world instanceof ServerWorld serverWorld)) return;
+
+        Packet<ClientCommonPacketListener> packet = null;
+        for (ServerPlayerEntity player : PlayerLookup.tracking(serverWorld, BlockPos.ofFloored(x, y, z))) {
+            if (packet == null) {
+                packet = ServerPlayNetworking.createS2CPacket(new SpellCastEventPayload(spell, stage, x, y, z, intensity));
+            }
+            player.networkHandler.sendPacket(packet);
+            PayloadStats.recordSent();
+        }
+    }
+}
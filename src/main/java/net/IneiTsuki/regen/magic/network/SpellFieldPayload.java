@@ -0,0 +1,75 @@
+package net.IneiTsuki.regen.magic.network;
+
+import net.IneiTsuki.regen.magic.field.SpellField;
+import net.IneiTsuki.regen.magic.field.SpellFieldKind;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.listener.ClientCommonPacketListener;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * A lingering spell field was created, sent to every player tracking its center.
+ *
+ * <p>This is the only packet a field ever sends. Clients draw the field from its
+ * position, radius and duration until it runs out on their own clock.
+ *
+ * @param kind          what the field does, used for its colors
+ * @param x             center x
+ * @param y             center y
+ * @param z             center z
+ * @param radius        radius in blocks
+ * @param durationTicks how long the field lingers
+ */
+public record SpellFieldPayload(SpellFieldKind kind, double x, double y, double z, float radius, int durationTicks)
+        implements CustomPayload {
+
+    public static final Id<SpellFieldPayload> ID = new Id<>(Identifier.of("regen", "spell_field"));
+
+    public static final PacketCodec<PacketByteBuf, SpellFieldPayload> CODEC = PacketCodec.of(
+            (payload, buf) -> {
+                buf.writeByte(payload.kind().ordinal());
+                buf.writeDouble(payload.x());
+                buf.writeDouble(payload.y());
+                buf.writeDouble(payload.z());
+                buf.writeFloat(payload.radius());
+                buf.writeVarInt(payload.durationTicks());
+            },
+            buf -> new SpellFieldPayload(
+                    SpellFieldKind.byIndex(buf.readByte()),
+                    buf.readDouble(),
+                    buf.readDouble(),
+                    buf.readDouble(),
+                    buf.readFloat(),
+                    buf.readVarInt()
+            )
+    );
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+
+    /**
+     * Sends a new field to every player tracking the chunk containing its center.
+     * The packet is built once and shared by every recipient.
+     *
+     * @param world         the world the field is in
+     * @param field         the new field
+     * @param durationTicks how long the field lingers
+     */
+    public static void send(ServerWorld world, SpellField field, int durationTicks) {
+        Packet<ClientCommonPacketListener> packet = ServerPlayNetworking.createS2CPacket(new SpellFieldPayload(
+                field.getKind(), field.getX(), field.getY(), field.getZ(), (float) field.getRadius(), durationTicks));
+        for (ServerPlayerEntity player : PlayerLookup.tracking(world, BlockPos.ofFloored(field.getX(), field.getY(), field.getZ()))) {
+            player.networkHandler.sendPacket(packet);
+            PayloadStats.recordSent();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package net.IneiTsuki.regen.magic.projectile;
+
+import net.IneiTsuki.regen.magic.world.SpellWorld;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * What a spell projectile does where it lands.
+ */
+@FunctionalInterface
+public interface SpellProjectileImpact {
+
+    /**
+     * Called once when the projectile hits a block or an entity.
+     *
+     * @param world spell world to make changes through, tagged with the projectile's element
+     * @param pos the last open block before a block hit, or the hit entity's block
+     * @param hitEntity the entity that was hit, or null for a block hit
+     */
+    void onImpact(SpellWorld world, BlockPos pos, @Nullable LivingEntity hitEntity);
+}
@@ -0,0 +1,298 @@
+package net.IneiTsuki.regen.magic.projectile;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.IneiTsuki.regen.Regen;
+import net.IneiTsuki.regen.entity.ModEntities;
+import net.IneiTsuki.regen.entity.custom.SpellProjectileEntity;
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
+import net.IneiTsuki.regen.magic.world.SpellChunkTickets;
+import net.IneiTsuki.regen.magic.world.SpellIntents;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Moves spell projectiles and resolves their impacts.
+ *
+ * <p>Projectiles are kept in per-chunk groups. Each group does one entity query
+ * covering the paths of all its projectiles for the tick, then every projectile
+ * walks its path with a {@link VoxelTraversal} and tests the queried entities by
+ * squared distance to its path, so the cost per projectile is a few block reads
+ * and multiplications rather than a raycast and an entity query of its own.
+ * Projectiles that enter a chunk that is not loaded fizzle.
+ *
+ * <p>All methods must be called on the server thread.
+ */
+public final class SpellProjectiles {
+
+    private static final Map<World, Long2ObjectOpenHashMap<ArrayList<SpellProjectileEntity>>> GROUPS = new IdentityHashMap<>();
+
+    private static final VoxelTraversal TRAVERSAL = new VoxelTraversal();
+    private static final ArrayList<SpellProjectileEntity> MOVED = new ArrayList<>();
+    private static final BlockPos.Mutable IMPACT_POS = new BlockPos.Mutable();
+
+    private SpellProjectiles() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Launches a projectile from the caster's eyes along their look direction.
+     *
+     * @param world the world to launch in; nothing happens on the client
+     * @param caster the casting player, never hit by their own projectile
+     * @param element element of the spell, used for resolving its impact and for the trail color
+     * @param strength spell strength, see {@link SpellIntents#forCast}
+     * @param impact what happens where the projectile lands
+     * @return true if a projectile was launched
+     */
+    public static boolean launch(World world, PlayerEntity caster, @Nullable MagicEnums.MagicType element,
+                                 float strength, SpellProjectileImpact impact) {
+        Objects.requireNonNull(caster, "Caster cannot be null");
+        Objects.requireNonNull(impact, "Impact cannot be null");
+
+        if (!(world instanceof ServerWorld serverWorld)) {
+            return false;
+        }
+
+        SpellProjectileEntity projectile = ModEntities.SPELL_PROJECTILE.create(serverWorld);
+        if (projectile == null) {
+            return false;
+        }
+
+        Vec3d look = caster.getRotationVec(1.0F);
+        Vec3d start = caster.getEyePos().add(look.multiply(0.5));
+        Vec3d velocity = look.multiply(MagicConstants.PROJECTILE_SPEED);
+        projectile.launch(caster, element, strength, start, velocity,
+                MagicConstants.PROJECTILE_LIFETIME_TICKS, impact);
+
+        if (!serverWorld.spawnEntity(projectile)) {
+            return false;
+        }
+        add(serverWorld, projectile);
+
+        // The caster may have turned since casting started; chunks already loaded only get their ticket renewed
+        preloadPath(serverWorld, start, velocity);
+        return true;
+    }
+
+    /**
+     * Preloads the chunks along the path a projectile launched by this caster right
+     * now would take. Called when a projectile spell starts casting, so the chunks
+     * load in the background during the cast delay instead of the projectile
+     * fizzling at the edge of the loaded area.
+     *
+     * @param world the world to preload in; nothing happens on the client
+     * @param caster the casting player
+     * @return how many chunk tickets were placed
+     */
+    public static int preloadPath(World world, PlayerEntity caster) {
+        if (!(world instanceof ServerWorld serverWorld)) {
+            return 0;
+        }
+
+        Vec3d look = caster.getRotationVec(1.0F);
+        return preloadPath(serverWorld, caster.getEyePos().add(look.multiply(0.5)),
+                look.multiply(MagicConstants.PROJECTILE_SPEED));
+    }
+
+    private static int preloadPath(ServerWorld world, Vec3d start, Vec3d velocity) {
+        double range = MagicConstants.PROJECTILE_LIFETIME_TICKS;
+        return SpellChunkTickets.preloadSegment(world, start.x, start.z,
+                start.x + velocity.x * range, start.z + velocity.z * range);
+    }
+
+    /**
+     * Moves every projectile in the world by one tick. Called at the end of every world tick.
+     */
+    public static void tick(ServerWorld world) {
+        Long2ObjectOpenHashMap<ArrayList<SpellProjectileEntity>> groups = GROUPS.get(world);
+        if (groups == null || groups.isEmpty()) {
+            return;
+        }
+
+        TRAVERSAL.reset();
+        for (Long2ObjectMap.Entry<ArrayList<SpellProjectileEntity>> group : Long2ObjectMaps.fastIterable(groups)) {
+            tickGroup(world, group.getLongKey(), group.getValue());
+        }
+
+        // Regroup projectiles that crossed into another chunk
+        for (int i = 0; i < MOVED.size(); i++) {
+            SpellProjectileEntity projectile = MOVED.get(i);
+            groups.computeIfAbsent(projectile.getChunkPos().toLong(), key -> new ArrayList<>()).add(projectile);
+        }
+        MOVED.clear();
+
+        groups.values().removeIf(List::isEmpty);
+    }
+
+    /**
+     * Gets the number of projectiles in flight in all worlds.
+     */
+    public static int getCount() {
+        int count = 0;
+        for (Long2ObjectOpenHashMap<ArrayList<SpellProjectileEntity>> groups : GROUPS.values()) {
+            for (ArrayList<SpellProjectileEntity> group : groups.values()) {
+                count += group.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Forgets every projectile, for example when the server stops.
+     */
+    public static void clear() {
+        GROUPS.clear();
+        MOVED.clear();
+    }
+
+    private static void add(ServerWorld world, SpellProjectileEntity projectile) {
+        GROUPS.computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(projectile.getChunkPos().toLong(), key -> new ArrayList<>())
+                .add(projectile);
+    }
+
+    private static void tickGroup(ServerWorld world, long chunkKey, ArrayList<SpellProjectileEntity> group) {
+        List<LivingEntity> candidates = queryCandidates(world, group);
+
+        int write = 0;
+        for (int read = 0; read < group.size(); read++) {
+            SpellProjectileEntity projectile = group.get(read);
+            if (projectile.isRemoved()) {
+                continue;
+            }
+            if (!step(world, projectile, candidates)) {
+                projectile.discard();
+                continue;
+            }
+
+            if (projectile.getChunkPos().toLong() != chunkKey) {
+                MOVED.add(projectile);
+            } else {
+                group.set(write++, projectile);
+            }
+        }
+
+        while (group.size() > write) {
+            group.remove(group.size() - 1);
+        }
+    }
+
+    /**
+     * Finds the living entities near this tick's paths of a whole group with one query.
+     */
+    private static List<LivingEntity> queryCandidates(ServerWorld world, List<SpellProjectileEntity> group) {
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY, minZ = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+
+        for (int i = 0; i < group.size(); i++) {
+            SpellProjectileEntity projectile = group.get(i);
+            Vec3d velocity = projectile.getVelocity();
+            double x = projectile.getX(), y = projectile.getY(), z = projectile.getZ();
+
+            minX = Math.min(minX, Math.min(x, x + velocity.x));
+            minY = Math.min(minY, Math.min(y, y + velocity.y));
+            minZ = Math.min(minZ, Math.min(z, z + velocity.z));
+            maxX = Math.max(maxX, Math.max(x, x + velocity.x));
+            maxY = Math.max(maxY, Math.max(y, y + velocity.y));
+            maxZ = Math.max(maxZ, Math.max(z, z + velocity.z));
+        }
+
+        if (minX > maxX) {
+            return List.of();
+        }
+
+        // Entities are at most a few blocks wide; their centers can be that far outside the paths
+        double margin = MagicConstants.PROJECTILE_HIT_RADIUS + 2.0;
+        Box box = new Box(minX, minY, minZ, maxX, maxY, maxZ).expand(margin);
+        return world.getEntitiesByClass(LivingEntity.class, box, LivingEntity::isAlive);
+    }
+
+    /**
+     * Moves one projectile along its velocity, resolving the first block or entity it hits.
+     *
+     * @return true if the projectile keeps flying
+     */
+    private static boolean step(ServerWorld world, SpellProjectileEntity projectile, List<LivingEntity> candidates) {
+        if (!projectile.consumeTick()) {
+            return false;
+        }
+
+        double x0 = projectile.getX(), y0 = projectile.getY(), z0 = projectile.getZ();
+        Vec3d velocity = projectile.getVelocity();
+        double dx = velocity.x, dy = velocity.y, dz = velocity.z;
+
+        int blockResult = TRAVERSAL.traverse(world, x0, y0, z0, x0 + dx, y0 + dy, z0 + dz);
+        if (blockResult == VoxelTraversal.UNLOADED) {
+            return false;
+        }
+        double hitT = blockResult == VoxelTraversal.HIT ? TRAVERSAL.hitT : Double.POSITIVE_INFINITY;
+
+        // Closest entity whose hit sphere the path passes through before any block
+        LivingEntity hitEntity = null;
+        double lengthSquared = dx * dx + dy * dy + dz * dz;
+        for (int i = 0; i < candidates.size(); i++) {
+            LivingEntity candidate = candidates.get(i);
+            if (candidate == projectile.getOwner()) continue;
+
+            Box bounds = candidate.getBoundingBox();
+            double cx = (bounds.minX + bounds.maxX) * 0.5 - x0;
+            double cy = (bounds.minY + bounds.maxY) * 0.5 - y0;
+            double cz = (bounds.minZ + bounds.maxZ) * 0.5 - z0;
+
+            double t = lengthSquared > 0 ? (cx * dx + cy * dy + cz * dz) / lengthSquared : 0.0;
+            t = Math.max(0.0, Math.min(1.0, t));
+            if (t >= hitT) continue;
+
+            double ox = cx - t * dx, oy = cy - t * dy, oz = cz - t * dz;
+            double reach = MagicConstants.PROJECTILE_HIT_RADIUS
+                    + Math.max(bounds.getLengthX(), bounds.getLengthY()) * 0.5;
+            if (ox * ox + oy * oy + oz * oz <= reach * reach) {
+                hitT = t;
+                hitEntity = candidate;
+            }
+        }
+
+        if (hitEntity != null) {
+            impact(world, projectile, hitEntity.getBlockPos(), hitEntity);
+            return false;
+        }
+        if (blockResult == VoxelTraversal.HIT) {
+            impact(world, projectile, TRAVERSAL.getLastOpen(IMPACT_POS), null);
+            return false;
+        }
+
+        projectile.setPosition(x0 + dx, y0 + dy, z0 + dz);
+        return true;
+    }
+
+    private static void impact(ServerWorld world, SpellProjectileEntity projectile, BlockPos pos,
+                               @Nullable LivingEntity hitEntity) {
+        SpellProjectileImpact impact = projectile.getImpact();
+        if (impact == null) {
+            return;
+        }
+
+        try {
+            impact.onImpact(SpellIntents.forCast(world, projectile.getElement(), projectile.getStrength()),
+                    pos.toImmutable(), hitEntity);
+        } catch (Exception e) {
+            Regen.LOGGER.error("Spell projectile impact failed", e);
+        }
+    }
+}
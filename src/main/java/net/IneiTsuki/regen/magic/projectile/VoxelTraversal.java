@@ -0,0 +1,155 @@
+package net.IneiTsuki.regen.magic.projectile;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Walks the blocks a segment passes through, in order, using the Amanatides–Woo
+ * voxel traversal, and stops at the first block with a collision shape.
+ *
+ * <p>Blocks are read straight from chunk sections. The last section is cached,
+ * so a projectile moving a block or two per tick usually reads one section for
+ * its whole step. Chunks that are not loaded are never loaded here; the walk
+ * reports {@link #UNLOADED} instead. The cache must be dropped with
+ * {@link #reset()} at least once per tick, before chunks can unload.
+ *
+ * <p>Results of the last walk are left in public fields to avoid allocating a
+ * result per call. Not thread safe; one instance per ticking thread.
+ */
+public final class VoxelTraversal {
+
+    /** The segment reached its end without hitting anything. */
+    public static final int MISS = 0;
+    /** The segment hit a block, see {@link #hitT} and {@link #getLastOpen}. */
+    public static final int HIT = 1;
+    /** The segment entered a chunk that is not loaded. */
+    public static final int UNLOADED = 2;
+
+    /** Segment parameter in [0, 1] where the hit block was entered. */
+    public double hitT;
+
+    private int lastOpenX;
+    private int lastOpenY;
+    private int lastOpenZ;
+
+    private long cachedSectionKey = Long.MIN_VALUE;
+    @Nullable
+    private ChunkSection cachedSection;
+    private final BlockPos.Mutable cursor = new BlockPos.Mutable();
+
+    /**
+     * Drops the cached chunk section.
+     */
+    public void reset() {
+        cachedSectionKey = Long.MIN_VALUE;
+        cachedSection = null;
+    }
+
+    /**
+     * Walks from one point to another.
+     *
+     * @return {@link #MISS}, {@link #HIT} or {@link #UNLOADED}
+     */
+    public int traverse(ServerWorld world, double x0, double y0, double z0, double x1, double y1, double z1) {
+        int x = MathHelper.floor(x0);
+        int y = MathHelper.floor(y0);
+        int z = MathHelper.floor(z0);
+        int endX = MathHelper.floor(x1);
+        int endY = MathHelper.floor(y1);
+        int endZ = MathHelper.floor(z1);
+
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        double dz = z1 - z0;
+
+        int stepX = dx > 0 ? 1 : (dx < 0 ? -1 : 0);
+        int stepY = dy > 0 ? 1 : (dy < 0 ? -1 : 0);
+        int stepZ = dz > 0 ? 1 : (dz < 0 ? -1 : 0);
+
+        // Segment parameter per block step along each axis, and to the first boundary
+        double tDeltaX = stepX != 0 ? 1.0 / Math.abs(dx) : Double.POSITIVE_INFINITY;
+        double tDeltaY = stepY != 0 ? 1.0 / Math.abs(dy) : Double.POSITIVE_INFINITY;
+        double tDeltaZ = stepZ != 0 ? 1.0 / Math.abs(dz) : Double.POSITIVE_INFINITY;
+        double tMaxX = stepX != 0 ? (stepX > 0 ? x + 1 - x0 : x0 - x) * tDeltaX : Double.POSITIVE_INFINITY;
+        double tMaxY = stepY != 0 ? (stepY > 0 ? y + 1 - y0 : y0 - y) * tDeltaY : Double.POSITIVE_INFINITY;
+        double tMaxZ = stepZ != 0 ? (stepZ > 0 ? z + 1 - z0 : z0 - z) * tDeltaZ : Double.POSITIVE_INFINITY;
+
+        double t = 0.0;
+        lastOpenX = x;
+        lastOpenY = y;
+        lastOpenZ = z;
+
+        int maxSteps = Math.abs(endX - x) + Math.abs(endY - y) + Math.abs(endZ - z) + 1;
+        for (int step = 0; step < maxSteps; step++) {
+            int result = check(world, x, y, z);
+            if (result != MISS) {
+                hitT = t;
+                return result;
+            }
+
+            lastOpenX = x;
+            lastOpenY = y;
+            lastOpenZ = z;
+
+            if (tMaxX < tMaxY && tMaxX < tMaxZ) {
+                t = tMaxX;
+                x += stepX;
+                tMaxX += tDeltaX;
+            } else if (tMaxY < tMaxZ) {
+                t = tMaxY;
+                y += stepY;
+                tMaxY += tDeltaY;
+            } else {
+                t = tMaxZ;
+                z += stepZ;
+                tMaxZ += tDeltaZ;
+            }
+
+            if (t > 1.0) {
+                break;
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * Gets the last block the walk passed through without hitting anything,
+     * which is where an impact should take effect.
+     */
+    public BlockPos.Mutable getLastOpen(BlockPos.Mutable out) {
+        return out.set(lastOpenX, lastOpenY, lastOpenZ);
+    }
+
+    private int check(ServerWorld world, int x, int y, int z) {
+        if (world.isOutOfHeightLimit(y)) {
+            return MISS;
+        }
+
+        long sectionKey = ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4);
+        if (sectionKey != cachedSectionKey) {
+            WorldChunk chunk = world.getChunkManager().getWorldChunk(x >> 4, z >> 4);
+            if (chunk == null) {
+                return UNLOADED;
+            }
+            cachedSection = chunk.getSection(world.getSectionIndex(y));
+            cachedSectionKey = sectionKey;
+        }
+
+        ChunkSection section = cachedSection;
+        if (section == null || section.isEmpty()) {
+            return MISS;
+        }
+
+        BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+        if (state.isAir()) {
+            return MISS;
+        }
+        return state.getCollisionShape(world, cursor.set(x, y, z)).isEmpty() ? MISS : HIT;
+    }
+}
@@ -0,0 +1,34 @@
+package net.IneiTsuki.regen.magic.ward;
+
+/**
+ * How a spawn ward changes natural hostile spawning inside it.
+ */
+public enum SpawnModifier {
+    /** LIGHT ward: no hostile mob spawns naturally. */
+    SUPPRESS("light"),
+
+    /** DARK ward: every block counts as dark enough for hostile mobs to spawn. */
+    BOOST("dark");
+
+    private final String name;
+
+    SpawnModifier(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets a modifier by name, or null if there is none.
+     */
+    public static SpawnModifier byName(String name) {
+        for (SpawnModifier modifier : values()) {
+            if (modifier.name.equals(name)) {
+                return modifier;
+            }
+        }
+        return null;
+    }
+}
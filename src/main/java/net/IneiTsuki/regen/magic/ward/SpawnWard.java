@@ -0,0 +1,62 @@
+package net.IneiTsuki.regen.magic.ward;
+
+import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
+import net.minecraft.nbt.NbtCompound;
+
+import java.util.Objects;
+
+/**
+ * An admin-defined area that changes natural hostile spawning. Spawn wards cover
+ * whole block columns, from the bottom of the world to the top, and do not
+ * protect blocks from spells.
+ *
+ * @param name     unique name of the spawn ward within its world
+ * @param minX     west edge, inclusive
+ * @param minZ     north edge, inclusive
+ * @param maxX     east edge, inclusive
+ * @param maxZ     south edge, inclusive
+ * @param modifier what the ward does to spawning
+ */
+public record SpawnWard(String name, int minX, int minZ, int maxX, int maxZ, SpawnModifier modifier) {
+
+    public SpawnWard {
+        Objects.requireNonNull(name, "Spawn ward name cannot be null");
+        Objects.requireNonNull(modifier, "Spawn modifier cannot be null");
+
+        if (minX > maxX || minZ > maxZ) {
+            throw new IllegalArgumentException("Spawn ward bounds must not be inverted");
+        }
+    }
+
+    /**
+     * Gets the number of chunks the spawn ward covers, which is what it costs in the
+     * {@link SpawnWardIndex}. Limited to {@link MagicConstants#MAX_SPAWN_WARD_CHUNKS}.
+     */
+    public long getChunkCount() {
+        return (long) ((maxX >> 4) - (minX >> 4) + 1) * ((maxZ >> 4) - (minZ >> 4) + 1);
+    }
+
+    public boolean isTooLarge() {
+        return getChunkCount() > MagicConstants.MAX_SPAWN_WARD_CHUNKS;
+    }
+
+    NbtCompound toNbt() {
+        NbtCompound nbt = new NbtCompound();
+        nbt.putString("name", name);
+        nbt.putIntArray("area", new int[]{minX, minZ, maxX, maxZ});
+        nbt.putString("modifier", modifier.getName());
+        return nbt;
+    }
+
+    static SpawnWard fromNbt(NbtCompound nbt) {
+        int[] area = nbt.getIntArray("area");
+        if (area.length != 4) {
+            throw new IllegalArgumentException("Spawn ward area must have 4 coordinates");
+        }
+        SpawnModifier modifier = SpawnModifier.byName(nbt.getString("modifier"));
+        if (modifier == null) {
+            throw new IllegalArgumentException("Unknown spawn modifier: " + nbt.getString("modifier"));
+        }
+        return new SpawnWard(nbt.getString("name"), area[0], area[1], area[2], area[3], modifier);
+    }
+}
@@ -0,0 +1,134 @@
+package net.IneiTsuki.regen.magic.ward;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Spawn wards rasterized into per-chunk column bitmaps.
+ *
+ * <p>Natural spawning asks for the modifier of every spawn attempt, thousands of
+ * times per second, so a lookup must cost the same however many wards exist.
+ * Every chunk touched by a spawn ward holds 256 bits per modifier, one per
+ * block column; chunks covered entirely share one constant array. Before any
+ * map is probed, a position is tested against the bounding box of all spawn
+ * wards, so attempts away from every ward cost four comparisons.
+ *
+ * <p>Like {@link WardIndex}, the index is rebuilt from scratch when spawn wards
+ * change and is never modified afterwards.
+ */
+public final class SpawnWardIndex {
+
+    public static final SpawnWardIndex EMPTY = new SpawnWardIndex();
+
+    private static final int CHUNK_LONGS = 256 / 64;
+
+    /** Shared bitmap of a fully covered chunk. Never written. */
+    private static final long[] FULL = filledChunk();
+
+    private final Long2ObjectOpenHashMap<long[]> suppress = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<long[]> boost = new Long2ObjectOpenHashMap<>();
+
+    // Bounding box of every spawn ward; empty while minX > maxX
+    private int minX = Integer.MAX_VALUE;
+    private int minZ = Integer.MAX_VALUE;
+    private int maxX = Integer.MIN_VALUE;
+    private int maxZ = Integer.MIN_VALUE;
+
+    SpawnWardIndex() {
+    }
+
+    /**
+     * Gets the spawn modifier of a block column. Suppression wins where a LIGHT and a
+     * DARK ward overlap.
+     *
+     * @return the modifier, or null if no spawn ward covers the column
+     */
+    @Nullable
+    public SpawnModifier getModifier(int x, int z) {
+        if (x < minX || x > maxX || z < minZ || z > maxZ) {
+            return null;
+        }
+
+        long key = ChunkPos.toLong(x >> 4, z >> 4);
+        int index = ((z & 15) << 4) | (x & 15);
+        if (test(suppress.get(key), index)) {
+            return SpawnModifier.SUPPRESS;
+        }
+        if (test(boost.get(key), index)) {
+            return SpawnModifier.BOOST;
+        }
+        return null;
+    }
+
+    public boolean isEmpty() {
+        return minX > maxX;
+    }
+
+    /**
+     * Gets the number of chunks holding spawn wards.
+     */
+    public int getChunkCount() {
+        int count = suppress.size();
+        for (long key : boost.keySet()) {
+            if (!suppress.containsKey(key)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    void add(SpawnWard ward) {
+        minX = Math.min(minX, ward.minX());
+        minZ = Math.min(minZ, ward.minZ());
+        maxX = Math.max(maxX, ward.maxX());
+        maxZ = Math.max(maxZ, ward.maxZ());
+
+        Long2ObjectOpenHashMap<long[]> chunks = ward.modifier() == SpawnModifier.SUPPRESS ? suppress : boost;
+        for (int cx = ward.minX() >> 4; cx <= ward.maxX() >> 4; cx++) {
+            for (int cz = ward.minZ() >> 4; cz <= ward.maxZ() >> 4; cz++) {
+                fillChunk(chunks, cx, cz, ward);
+            }
+        }
+    }
+
+    private static boolean test(@Nullable long[] bits, int index) {
+        return bits != null && (bits == FULL || (bits[index >>> 6] & (1L << index)) != 0);
+    }
+
+    private static void fillChunk(Long2ObjectOpenHashMap<long[]> chunks, int cx, int cz, SpawnWard ward) {
+        long key = ChunkPos.toLong(cx, cz);
+        long[] bits = chunks.get(key);
+        if (bits == FULL) {
+            return;
+        }
+
+        // Part of the ward inside this chunk, in chunk-local coordinates
+        int x0 = Math.max(ward.minX(), cx << 4) & 15, x1 = Math.min(ward.maxX(), (cx << 4) + 15) & 15;
+        int z0 = Math.max(ward.minZ(), cz << 4) & 15, z1 = Math.min(ward.maxZ(), (cz << 4) + 15) & 15;
+
+        if (x0 == 0 && z0 == 0 && x1 == 15 && z1 == 15) {
+            chunks.put(key, FULL);
+            return;
+        }
+
+        if (bits == null) {
+            bits = new long[CHUNK_LONGS];
+            chunks.put(key, bits);
+        }
+        for (int z = z0; z <= z1; z++) {
+            for (int x = x0; x <= x1; x++) {
+                int index = (z << 4) | x;
+                bits[index >>> 6] |= 1L << index;
+            }
+        }
+    }
+
+    private static long[] filledChunk() {
+        long[] bits = new long[CHUNK_LONGS];
+        Arrays.fill(bits, -1L);
+        return bits;
+    }
+}
@@ -0,0 +1,86 @@
+package net.IneiTsuki.regen.magic.ward;
+
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Entry point for ward checks.
+ *
+ * <p>Spells may not change warded blocks or hurt, burn or push entities standing
+ * in them, and may not be cast from no-magic regions. The checks run for every
+ * block a spell touches, so each is a constant-cost lookup in the world's
+ * {@link WardIndex}. Spawn wards change natural hostile spawning the same way,
+ * through the world's {@link SpawnWardIndex}. Wards only exist on the server;
+ * on the client nothing is warded.
+ *
+ * <p>All methods must be called on the server thread.
+ */
+public final class SpellWards {
+
+    private static final Map<World, WardState> STATES = new IdentityHashMap<>();
+
+    private SpellWards() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Gets the saved wards of a world, loading them on first use.
+     */
+    public static WardState getState(ServerWorld world) {
+        WardState state = STATES.get(world);
+        if (state == null) {
+            state = world.getPersistentStateManager().getOrCreate(WardState.TYPE, WardState.ID);
+            STATES.put(world, state);
+        }
+        return state;
+    }
+
+    /**
+     * Checks if spells may not affect the block at a position.
+     */
+    public static boolean isWarded(World world, BlockPos pos) {
+        return world instanceof ServerWorld serverWorld
+                && getState(serverWorld).getIndex().isWarded(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Checks if spells may not change any block in a box, bounds inclusive.
+     */
+    public static boolean isAnyWarded(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        return world instanceof ServerWorld serverWorld
+                && getState(serverWorld).getIndex().isAnyWarded(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    /**
+     * Checks if spells may not be cast from a position.
+     */
+    public static boolean isNoMagic(World world, BlockPos pos) {
+        return world instanceof ServerWorld serverWorld
+                && getState(serverWorld).getIndex().isNoMagic(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Gets the spawn modifier of a block column, for natural spawning. Called for
+     * every spawn attempt, so it only does constant-cost lookups.
+     *
+     * @return the modifier, or null if no spawn ward covers the column
+     */
+    @Nullable
+    public static SpawnModifier getSpawnModifier(ServerWorld world, int x, int z) {
+        SpawnWardIndex index = getState(world).getSpawnIndex();
+        return index.isEmpty() ? null : index.getModifier(x, z);
+    }
+
+    /**
+     * Forgets the cached states, for example when the server stops. The states
+     * themselves are saved with their worlds.
+     */
+    public static void clear() {
+        STATES.clear();
+    }
+}
@@ -0,0 +1,176 @@
+package net.IneiTsuki.regen.magic.ward;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkSectionPos;
+
+import java.util.Arrays;
+
+/**
+ * Ward regions rasterized into per-section bitsets.
+ *
+ * <p>Every chunk section touched by a ward holds 4096 bits, one per block, in
+ * 64 longs. Sections covered entirely share one constant array, so large admin
+ * regions such as spawn cost one map entry per section and no bitset memory.
+ * A lookup is one hash map probe and one bit test, however many wards exist.
+ *
+ * <p>The index is rebuilt from scratch when wards change, which is rare, and is
+ * never modified afterwards.
+ */
+public final class WardIndex {
+
+    public static final WardIndex EMPTY = new WardIndex();
+
+    private static final int SECTION_LONGS = 4096 / 64;
+
+    /** Shared bitset of a fully warded section. Never written. */
+    private static final long[] FULL = filledSection();
+
+    private final Long2ObjectOpenHashMap<long[]> warded = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<long[]> noMagic = new Long2ObjectOpenHashMap<>();
+
+    WardIndex() {
+    }
+
+    /**
+     * Checks if spells may not change the block or hurt entities standing in it.
+     */
+    public boolean isWarded(int x, int y, int z) {
+        return test(warded, x, y, z);
+    }
+
+    /**
+     * Checks if spells may not be cast from the block.
+     */
+    public boolean isNoMagic(int x, int y, int z) {
+        return test(noMagic, x, y, z);
+    }
+
+    /**
+     * Checks if spells may not change any block in a box, bounds inclusive.
+     * Only sections holding wards are tested block by block.
+     */
+    public boolean isAnyWarded(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        if (warded.isEmpty()) {
+            return false;
+        }
+        for (int sx = minX >> 4; sx <= maxX >> 4; sx++) {
+            for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+                for (int sz = minZ >> 4; sz <= maxZ >> 4; sz++) {
+                    long[] bits = warded.get(ChunkSectionPos.asLong(sx, sy, sz));
+                    if (bits != null && (bits == FULL || anySet(bits, sx, sy, sz, minX, minY, minZ, maxX, maxY, maxZ))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return warded.isEmpty();
+    }
+
+    /**
+     * Gets the number of sections holding wards.
+     */
+    public int getSectionCount() {
+        return warded.size();
+    }
+
+    /**
+     * Marks a box as warded, bounds inclusive.
+     *
+     * @param noMagic also forbid casting inside the box
+     */
+    void addBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, boolean noMagic) {
+        fill(warded, minX, minY, minZ, maxX, maxY, maxZ);
+        if (noMagic) {
+            fill(this.noMagic, minX, minY, minZ, maxX, maxY, maxZ);
+        }
+    }
+
+    private static boolean test(Long2ObjectOpenHashMap<long[]> sections, int x, int y, int z) {
+        long[] bits = sections.get(ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4));
+        if (bits == null) {
+            return false;
+        }
+        if (bits == FULL) {
+            return true;
+        }
+        int index = bitIndex(x & 15, y & 15, z & 15);
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void fill(Long2ObjectOpenHashMap<long[]> sections,
+                             int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        for (int sx = minX >> 4; sx <= maxX >> 4; sx++) {
+            for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+                for (int sz = minZ >> 4; sz <= maxZ >> 4; sz++) {
+                    fillSection(sections, sx, sy, sz, minX, minY, minZ, maxX, maxY, maxZ);
+                }
+            }
+        }
+    }
+
+    private static void fillSection(Long2ObjectOpenHashMap<long[]> sections, int sx, int sy, int sz,
+                                    int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        long key = ChunkSectionPos.asLong(sx, sy, sz);
+        long[] bits = sections.get(key);
+        if (bits == FULL) {
+            return;
+        }
+
+        // Part of the box inside this section, in section-local coordinates
+        int x0 = Math.max(minX, sx << 4) & 15, x1 = Math.min(maxX, (sx << 4) + 15) & 15;
+        int y0 = Math.max(minY, sy << 4) & 15, y1 = Math.min(maxY, (sy << 4) + 15) & 15;
+        int z0 = Math.max(minZ, sz << 4) & 15, z1 = Math.min(maxZ, (sz << 4) + 15) & 15;
+
+        if (x0 == 0 && y0 == 0 && z0 == 0 && x1 == 15 && y1 == 15 && z1 == 15) {
+            sections.put(key, FULL);
+            return;
+        }
+
+        if (bits == null) {
+            bits = new long[SECTION_LONGS];
+            sections.put(key, bits);
+        }
+        for (int y = y0; y <= y1; y++) {
+            for (int z = z0; z <= z1; z++) {
+                for (int x = x0; x <= x1; x++) {
+                    int index = bitIndex(x, y, z);
+                    bits[index >>> 6] |= 1L << index;
+                }
+            }
+        }
+    }
+
+    private static boolean anySet(long[] bits, int sx, int sy, int sz,
+                                  int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        int x0 = Math.max(minX, sx << 4) & 15, x1 = Math.min(maxX, (sx << 4) + 15) & 15;
+        int y0 = Math.max(minY, sy << 4) & 15, y1 = Math.min(maxY, (sy << 4) + 15) & 15;
+        int z0 = Math.max(minZ, sz << 4) & 15, z1 = Math.min(maxZ, (sz << 4) + 15) & 15;
+
+        for (int y = y0; y <= y1; y++) {
+            for (int z = z0; z <= z1; z++) {
+                for (int x = x0; x <= x1; x++) {
+                    int index = bitIndex(x, y, z);
+                    if ((bits[index >>> 6] & (1L << index)) != 0) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Same layout as chunk section palettes: y, then z, then x. */
+    private static int bitIndex(int x, int y, int z) {
+        return (y << 8) | (z << 4) | x;
+    }
+
+    private static long[] filledSection() {
+        long[] bits = new long[SECTION_LONGS];
+        Arrays.fill(bits, -1L);
+        return bits;
+    }
+}
@@ -0,0 +1,55 @@
+package net.IneiTsuki.regen.magic.ward;
+
+import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.util.math.BlockBox;
+
+import java.util.Objects;
+
+/**
+ * An admin-defined protected box.
+ *
+ * @param name    unique name of the region within its world
+ * @param box     the protected blocks, bounds inclusive
+ * @param noMagic if true, spells cannot be cast from inside the region at all
+ */
+public record WardRegion(String name, BlockBox box, boolean noMagic) {
+
+    public WardRegion {
+        Objects.requireNonNull(name, "Ward name cannot be null");
+        Objects.requireNonNull(box, "Ward box cannot be null");
+    }
+
+    /**
+     * Gets the number of chunk sections the region covers, which is what it costs in
+     * the {@link WardIndex}. Limited to {@link MagicConstants#MAX_WARD_SECTIONS}.
+     */
+    public long getSectionCount() {
+        return (long) ((box.getMaxX() >> 4) - (box.getMinX() >> 4) + 1)
+                * ((box.getMaxY() >> 4) - (box.getMinY() >> 4) + 1)
+                * ((box.getMaxZ() >> 4) - (box.getMinZ() >> 4) + 1);
+    }
+
+    public boolean isTooLarge() {
+        return getSectionCount() > MagicConstants.MAX_WARD_SECTIONS;
+    }
+
+    NbtCompound toNbt() {
+        NbtCompound nbt = new NbtCompound();
+        nbt.putString("name", name);
+        nbt.putIntArray("box", new int[]{box.getMinX(), box.getMinY(), box.getMinZ(),
+                box.getMaxX(), box.getMaxY(), box.getMaxZ()});
+        nbt.putBoolean("no_magic", noMagic);
+        return nbt;
+    }
+
+    static WardRegion fromNbt(NbtCompound nbt) {
+        int[] box = nbt.getIntArray("box");
+        if (box.length != 6) {
+            throw new IllegalArgumentException("Ward box must have 6 coordinates");
+        }
+        return new WardRegion(nbt.getString("name"),
+                new BlockBox(box[0], box[1], box[2], box[3], box[4], box[5]),
+                nbt.getBoolean("no_magic"));
+    }
+}
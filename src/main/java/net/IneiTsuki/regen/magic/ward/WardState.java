@@ -0,0 +1,219 @@
+package net.IneiTsuki.regen.magic.ward;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import net.IneiTsuki.regen.Regen;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.PersistentState;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The wards of one world, saved with it: admin regions by name, the positions
+ * of placed ward stones and spawn wards by name. Lookups go through a
+ * {@link WardIndex} and a {@link SpawnWardIndex} that are rebuilt on the first
+ * lookup after any change.
+ */
+public final class WardState extends PersistentState {
+
+    public static final String ID = "regen_wards";
+
+    public static final Type<WardState> TYPE = new Type<>(WardState::new, WardState::fromNbt, null);
+
+    private final Map<String, WardRegion> regions = new LinkedHashMap<>();
+    private final LongOpenHashSet wardStones = new LongOpenHashSet();
+    private final Map<String, SpawnWard> spawnWards = new LinkedHashMap<>();
+
+    @Nullable
+    private WardIndex index = WardIndex.EMPTY;
+
+    @Nullable
+    private SpawnWardIndex spawnIndex = SpawnWardIndex.EMPTY;
+
+    public WardIndex getIndex() {
+        WardIndex current = index;
+        if (current == null) {
+            current = buildIndex();
+            index = current;
+        }
+        return current;
+    }
+
+    /**
+     * Adds or replaces a region.
+     *
+     * @return the region it replaced, or null
+     */
+    @Nullable
+    public WardRegion putRegion(WardRegion region) {
+        WardRegion previous = regions.put(region.name(), region);
+        changed();
+        return previous;
+    }
+
+    /**
+     * Removes a region by name.
+     *
+     * @return the removed region, or null if there was none
+     */
+    @Nullable
+    public WardRegion removeRegion(String name) {
+        WardRegion removed = regions.remove(name);
+        if (removed != null) {
+            changed();
+        }
+        return removed;
+    }
+
+    public Collection<WardRegion> getRegions() {
+        return Collections.unmodifiableCollection(regions.values());
+    }
+
+    public void addWardStone(BlockPos pos) {
+        if (wardStones.add(pos.asLong())) {
+            changed();
+        }
+    }
+
+    public void removeWardStone(BlockPos pos) {
+        if (wardStones.remove(pos.asLong())) {
+            changed();
+        }
+    }
+
+    public int getWardStoneCount() {
+        return wardStones.size();
+    }
+
+    public SpawnWardIndex getSpawnIndex() {
+        SpawnWardIndex current = spawnIndex;
+        if (current == null) {
+            current = new SpawnWardIndex();
+            for (SpawnWard ward : spawnWards.values()) {
+                // Guards against NBT edited by hand or written with different limits;
+                // rasterizing a larger spawn ward could stall spawning
+                if (ward.isTooLarge()) {
+                    Regen.LOGGER.warn("Ignoring spawn ward '{}': it covers {} chunks, the limit is {}",
+                            ward.name(), ward.getChunkCount(), MagicConstants.MAX_SPAWN_WARD_CHUNKS);
+                    continue;
+                }
+                current.add(ward);
+            }
+            spawnIndex = current;
+        }
+        return current;
+    }
+
+    /**
+     * Adds or replaces a spawn ward.
+     *
+     * @return the spawn ward it replaced, or null
+     */
+    @Nullable
+    public SpawnWard putSpawnWard(SpawnWard ward) {
+        SpawnWard previous = spawnWards.put(ward.name(), ward);
+        spawnWardsChanged();
+        return previous;
+    }
+
+    /**
+     * Removes a spawn ward by name.
+     *
+     * @return the removed spawn ward, or null if there was none
+     */
+    @Nullable
+    public SpawnWard removeSpawnWard(String name) {
+        SpawnWard removed = spawnWards.remove(name);
+        if (removed != null) {
+            spawnWardsChanged();
+        }
+        return removed;
+    }
+
+    public Collection<SpawnWard> getSpawnWards() {
+        return Collections.unmodifiableCollection(spawnWards.values());
+    }
+
+    private void spawnWardsChanged() {
+        spawnIndex = null;
+        markDirty();
+    }
+
+    private void changed() {
+        index = null;
+        markDirty();
+    }
+
+    private WardIndex buildIndex() {
+        WardIndex built = new WardIndex();
+        for (WardRegion region : regions.values()) {
+            // Guards against NBT edited by hand or written with different limits;
+            // rasterizing a larger region could stall the server
+            if (region.isTooLarge()) {
+                Regen.LOGGER.warn("Ignoring ward '{}': it covers {} chunk sections, the limit is {}",
+                        region.name(), region.getSectionCount(), MagicConstants.MAX_WARD_SECTIONS);
+                continue;
+            }
+            BlockBox box = region.box();
+            built.addBox(box.getMinX(), box.getMinY(), box.getMinZ(),
+                    box.getMaxX(), box.getMaxY(), box.getMaxZ(), region.noMagic());
+        }
+
+        int r = MagicConstants.WARD_STONE_RADIUS;
+        for (LongIterator it = wardStones.iterator(); it.hasNext(); ) {
+            long pos = it.nextLong();
+            int x = BlockPos.unpackLongX(pos);
+            int y = BlockPos.unpackLongY(pos);
+            int z = BlockPos.unpackLongZ(pos);
+            built.addBox(x - r, y - r, z - r, x + r, y + r, z + r, false);
+        }
+        return built;
+    }
+
+    @Override
+    public NbtCompound writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        NbtList regionList = new NbtList();
+        for (WardRegion region : regions.values()) {
+            regionList.add(region.toNbt());
+        }
+        nbt.put("regions", regionList);
+        nbt.putLongArray("ward_stones", wardStones.toLongArray());
+
+        NbtList spawnWardList = new NbtList();
+        for (SpawnWard ward : spawnWards.values()) {
+            spawnWardList.add(ward.toNbt());
+        }
+        nbt.put("spawn_wards", spawnWardList);
+        return nbt;
+    }
+
+    private static WardState fromNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        WardState state = new WardState();
+        NbtList regionList = nbt.getList("regions", NbtElement.COMPOUND_TYPE);
+        for (int i = 0; i < regionList.size(); i++) {
+            WardRegion region = WardRegion.fromNbt(regionList.getCompound(i));
+            state.regions.put(region.name(), region);
+        }
+        for (long pos : nbt.getLongArray("ward_stones")) {
+            state.wardStones.add(pos);
+        }
+        NbtList spawnWardList = nbt.getList("spawn_wards", NbtElement.COMPOUND_TYPE);
+        for (int i = 0; i < spawnWardList.size(); i++) {
+            SpawnWard ward = SpawnWard.fromNbt(spawnWardList.getCompound(i));
+            state.spawnWards.put(ward.name(), ward);
+        }
+        state.index = null;
+        state.spawnIndex = null;
+        return state;
+    }
+}
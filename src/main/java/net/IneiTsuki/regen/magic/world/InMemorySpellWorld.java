@@ -0,0 +1,188 @@
+package net.IneiTsuki.regen.magic.world;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.damage.DamageType;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.world.BlockView;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Array-backed {@link SpellWorld} covering a fixed box of blocks, for benchmarks
+ * and tests that run without a server.
+ *
+ * <p>Blocks outside the box read as air and cannot be changed. It also acts as a
+ * {@link BlockView}, so vanilla block state queries such as
+ * {@link BlockState#isSolidBlock} work against it. Entities are whatever was added
+ * with {@link #addEntity}; entity effects are only counted. Needs vanilla
+ * registries to be bootstrapped, but no world or server.
+ */
+public class InMemorySpellWorld implements SpellWorld, BlockView {
+
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final BlockState[] blocks;
+    private final List<LivingEntity> entities = new ArrayList<>();
+
+    private long blockWrites = 0;
+    private long damageEvents = 0;
+    private long entityEffects = 0;
+
+    /**
+     * Creates a world filled with air.
+     *
+     * @param min   lowest corner of the box
+     * @param sizeX width along x
+     * @param sizeY height along y
+     * @param sizeZ depth along z
+     */
+    public InMemorySpellWorld(BlockPos min, int sizeX, int sizeY, int sizeZ) {
+        if (sizeX <= 0 || sizeY <= 0 || sizeZ <= 0) {
+            throw new IllegalArgumentException("World size must be positive");
+        }
+        this.minX = min.getX();
+        this.minY = min.getY();
+        this.minZ = min.getZ();
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.blocks = new BlockState[sizeX * sizeY * sizeZ];
+        Arrays.fill(blocks, Blocks.AIR.getDefaultState());
+    }
+
+    /**
+     * Fills every block with y between the two values, inclusive.
+     */
+    public void fillLayers(int fromY, int toY, BlockState state) {
+        for (int y = Math.max(fromY, minY); y <= Math.min(toY, minY + sizeY - 1); y++) {
+            int start = index(minX, y, minZ);
+            Arrays.fill(blocks, start, start + sizeX * sizeZ, state);
+        }
+    }
+
+    public void addEntity(LivingEntity entity) {
+        entities.add(entity);
+    }
+
+    public long getBlockWrites() {
+        return blockWrites;
+    }
+
+    public long getDamageEvents() {
+        return damageEvents;
+    }
+
+    public long getEntityEffects() {
+        return entityEffects;
+    }
+
+    private boolean contains(int x, int y, int z) {
+        return x >= minX && x < minX + sizeX
+                && y >= minY && y < minY + sizeY
+                && z >= minZ && z < minZ + sizeZ;
+    }
+
+    // y-major so whole layers are contiguous
+    private int index(int x, int y, int z) {
+        return ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX);
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        int x = pos.getX(), y = pos.getY(), z = pos.getZ();
+        return contains(x, y, z) ? blocks[index(x, y, z)] : Blocks.AIR.getDefaultState();
+    }
+
+    @Override
+    public boolean setBlockState(BlockPos pos, BlockState state) {
+        int x = pos.getX(), y = pos.getY(), z = pos.getZ();
+        if (!contains(x, y, z)) return false;
+
+        int i = index(x, y, z);
+        if (blocks[i] == state) return false;
+
+        blocks[i] = state;
+        blockWrites++;
+        return true;
+    }
+
+    @Override
+    public boolean isSolidBlock(BlockPos pos) {
+        return getBlockState(pos).isSolidBlock(this, pos);
+    }
+
+    @Override
+    public List<LivingEntity> getLivingEntities(Box box) {
+        List<LivingEntity> result = new ArrayList<>();
+        for (LivingEntity entity : entities) {
+            if (entity.getBoundingBox().intersects(box)) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean damage(LivingEntity entity, RegistryKey<DamageType> type, float amount) {
+        damageEvents++;
+        return amount > 0;
+    }
+
+    @Override
+    public void ignite(Entity entity, int seconds) {
+        entityEffects++;
+    }
+
+    @Override
+    public void extinguish(Entity entity) {
+        entityEffects++;
+    }
+
+    @Override
+    public void addStatusEffect(LivingEntity entity, StatusEffectInstance effect) {
+        entityEffects++;
+    }
+
+    @Override
+    public void push(Entity entity, double dx, double dy, double dz) {
+        entityEffects++;
+    }
+
+    // BlockView
+
+    @Nullable
+    @Override
+    public BlockEntity getBlockEntity(BlockPos pos) {
+        return null;
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return getBlockState(pos).getFluidState();
+    }
+
+    @Override
+    public int getHeight() {
+        return sizeY;
+    }
+
+    @Override
+    public int getBottomY() {
+        return minY;
+    }
+}
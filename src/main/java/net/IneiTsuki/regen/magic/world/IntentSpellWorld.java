@@ -0,0 +1,118 @@
+package net.IneiTsuki.regen.magic.world;
+
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.ward.WardState;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.damage.DamageType;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * {@link SpellWorld} view for one cast that reads the real world but queues every
+ * change in the world's {@link SpellIntentBuffer}, tagged with the cast's element
+ * and strength. Reads do not see queued changes. Created by {@link SpellIntents#forCast}.
+ *
+ * <p>Changes to warded blocks, and to entities standing in them, are refused
+ * here and never reach the buffer. Neutral block changes are cleanup of earlier
+ * spells, such as removing their fire, and are allowed everywhere.
+ *
+ * @param world the real world, used for reads
+ * @param buffer the buffer changes are queued in
+ * @param wards the wards of the world
+ * @param element element of the casting spell, or null for neutral changes
+ * @param strength strength of the casting spell
+ */
+record IntentSpellWorld(SpellWorld world,
+                        SpellIntentBuffer buffer,
+                        WardState wards,
+                        @Nullable MagicEnums.MagicType element,
+                        float strength) implements SpellWorld {
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        return world.getBlockState(pos);
+    }
+
+    /**
+     * Queues the change; the buffer decides at the end of the tick whether it
+     * happens. Refused in warded blocks.
+     *
+     * @return true if the change was queued, even if it is cancelled later
+     */
+    @Override
+    public boolean setBlockState(BlockPos pos, BlockState state) {
+        if (element != null && wards.getIndex().isWarded(pos.getX(), pos.getY(), pos.getZ())) {
+            return false;
+        }
+        buffer.setBlock(pos, state, element, strength);
+        return true;
+    }
+
+    @Override
+    public boolean isAir(BlockPos pos) {
+        return world.isAir(pos);
+    }
+
+    @Override
+    public boolean isSolidBlock(BlockPos pos) {
+        return world.isSolidBlock(pos);
+    }
+
+    @Override
+    public List<LivingEntity> getLivingEntities(Box box) {
+        return world.getLivingEntities(box);
+    }
+
+    /**
+     * Queues the damage. Refused for entities in warded blocks.
+     *
+     * @return true if damage was queued, even if it is cancelled later
+     */
+    @Override
+    public boolean damage(LivingEntity entity, RegistryKey<DamageType> type, float amount) {
+        if (isWarded(entity)) {
+            return false;
+        }
+        buffer.damage(entity, type, amount, element);
+        return amount > 0;
+    }
+
+    @Override
+    public void ignite(Entity entity, int seconds) {
+        if (!isWarded(entity)) {
+            buffer.ignite(entity, seconds, element);
+        }
+    }
+
+    @Override
+    public void extinguish(Entity entity) {
+        if (!isWarded(entity)) {
+            buffer.extinguish(entity, element);
+        }
+    }
+
+    @Override
+    public void addStatusEffect(LivingEntity entity, StatusEffectInstance effect) {
+        if (!isWarded(entity)) {
+            buffer.addStatusEffect(entity, effect, element);
+        }
+    }
+
+    @Override
+    public void push(Entity entity, double dx, double dy, double dz) {
+        if (!isWarded(entity)) {
+            buffer.push(entity, dx, dy, dz, element);
+        }
+    }
+
+    private boolean isWarded(Entity entity) {
+        return wards.getIndex().isWarded(entity.getBlockX(), entity.getBlockY(), entity.getBlockZ());
+    }
+}
@@ -0,0 +1,81 @@
+package net.IneiTsuki.regen.magic.world;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.damage.DamageType;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.world.World;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link SpellWorld} backed by a real Minecraft world.
+ *
+ * @param world the wrapped world
+ */
+public record MinecraftSpellWorld(World world) implements SpellWorld {
+
+    public MinecraftSpellWorld {
+        Objects.requireNonNull(world, "World cannot be null");
+    }
+
+    public static SpellWorld of(World world) {
+        return new MinecraftSpellWorld(world);
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        return world.getBlockState(pos);
+    }
+
+    @Override
+    public boolean setBlockState(BlockPos pos, BlockState state) {
+        return world.setBlockState(pos, state);
+    }
+
+    @Override
+    public boolean isAir(BlockPos pos) {
+        return world.isAir(pos);
+    }
+
+    @Override
+    public boolean isSolidBlock(BlockPos pos) {
+        return world.getBlockState(pos).isSolidBlock(world, pos);
+    }
+
+    @Override
+    public List<LivingEntity> getLivingEntities(Box box) {
+        return world.getNonSpectatingEntities(LivingEntity.class, box);
+    }
+
+    @Override
+    public boolean damage(LivingEntity entity, RegistryKey<DamageType> type, float amount) {
+        return entity.damage(world.getDamageSources().create(type), amount);
+    }
+
+    @Override
+    public void ignite(Entity entity, int seconds) {
+        entity.setOnFireFor(seconds);
+    }
+
+    @Override
+    public void extinguish(Entity entity) {
+        entity.extinguish();
+    }
+
+    @Override
+    public void addStatusEffect(LivingEntity entity, StatusEffectInstance effect) {
+        entity.addStatusEffect(effect);
+    }
+
+    @Override
+    public void push(Entity entity, double dx, double dy, double dz) {
+        entity.addVelocity(dx, dy, dz);
+        entity.velocityModified = true;
+    }
+}
@@ -0,0 +1,93 @@
+package net.IneiTsuki.regen.magic.world;
+
+import net.IneiTsuki.regen.magic.core.constants.MagicConstants;
+import net.IneiTsuki.regen.magic.core.metrics.ModMetrics;
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerChunkManager;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+
+import java.util.Comparator;
+
+/**
+ * Short-lived chunk tickets for spells that know where they will land.
+ *
+ * <p>A spell that resolves in a chunk that is not loaded either stalls the server
+ * thread on a synchronous load or does nothing. Spells whose impact area is known
+ * when casting starts, such as projectiles with a computed path, place tickets
+ * here so the chunk system loads those chunks in the background during the cast
+ * delay. Tickets expire on their own; nothing has to remove them.
+ *
+ * <p>Tickets use radius 0, which makes the chunk fully loaded but neither block
+ * nor entity ticking, so a preloaded path costs little more than the chunk data.
+ */
+public final class SpellChunkTickets {
+
+    /** Long enough for the longest cast delay followed by a full projectile flight. */
+    public static final int EXPIRY_TICKS = MagicConstants.MAX_CASTING_DELAY_TICKS
+            + MagicConstants.PROJECTILE_LIFETIME_TICKS;
+
+    public static final ChunkTicketType<ChunkPos> SPELL_PATH = ChunkTicketType.create(
+            "regen_spell_path", Comparator.comparingLong(ChunkPos::toLong), EXPIRY_TICKS);
+
+    private static final int TICKET_RADIUS = 0;
+
+    private SpellChunkTickets() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Places a ticket on every chunk a horizontal segment passes through, in order,
+     * up to {@link MagicConstants#MAX_PATH_CHUNK_TICKETS} chunks.
+     *
+     * @param world the world to load chunks in
+     * @param x0 segment start x
+     * @param z0 segment start z
+     * @param x1 segment end x
+     * @param z1 segment end z
+     * @return how many tickets were placed
+     */
+    public static int preloadSegment(ServerWorld world, double x0, double z0, double x1, double z1) {
+        ServerChunkManager chunkManager = world.getChunkManager();
+
+        int chunkX = MathHelper.floor(x0) >> 4;
+        int chunkZ = MathHelper.floor(z0) >> 4;
+        int endX = MathHelper.floor(x1) >> 4;
+        int endZ = MathHelper.floor(z1) >> 4;
+
+        // Same 2D grid walk as VoxelTraversal, with 16 block cells
+        double dx = (x1 - x0) / 16.0;
+        double dz = (z1 - z0) / 16.0;
+        int stepX = dx > 0 ? 1 : (dx < 0 ? -1 : 0);
+        int stepZ = dz > 0 ? 1 : (dz < 0 ? -1 : 0);
+        double cellX = x0 / 16.0;
+        double cellZ = z0 / 16.0;
+        double tDeltaX = stepX != 0 ? 1.0 / Math.abs(dx) : Double.POSITIVE_INFINITY;
+        double tDeltaZ = stepZ != 0 ? 1.0 / Math.abs(dz) : Double.POSITIVE_INFINITY;
+        double tMaxX = stepX != 0 ? (stepX > 0 ? chunkX + 1 - cellX : cellX - chunkX) * tDeltaX : Double.POSITIVE_INFINITY;
+        double tMaxZ = stepZ != 0 ? (stepZ > 0 ? chunkZ + 1 - cellZ : cellZ - chunkZ) * tDeltaZ : Double.POSITIVE_INFINITY;
+
+        int maxChunks = Math.min(MagicConstants.MAX_PATH_CHUNK_TICKETS,
+                Math.abs(endX - chunkX) + Math.abs(endZ - chunkZ) + 1);
+        int placed = 0;
+        while (placed < maxChunks) {
+            ChunkPos pos = new ChunkPos(chunkX, chunkZ);
+            chunkManager.addTicket(SPELL_PATH, pos, TICKET_RADIUS, pos);
+            placed++;
+
+            if (tMaxX < tMaxZ) {
+                if (tMaxX > 1.0) break;
+                chunkX += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                if (tMaxZ > 1.0) break;
+                chunkZ += stepZ;
+                tMaxZ += tDeltaZ;
+            }
+        }
+
+        ModMetrics.CHUNK_TICKETS.add(placed);
+        return placed;
+    }
+}
@@ -0,0 +1,312 @@
+package net.IneiTsuki.regen.magic.world;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.core.profiling.BlockMutationCounter;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.damage.DamageType;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Spell intents against one world, collected over a tick and applied together.
+ *
+ * <p>Every intent carries the element of the spell that made it and the spell's
+ * strength. Intents on the same block or entity are resolved with
+ * {@link MagicEnums.MagicType#getInteractionWith}:
+ * <ul>
+ *   <li>Block changes: opposing elements (FIRE against WATER or ICE, and so on)
+ *       cancel each other and the block is left alone for the rest of the tick.
+ *       Otherwise the strongest change wins. Intents without an element, such as
+ *       a spell cleaning up its own blocks, never cancel and lose to any elemental
+ *       change of equal strength.</li>
+ *   <li>Damage: the largest hit is applied once, as vanilla would ignore smaller
+ *       hits within the same tick anyway, unless an opposing element also
+ *       targeted the entity this tick.</li>
+ *   <li>Ignition: the longest burn is applied, unless an opposing element also
+ *       targeted the entity this tick or something put it out.</li>
+ *   <li>Status effects: all are applied in order, unless an opposing element
+ *       also targeted the entity this tick.</li>
+ *   <li>Pushes: added up and applied as one velocity change.</li>
+ * </ul>
+ *
+ * <p>Block changes are reported to {@link BlockMutationCounter} when they are
+ * applied, so cancelled and skipped changes are not counted.
+ *
+ * <p>Intents live in parallel arrays indexed through primitive-keyed maps, and
+ * everything is cleared rather than reallocated after a flush, so a steady
+ * stream of casts allocates nothing once the arrays have grown. Only touched on
+ * the server thread.
+ */
+public class SpellIntentBuffer {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Block intents, one slot per position
+    private final Long2IntOpenHashMap blockIndex = new Long2IntOpenHashMap();
+    private long[] blockPositions = new long[INITIAL_CAPACITY];
+    private BlockState[] blockStates = new BlockState[INITIAL_CAPACITY];
+    private MagicEnums.MagicType[] blockElements = new MagicEnums.MagicType[INITIAL_CAPACITY];
+    private float[] blockStrengths = new float[INITIAL_CAPACITY];
+    private boolean[] blockCancelled = new boolean[INITIAL_CAPACITY];
+    private int blockCount = 0;
+
+    // Entity intents, one slot per entity
+    private final Reference2IntOpenHashMap<Entity> entityIndex = new Reference2IntOpenHashMap<>();
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private MagicEnums.MagicType[] entityElements = new MagicEnums.MagicType[INITIAL_CAPACITY];
+    private float[] damageAmounts = new float[INITIAL_CAPACITY];
+    private RegistryKey<?>[] damageTypes = new RegistryKey<?>[INITIAL_CAPACITY];
+    private int[] igniteSeconds = new int[INITIAL_CAPACITY];
+    private boolean[] extinguished = new boolean[INITIAL_CAPACITY];
+    private boolean[] opposed = new boolean[INITIAL_CAPACITY];
+    private double[] pushes = new double[INITIAL_CAPACITY * 3];
+    private int entityCount = 0;
+
+    // Status effect intents, any number per entity slot
+    private int[] effectSlots = new int[INITIAL_CAPACITY];
+    private StatusEffectInstance[] effects = new StatusEffectInstance[INITIAL_CAPACITY];
+    private int effectCount = 0;
+
+    private int mergedIntents = 0;
+
+    private final BlockPos.Mutable cursor = new BlockPos.Mutable();
+
+    public SpellIntentBuffer() {
+        blockIndex.defaultReturnValue(-1);
+        entityIndex.defaultReturnValue(-1);
+    }
+
+    public boolean isEmpty() {
+        return blockCount == 0 && entityCount == 0;
+    }
+
+    /**
+     * Gets the number of block positions with a queued change.
+     */
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    /**
+     * Queues a block change.
+     *
+     * @param element element of the spell, or null for a neutral change
+     * @param strength spell strength, used to pick between compatible changes
+     */
+    public void setBlock(BlockPos pos, BlockState state, @Nullable MagicEnums.MagicType element, float strength) {
+        long key = pos.asLong();
+        int i = blockIndex.get(key);
+
+        if (i < 0) {
+            i = blockCount++;
+            ensureBlockCapacity(blockCount);
+            blockIndex.put(key, i);
+            blockPositions[i] = key;
+            blockStates[i] = state;
+            blockElements[i] = element;
+            blockStrengths[i] = strength;
+            blockCancelled[i] = false;
+            return;
+        }
+
+        mergedIntents++;
+        if (blockCancelled[i]) {
+            return;
+        }
+        if (opposes(blockElements[i], element)) {
+            blockCancelled[i] = true;
+            return;
+        }
+        if (strength > blockStrengths[i] || (strength == blockStrengths[i] && blockElements[i] == null && element != null)) {
+            blockStates[i] = state;
+            blockElements[i] = element;
+            blockStrengths[i] = strength;
+        }
+    }
+
+    /**
+     * Queues damage to an entity.
+     */
+    public void damage(LivingEntity entity, RegistryKey<DamageType> type, float amount, @Nullable MagicEnums.MagicType element) {
+        int i = entitySlot(entity, element);
+        if (amount > damageAmounts[i]) {
+            damageAmounts[i] = amount;
+            damageTypes[i] = type;
+        }
+    }
+
+    /**
+     * Queues setting an entity on fire.
+     */
+    public void ignite(Entity entity, int seconds, @Nullable MagicEnums.MagicType element) {
+        int i = entitySlot(entity, element);
+        igniteSeconds[i] = Math.max(igniteSeconds[i], seconds);
+    }
+
+    /**
+     * Queues putting out a burning entity. Ignition queued for it this tick is dropped.
+     */
+    public void extinguish(Entity entity, @Nullable MagicEnums.MagicType element) {
+        extinguished[entitySlot(entity, element)] = true;
+    }
+
+    /**
+     * Queues a status effect for an entity.
+     */
+    public void addStatusEffect(LivingEntity entity, StatusEffectInstance effect, @Nullable MagicEnums.MagicType element) {
+        int slot = entitySlot(entity, element);
+        int i = effectCount++;
+        if (i >= effects.length) {
+            effectSlots = Arrays.copyOf(effectSlots, effects.length * 2);
+            effects = Arrays.copyOf(effects, effects.length * 2);
+        }
+        effectSlots[i] = slot;
+        effects[i] = effect;
+    }
+
+    /**
+     * Queues a velocity change for an entity.
+     */
+    public void push(Entity entity, double dx, double dy, double dz, @Nullable MagicEnums.MagicType element) {
+        int i = entitySlot(entity, element);
+        pushes[i * 3] += dx;
+        pushes[i * 3 + 1] += dy;
+        pushes[i * 3 + 2] += dz;
+    }
+
+    /**
+     * Applies every resolved intent to the world and clears the buffer.
+     *
+     * @param world the world the intents were made against
+     * @return the number of intents that were merged or cancelled instead of applied separately
+     */
+    @SuppressWarnings("unchecked")
+    public int flush(SpellWorld world) {
+        BlockPos.Mutable pos = cursor;
+        int changed = 0;
+        for (int i = 0; i < blockCount; i++) {
+            if (blockCancelled[i]) continue;
+
+            pos.set(blockPositions[i]);
+            // Skip writes that would not change anything, they still cost a packet
+            if (world.getBlockState(pos) != blockStates[i] && world.setBlockState(pos, blockStates[i])) {
+                changed++;
+            }
+        }
+        BlockMutationCounter.record(changed);
+
+        for (int i = 0; i < entityCount; i++) {
+            Entity entity = entities[i];
+            if (entity.isRemoved()) continue;
+
+            if (damageAmounts[i] > 0 && !opposed[i] && entity instanceof LivingEntity living) {
+                world.damage(living, (RegistryKey<DamageType>) damageTypes[i], damageAmounts[i]);
+            }
+            if (extinguished[i]) {
+                world.extinguish(entity);
+            } else if (igniteSeconds[i] > 0 && !opposed[i]) {
+                world.ignite(entity, igniteSeconds[i]);
+            }
+            double dx = pushes[i * 3], dy = pushes[i * 3 + 1], dz = pushes[i * 3 + 2];
+            if (dx != 0 || dy != 0 || dz != 0) {
+                world.push(entity, dx, dy, dz);
+            }
+        }
+
+        for (int i = 0; i < effectCount; i++) {
+            int slot = effectSlots[i];
+            if (!opposed[slot] && !entities[slot].isRemoved() && entities[slot] instanceof LivingEntity living) {
+                world.addStatusEffect(living, effects[i]);
+            }
+        }
+
+        int merged = mergedIntents;
+        clear();
+        return merged;
+    }
+
+    /**
+     * Drops every queued intent.
+     */
+    public void clear() {
+        blockIndex.clear();
+        Arrays.fill(blockStates, 0, blockCount, null);
+        Arrays.fill(blockElements, 0, blockCount, null);
+        blockCount = 0;
+
+        entityIndex.clear();
+        Arrays.fill(entities, 0, entityCount, null);
+        Arrays.fill(entityElements, 0, entityCount, null);
+        Arrays.fill(damageTypes, 0, entityCount, null);
+        entityCount = 0;
+
+        Arrays.fill(effects, 0, effectCount, null);
+        effectCount = 0;
+
+        mergedIntents = 0;
+    }
+
+    private int entitySlot(Entity entity, @Nullable MagicEnums.MagicType element) {
+        int i = entityIndex.getInt(entity);
+        if (i < 0) {
+            i = entityCount++;
+            ensureEntityCapacity(entityCount);
+            entityIndex.put(entity, i);
+            entities[i] = entity;
+            entityElements[i] = element;
+            damageAmounts[i] = 0;
+            igniteSeconds[i] = 0;
+            extinguished[i] = false;
+            opposed[i] = false;
+            pushes[i * 3] = 0;
+            pushes[i * 3 + 1] = 0;
+            pushes[i * 3 + 2] = 0;
+            return i;
+        }
+
+        mergedIntents++;
+        if (opposes(entityElements[i], element)) {
+            opposed[i] = true;
+        } else if (entityElements[i] == null) {
+            entityElements[i] = element;
+        }
+        return i;
+    }
+
+    private static boolean opposes(@Nullable MagicEnums.MagicType a, @Nullable MagicEnums.MagicType b) {
+        return a != null && b != null && a.getInteractionWith(b) == MagicEnums.InteractionType.OPPOSE;
+    }
+
+    private void ensureBlockCapacity(int required) {
+        if (required <= blockPositions.length) return;
+
+        int capacity = Math.max(required, blockPositions.length * 2);
+        blockPositions = Arrays.copyOf(blockPositions, capacity);
+        blockStates = Arrays.copyOf(blockStates, capacity);
+        blockElements = Arrays.copyOf(blockElements, capacity);
+        blockStrengths = Arrays.copyOf(blockStrengths, capacity);
+        blockCancelled = Arrays.copyOf(blockCancelled, capacity);
+    }
+
+    private void ensureEntityCapacity(int required) {
+        if (required <= entities.length) return;
+
+        int capacity = Math.max(required, entities.length * 2);
+        entities = Arrays.copyOf(entities, capacity);
+        entityElements = Arrays.copyOf(entityElements, capacity);
+        damageAmounts = Arrays.copyOf(damageAmounts, capacity);
+        damageTypes = Arrays.copyOf(damageTypes, capacity);
+        igniteSeconds = Arrays.copyOf(igniteSeconds, capacity);
+        extinguished = Arrays.copyOf(extinguished, capacity);
+        opposed = Arrays.copyOf(opposed, capacity);
+        pushes = Arrays.copyOf(pushes, capacity * 3);
+    }
+}
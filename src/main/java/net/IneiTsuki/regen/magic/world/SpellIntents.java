@@ -0,0 +1,83 @@
+package net.IneiTsuki.regen.magic.world;
+
+import net.IneiTsuki.regen.magic.api.MagicEnums;
+import net.IneiTsuki.regen.magic.core.metrics.ModMetrics;
+import net.IneiTsuki.regen.magic.ward.SpellWards;
+import net.IneiTsuki.regen.magic.ward.WardState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Entry point for tick-phase spell resolution.
+ *
+ * <p>Effects get their {@link SpellWorld} from {@link #forCast} instead of
+ * writing to the world directly. Their changes collect in one
+ * {@link SpellIntentBuffer} per world and are resolved and applied in a single
+ * pass by {@link #flush}, at the end of the server tick. Changes to warded
+ * blocks and entities are dropped before they are queued, see {@link SpellWards}.
+ */
+public final class SpellIntents {
+
+    private static final Map<World, Entry> BUFFERS = new IdentityHashMap<>();
+
+    private SpellIntents() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Gets the spell world one cast should make its changes through.
+     * On the client, changes go straight to the world.
+     *
+     * @param world the world the spell is cast in
+     * @param element element of the spell, or null for neutral changes such as cleanup
+     * @param strength strength of the spell, see {@link SpellIntentBuffer#setBlock}
+     */
+    public static SpellWorld forCast(World world, @Nullable MagicEnums.MagicType element, float strength) {
+        Objects.requireNonNull(world, "World cannot be null");
+
+        if (!(world instanceof ServerWorld serverWorld)) {
+            return MinecraftSpellWorld.of(world);
+        }
+
+        Entry entry = BUFFERS.computeIfAbsent(world, w -> new Entry(MinecraftSpellWorld.of(w), new SpellIntentBuffer(),
+                SpellWards.getState(serverWorld)));
+        return new IntentSpellWorld(entry.world(), entry.buffer(), entry.wards(), element, strength);
+    }
+
+    /**
+     * Resolves and applies the intents of every world. Called at the end of every server tick.
+     */
+    public static void flush() {
+        for (Entry entry : BUFFERS.values()) {
+            if (!entry.buffer().isEmpty()) {
+                ModMetrics.INTENTS_MERGED.add(entry.buffer().flush(entry.world()));
+            }
+        }
+    }
+
+    /**
+     * Gets the number of block changes queued in all worlds, not yet applied.
+     */
+    public static int getQueuedBlockCount() {
+        int count = 0;
+        for (Entry entry : BUFFERS.values()) {
+            count += entry.buffer().getBlockCount();
+        }
+        return count;
+    }
+
+    /**
+     * Drops all buffers, for example when the server stops.
+     */
+    public static void clear() {
+        BUFFERS.clear();
+    }
+
+    private record Entry(SpellWorld world, SpellIntentBuffer buffer, WardState wards) {
+    }
+}
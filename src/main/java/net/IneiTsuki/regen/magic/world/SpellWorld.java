@@ -0,0 +1,72 @@
+package net.IneiTsuki.regen.magic.world;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.damage.DamageType;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+
+import java.util.List;
+
+/**
+ * The part of a world that spell effects read and change.
+ *
+ * <p>Effects written against this interface instead of {@link net.minecraft.world.World}
+ * can run on the real server through {@link MinecraftSpellWorld}, or on an
+ * {@link InMemorySpellWorld} in benchmarks and tests without a running server.
+ */
+public interface SpellWorld {
+
+    BlockState getBlockState(BlockPos pos);
+
+    /**
+     * Replaces a block, notifying neighbours and clients where applicable.
+     *
+     * @return true if the block was changed
+     */
+    boolean setBlockState(BlockPos pos, BlockState state);
+
+    default boolean isAir(BlockPos pos) {
+        return getBlockState(pos).isAir();
+    }
+
+    /**
+     * Checks if the block at a position is a full solid block, as used for placement support.
+     */
+    boolean isSolidBlock(BlockPos pos);
+
+    /**
+     * Gets every living entity whose bounding box intersects the box.
+     */
+    List<LivingEntity> getLivingEntities(Box box);
+
+    /**
+     * Damages an entity with a damage type of this world.
+     *
+     * @return true if the entity took damage
+     */
+    boolean damage(LivingEntity entity, RegistryKey<DamageType> type, float amount);
+
+    /**
+     * Sets an entity on fire, keeping any longer burn it already has.
+     */
+    void ignite(Entity entity, int seconds);
+
+    /**
+     * Puts out a burning entity.
+     */
+    void extinguish(Entity entity);
+
+    /**
+     * Gives an entity a status effect, as {@link LivingEntity#addStatusEffect} would.
+     */
+    void addStatusEffect(LivingEntity entity, StatusEffectInstance effect);
+
+    /**
+     * Adds to an entity's velocity and makes sure clients see the change.
+     */
+    void push(Entity entity, double dx, double dy, double dz);
+}
@@ -0,0 +1,37 @@
+package net.IneiTsuki.regen.mixin;
+
+import net.IneiTsuki.regen.magic.ward.SpawnModifier;
+import net.IneiTsuki.regen.magic.ward.SpellWards;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.SpawnReason;
+import net.minecraft.entity.mob.HostileEntity;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.Difficulty;
+import net.minecraft.world.ServerWorldAccess;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Makes every block inside DARK spawn wards count as dark enough for natural
+ * hostile spawns. Spawners, reinforcements and other spawn reasons still check
+ * the light level.
+ */
+@Mixin(HostileEntity.class)
+public abstract class HostileEntityMixin {
+
+    @Inject(method = "canSpawnInDark", at = @At("HEAD"), cancellable = true)
+    private static void regen$boostHostileSpawns(EntityType<? extends HostileEntity> type, ServerWorldAccess world,
+                                                 SpawnReason spawnReason, BlockPos pos, Random random,
+                                                 CallbackInfoReturnable<Boolean> cir) {
+        if (spawnReason == SpawnReason.NATURAL
+                && SpellWards.getSpawnModifier(world.toServerWorld(), pos.getX(), pos.getZ()) == SpawnModifier.BOOST) {
+            // The vanilla check without the light level
+            cir.setReturnValue(world.getDifficulty() != Difficulty.PEACEFUL
+                    && MobEntity.canMobSpawn(type, world, spawnReason, pos, random));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package net.IneiTsuki.regen.mixin;
+
+import net.IneiTsuki.regen.magic.growth.GrowableIndex;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Tells the {@link GrowableIndex} about block changes, so it can drop stale sections.
+ */
+@Mixin(ServerWorld.class)
+public abstract class ServerWorldMixin {
+
+    @Inject(method = "onBlockChanged", at = @At("HEAD"))
+    private void regen$onBlockChanged(BlockPos pos, BlockState oldBlock, BlockState newBlock, CallbackInfo ci) {
+        GrowableIndex.onBlockChanged((ServerWorld) (Object) this, pos, oldBlock, newBlock);
+    }
+}
@@ -0,0 +1,40 @@
+package net.IneiTsuki.regen.mixin;
+
+import net.IneiTsuki.regen.magic.core.metrics.ModMetrics;
+import net.IneiTsuki.regen.magic.ward.SpawnModifier;
+import net.IneiTsuki.regen.magic.ward.SpellWards;
+import net.minecraft.entity.SpawnGroup;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.SpawnHelper;
+import net.minecraft.world.biome.SpawnSettings;
+import net.minecraft.world.gen.StructureAccessor;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Refuses natural hostile spawns inside LIGHT spawn wards.
+ */
+@Mixin(SpawnHelper.class)
+public abstract class SpawnHelperMixin {
+
+    @Inject(method = "canSpawn(Lnet/minecraft/server/world/ServerWorld;Lnet/minecraft/entity/SpawnGroup;"
+            + "Lnet/minecraft/world/gen/StructureAccessor;Lnet/minecraft/world/gen/chunk/ChunkGenerator;"
+            + "Lnet/minecraft/world/biome/SpawnSettings$SpawnEntry;Lnet/minecraft/util/math/BlockPos$Mutable;D)Z",
+            at = @At("HEAD"), cancellable = true)
+    private static void regen$suppressHostileSpawns(ServerWorld world, SpawnGroup group,
+                                                    StructureAccessor structureAccessor,
+                                                    ChunkGenerator chunkGenerator,
+                                                    SpawnSettings.SpawnEntry spawnEntry,
+                                                    BlockPos.Mutable pos, double squaredDistance,
+                                                    CallbackInfoReturnable<Boolean> cir) {
+        if (!group.isPeaceful()
+                && SpellWards.getSpawnModifier(world, pos.getX(), pos.getZ()) == SpawnModifier.SUPPRESS) {
+            ModMetrics.SPAWNS_SUPPRESSED.increment();
+            cir.setReturnValue(false);
+        }
+    }
+}